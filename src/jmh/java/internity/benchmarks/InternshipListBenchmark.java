@@ -0,0 +1,100 @@
+package internity.benchmarks;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+/**
+ * Measures mutations, lookups and rendering of the {@link InternshipList} at several list sizes.
+ *
+ * <p>
+ * The list is filled once per trial. The {@code add} and {@code delete} benchmarks undo their own change,
+ * so the list keeps the configured size throughout. Rendered output is discarded.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InternshipListBenchmark {
+    private static final String[] COMPANIES = {"Google", "Meta", "Shopee", "Grab", "Stripe", "Apple"};
+    private static final String[] STATUSES = {"Pending", "Applied", "Interviewing", "Rejected", "Offer"};
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private PrintStream originalOut;
+    private Internship extra;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        InternshipList.clear();
+        for (int i = 0; i < size; i++) {
+            InternshipList.add(createInternship(i));
+        }
+        extra = createInternship(size);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(originalOut);
+        InternshipList.clear();
+    }
+
+    @Benchmark
+    public int addThenDeleteLast() throws InternityException {
+        InternshipList.add(extra);
+        InternshipList.delete(InternshipList.size() - 1);
+        return InternshipList.size();
+    }
+
+    @Benchmark
+    public int deleteMiddleThenAdd() throws InternityException {
+        Internship removed = InternshipList.get(size / 2);
+        InternshipList.delete(size / 2);
+        InternshipList.add(removed);
+        return InternshipList.size();
+    }
+
+    @Benchmark
+    public Internship get() throws InternityException {
+        next = next + 7919 < size ? next + 7919 : (next + 7919) % size;
+        return InternshipList.get(next);
+    }
+
+    @Benchmark
+    public void listAll() throws InternityException {
+        InternshipList.listAll();
+    }
+
+    private static Internship createInternship(int i) {
+        Internship internship = new Internship(COMPANIES[i % COMPANIES.length], "Role " + (i % 500),
+                Date.of(i % 28 + 1, i % 12 + 1, 2025 + i % 5), 1000 + i % 9000);
+        internship.setStatus(STATUSES[i % STATUSES.length]);
+        return internship;
+    }
+}
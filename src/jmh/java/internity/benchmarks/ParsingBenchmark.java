@@ -0,0 +1,75 @@
+package internity.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import internity.cli.ArgumentParser;
+import internity.cli.CommandParser;
+import internity.commands.Command;
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.utils.DateFormatter;
+
+/**
+ * Measures the cost of turning one line of input into a command.
+ *
+ * <p>
+ * The date benchmarks cycle through {@value #DISTINCT_DATES} different dates, which is more than the
+ * date cache holds, so both cache hits and misses are covered. Run with {@code ./gradlew jmh}.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParsingBenchmark {
+    private static final int DISTINCT_DATES = 4096;
+
+    private final CommandParser commandParser = new CommandParser();
+    private String[] dates;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        dates = new String[DISTINCT_DATES];
+        for (int i = 0; i < DISTINCT_DATES; i++) {
+            int day = i % 28 + 1;
+            int month = i / 28 % 12 + 1;
+            int year = 2025 + i / (28 * 12);
+            dates[i] = String.format("%02d-%02d-%04d", day, month, year);
+        }
+    }
+
+    @Benchmark
+    public Command parseInput() throws InternityException {
+        return commandParser.parseInput("add company/Google role/Software Engineer deadline/17-09-2025 pay/5000");
+    }
+
+    @Benchmark
+    public Command parseAddCommandArgs() throws InternityException {
+        return ArgumentParser.parseAddCommandArgs("role/Data Analyst pay/4200 company/Shopee deadline/01-12-2025");
+    }
+
+    @Benchmark
+    public Date parseRepeatedDate() throws InternityException {
+        return DateFormatter.parse("17-09-2025");
+    }
+
+    @Benchmark
+    public Date parseVariedDates() throws InternityException {
+        next = (next + 1) & (DISTINCT_DATES - 1);
+        return DateFormatter.parse(dates[next]);
+    }
+}
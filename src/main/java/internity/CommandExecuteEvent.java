@@ -0,0 +1,28 @@
+package internity;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event covering the execution of one parsed command by the dispatch loop.
+ */
+@Name("internity.CommandExecute")
+@Label("Command Execute")
+@Category({"Internity", "Commands"})
+@Description("Executing one parsed command")
+class CommandExecuteEvent extends Event {
+    @Label("Command")
+    @Description("Type of the command, as shown by the metrics command")
+    String command;
+
+    @Label("Records")
+    @Description("Number of internships in the list after the command")
+    int records;
+
+    @Label("Failed")
+    @Description("Whether the command threw an exception")
+    boolean isFailed;
+}
@@ -1,40 +1,299 @@
 package internity;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Scanner;
 
 import internity.cli.CommandParser;
 import internity.commands.Command;
-import internity.ui.Ui; 
+import internity.commands.CommandMetrics;
+import internity.core.InternityException;
+import internity.core.InternshipList;
+import internity.core.InternshipSnapshot;
+import internity.storage.ColumnarInternshipList;
+import internity.storage.InternshipJournal;
+import internity.storage.MetricsFileWriter;
+import internity.ui.SessionOutput;
+import internity.ui.Ui;
+import internity.utils.AsyncLogHandler;
 
 public class Internity {
+    private static final Path DATA_DIRECTORY = Path.of("data");
+    private static final int BATCH_BUFFER_BYTES = 64 * 1024;
+    private static final String COLUMNAR_OPTION = "--columnar";
+    private static final String METRICS_OPTION = "--metrics";
+    private static final String LOGGER_NAME = "internity";
+    private static final int MAX_PORT = 65535;
+
+    private static boolean isColumnar;
+
     public static void initInternity() {
         Ui.printWelcomeMessage();
         Scanner in = new Scanner(System.in);
         Ui.printGreeting(in.nextLine());
         Ui.printHorizontalLine();
 
+        InternshipJournal journal = openJournal();
         CommandParser commandParser = new CommandParser();
         boolean isExit = false;
 
         while (!isExit && in.hasNextLine()) {
             String input = in.nextLine();
             Ui.printHorizontalLine();
-            try {
-                Command command = commandParser.parseInput(input);
-                command.execute();
-                isExit = command.isExit();
-            } catch (Exception e) {
-                System.out.println(e.getMessage());
-            }
+            isExit = executeLine(commandParser, input);
             Ui.printHorizontalLine();
         }
         in.close();
+        closeJournal(journal);
+    }
+
+    /**
+     * Runs every command from {@code in} without greeting the user or printing separators.
+     * Output is collected in one large buffer and written out whenever the buffer fills up,
+     * instead of being flushed after every line.
+     *
+     * @param in source of commands, one per line
+     */
+    public static void runBatch(BufferedReader in) {
+        PrintStream originalOut = System.out;
+        PrintStream bufferedOut = new PrintStream(new BufferedOutputStream(
+                new FileOutputStream(FileDescriptor.out), BATCH_BUFFER_BYTES), false, Charset.defaultCharset());
+        System.setOut(bufferedOut);
+        InternshipJournal journal = openJournal();
+        try {
+            runScript(in);
+        } catch (IOException e) {
+            System.out.println("Unable to read commands: " + e.getMessage());
+        } finally {
+            closeJournal(journal);
+            bufferedOut.flush();
+            System.setOut(originalOut);
+        }
+    }
+
+    /**
+     * Executes commands line by line until the input ends or an exit command is run.
+     */
+    static void runScript(BufferedReader in) throws IOException {
+        CommandParser commandParser = new CommandParser();
+        boolean isExit = false;
+        String input;
+        while (!isExit && (input = in.readLine()) != null) {
+            if (input.isBlank()) {
+                continue;
+            }
+            isExit = executeLine(commandParser, input);
+        }
+    }
+
+    /**
+     * Parses and executes one line of input, printing the error message if it fails.
+     * The timings are recorded in {@link CommandMetrics} and the execution is reported to Flight Recorder as a
+     * {@link CommandExecuteEvent}.
+     *
+     * @return {@code true} if the executed command ends the program
+     */
+    static boolean executeLine(CommandParser commandParser, String input) {
+        long start = System.nanoTime();
+        Command command;
+        try {
+            command = commandParser.parseInput(input);
+        } catch (Exception e) {
+            CommandMetrics.recordParseFailure();
+            System.out.println(e.getMessage());
+            return false;
+        }
+        long parsed = System.nanoTime();
+        CommandExecuteEvent event = new CommandExecuteEvent();
+        event.begin();
+        boolean isFailed = true;
+        try {
+            command.execute();
+            isFailed = false;
+            return command.isExit();
+        } catch (Exception e) {
+            System.out.println(e.getMessage());
+            return false;
+        } finally {
+            CommandMetrics.record(command, parsed - start, System.nanoTime() - parsed, isFailed);
+            event.end();
+            if (event.shouldCommit()) {
+                event.command = CommandMetrics.nameOf(command);
+                event.records = InternshipList.size();
+                event.isFailed = isFailed;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Restores the saved internships and starts saving every change made during this session.
+     *
+     * @return the opened journal, or {@code null} if the saved data could not be loaded
+     */
+    private static InternshipJournal openJournal() {
+        InternshipJournal journal = new InternshipJournal(DATA_DIRECTORY);
+        try {
+            journal.open();
+        } catch (InternityException e) {
+            System.out.println(e.getMessage());
+            Ui.printHorizontalLine();
+            journal = null;
+        }
+        if (isColumnar) {
+            InternshipSnapshot loaded = InternshipList.snapshot();
+            InternshipList.restore(ColumnarInternshipList.copyOf(loaded.asList()), loaded.getIds(),
+                    InternshipList.getNextId());
+        }
+        return journal;
+    }
+
+    /**
+     * Serves the saved internships to local clients until the process is stopped.
+     *
+     * @param port the TCP port to listen on
+     */
+    public static void runServer(int port) {
+        InternityServer server;
+        try {
+            server = new InternityServer(port);
+        } catch (IOException e) {
+            System.out.println("Unable to listen on port " + port + ": " + e.getMessage());
+            return;
+        }
+        SessionOutput.install(StandardCharsets.UTF_8);
+        // One session must not undo another's change, and the undo history is shared by all of them.
+        InternshipList.setUndoEnabled(false);
+        InternshipJournal journal = openJournal();
+        System.out.println("Internity is serving on port " + server.getPort());
+        System.out.flush();
+        try {
+            server.serve();
+        } finally {
+            server.stop();
+            closeJournal(journal);
+        }
+    }
+
+    private static void closeJournal(InternshipJournal journal) {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (InternityException e) {
+            System.out.println(e.getMessage());
+        }
     }
 
     /**
      * Main entry-point for the java.duke.Internity application.
+     *
+     * <p>Usage:
+     * <ul>
+     *     <li>no arguments - interactive session</li>
+     *     <li>{@code --script FILE} - runs the commands in {@code FILE}</li>
+     *     <li>{@code --batch} - runs the commands read from standard input</li>
+     *     <li>{@code --serve PORT} - serves local clients sending commands over TCP</li>
+     * </ul>
+     * Any of these may be preceded by {@code --columnar} to keep the internships in a
+     * {@link ColumnarInternshipList} instead of one object per internship, and by {@code --metrics FILE}
+     * to write the command metrics to {@code FILE} in the Prometheus text format every few seconds.
+     * </p>
+     *
+     * <p>Log records of the {@code internity} loggers are written by a background thread, so logging does
+     * not hold up commands.</p>
      */
     public static void main(String[] args) {
-        initInternity();
+        AsyncLogHandler logHandler = AsyncLogHandler.install(LOGGER_NAME);
+        try {
+            launch(args);
+        } finally {
+            logHandler.close();
+        }
+    }
+
+    private static void launch(String[] args) {
+        if (args.length > 0 && args[0].equals(COLUMNAR_OPTION)) {
+            isColumnar = true;
+            args = Arrays.copyOfRange(args, 1, args.length);
+        }
+        if (args.length > 0 && args[0].equals(METRICS_OPTION)) {
+            if (args.length < 2) {
+                Ui.printLaunchUsage();
+                return;
+            }
+            MetricsFileWriter metricsWriter = new MetricsFileWriter(Path.of(args[1]));
+            metricsWriter.start();
+            try {
+                run(Arrays.copyOfRange(args, 2, args.length));
+            } finally {
+                metricsWriter.stop();
+            }
+            return;
+        }
+        run(args);
+    }
+
+    private static void run(String[] args) {
+        if (args.length == 0) {
+            initInternity();
+            return;
+        }
+        switch (args[0]) {
+        case "--script":
+            if (args.length != 2) {
+                Ui.printLaunchUsage();
+                return;
+            }
+            try (BufferedReader script = Files.newBufferedReader(Path.of(args[1]), Charset.defaultCharset())) {
+                runBatch(script);
+            } catch (IOException e) {
+                System.out.println("Unable to read script " + args[1] + ": " + e.getMessage());
+            }
+            break;
+        case "--serve":
+            if (args.length != 2) {
+                Ui.printLaunchUsage();
+                return;
+            }
+            int port = parsePort(args[1]);
+            if (port < 0) {
+                Ui.printLaunchUsage();
+                return;
+            }
+            runServer(port);
+            break;
+        case "--batch":
+            runBatch(new BufferedReader(new InputStreamReader(System.in, Charset.defaultCharset()),
+                    BATCH_BUFFER_BYTES));
+            break;
+        default:
+            Ui.printLaunchUsage();
+            break;
+        }
+    }
+
+    /**
+     * Returns the TCP port given on the command line, or {@code -1} if it is not a number from 0 to
+     * {@value #MAX_PORT}. Port 0 lets the system choose a free port.
+     */
+    static int parsePort(String text) {
+        try {
+            int port = Integer.parseInt(text);
+            return port >= 0 && port <= MAX_PORT ? port : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
     }
 }
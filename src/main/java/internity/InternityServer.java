@@ -0,0 +1,138 @@
+package internity;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import internity.cli.CommandParser;
+import internity.ui.SessionOutput;
+
+/**
+ * Serves the shared internship list to clients connecting over TCP on the loopback interface.
+ *
+ * <p>
+ * Each client sends one command per line, in UTF-8, and receives the output of each command as soon as it
+ * finishes. Every client runs in its own session thread from a cached pool, so a slow client never holds up
+ * the others. The sessions share the thread-safe {@link internity.core.InternshipList}: lookups run in
+ * parallel and changes are applied one at a time. {@code exit} ends the client's session only.
+ * </p>
+ */
+public class InternityServer {
+    private static final Logger logger = Logger.getLogger(InternityServer.class.getName());
+    private static final int SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService sessions = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "internity-session");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Set<Socket> clients = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Binds a server to {@code port} on the loopback interface.
+     *
+     * @param port the port to listen on, or {@code 0} for any free port
+     * @throws IOException if the port cannot be bound
+     */
+    public InternityServer(int port) throws IOException {
+        serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+    }
+
+    /**
+     * Returns the port the server is listening on.
+     *
+     * @return the local port
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Accepts clients until {@link #stop()} is called.
+     * {@code System.out} must be routed through {@link SessionOutput} before the first client connects.
+     */
+    public void serve() {
+        logger.info(() -> "Listening on port " + getPort());
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket client = serverSocket.accept();
+                clients.add(client);
+                sessions.execute(() -> runSession(client));
+            } catch (SocketException e) {
+                logger.fine("Server socket closed");
+            } catch (IOException e) {
+                logger.warning("Failed to accept client: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Stops accepting clients, disconnects the connected ones and waits briefly for their sessions to end.
+     */
+    public void stop() {
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            logger.warning("Failed to close server socket: " + e.getMessage());
+        }
+        for (Socket client : clients) {
+            closeQuietly(client);
+        }
+        sessions.shutdown();
+        try {
+            sessions.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runSession(Socket client) {
+        try (client;
+                BufferedReader in = new BufferedReader(
+                        new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+                OutputStream out = new BufferedOutputStream(client.getOutputStream())) {
+            SessionOutput.setForCurrentThread(out);
+            CommandParser commandParser = new CommandParser();
+            boolean isExit = false;
+            String input;
+            while (!isExit && (input = in.readLine()) != null) {
+                if (input.isBlank()) {
+                    continue;
+                }
+                isExit = Internity.executeLine(commandParser, input);
+                System.out.flush();
+                // The session's stream swallows write errors, which mean the client has gone.
+                if (System.out.checkError()) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            logger.fine(() -> "Session ended: " + e.getMessage());
+        } finally {
+            SessionOutput.clearForCurrentThread();
+            clients.remove(client);
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            logger.fine(() -> "Failed to close client: " + e.getMessage());
+        }
+    }
+}
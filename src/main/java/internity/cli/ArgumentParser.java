@@ -1,52 +1,96 @@
 package internity.cli;
 
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.Locale;
+
 import internity.commands.AddCommand;
+import internity.commands.Command;
 import internity.commands.DeleteCommand;
+import internity.commands.DeleteWhereCommand;
+import internity.commands.DueCommand;
+import internity.commands.ExportCommand;
+import internity.commands.FindCommand;
+import internity.commands.ImportCommand;
 import internity.commands.ListCommand;
+import internity.commands.MetricsCommand;
+import internity.commands.QueryCommand;
+import internity.commands.RedoCommand;
+import internity.commands.SearchCommand;
+import internity.commands.StatsCommand;
+import internity.commands.UndoCommand;
 import internity.commands.UpdateCommand;
+import internity.commands.UpdateWhereCommand;
 import internity.core.Date;
+import internity.core.FilterQuery;
 import internity.core.InternityException;
+import internity.core.SearchQuery;
+import internity.storage.InternshipExporter;
 import internity.utils.DateFormatter;
 
 public final class ArgumentParser {
+    private static final String COMPANY_PREFIX = "company/";
+    private static final String ROLE_PREFIX = "role/";
+    private static final String DEADLINE_PREFIX = "deadline/";
+    private static final String PAY_PREFIX = "pay/";
+    private static final String STATUS_PREFIX = "status/";
+    private static final char ID_MARKER = '#';
+    private static final String WHERE_KEYWORD = "where";
+    private static final String SET_KEYWORD = "set";
+
     private ArgumentParser() {
     } // prevent instantiation
 
+    /**
+     * Parses the arguments of the {@code add} command:
+     * {@code company/COMPANY_NAME role/ROLE_NAME deadline/DEADLINE pay/PAY_AMOUNT}, with the fields in any order.
+     *
+     * @param args the text after the command word
+     * @return a command that adds the described internship
+     * @throws InternityException naming the first field that is missing, repeated or invalid
+     */
     public static AddCommand parseAddCommandArgs(String args) throws InternityException {
         if (args == null || args.isBlank()) {
             throw InternityException.invalidAddCommand();
         }
 
-        try {
-            String[] parts = args.split("\\s+(?=company/|role/|deadline/|pay/)");
-
-            if (parts.length != 4 ||
-                    !parts[0].startsWith("company/") ||
-                    !parts[1].startsWith("role/") ||
-                    !parts[2].startsWith("deadline/") ||
-                    !parts[3].startsWith("pay/")) {
-                throw InternityException.invalidAddCommand();
-            }
-
-            String company = parts[0].substring("company/".length()).trim();
-            String role = parts[1].substring("role/".length()).trim();
-            Date deadline = DateFormatter.parse(parts[2].substring("deadline/".length()).trim());
-            int pay = Integer.parseInt(parts[3].substring("pay/".length()).trim());
-            if (company.isEmpty() || role.isEmpty() || pay < 0) {
-                throw InternityException.invalidAddCommand();
-            }
-            return new AddCommand(company, role, deadline, pay);
-        } catch (Exception e) {
-            throw InternityException.invalidAddCommand();
+        PrefixedArguments fields = PrefixedArguments.tokenize(args, InternityException::invalidAddField,
+                COMPANY_PREFIX, ROLE_PREFIX, DEADLINE_PREFIX, PAY_PREFIX);
+        if (!fields.getPreamble().isEmpty()) {
+            throw InternityException.invalidAddField("unexpected text \"" + fields.getPreamble() + "\"");
         }
+        String company = fields.require(COMPANY_PREFIX);
+        String role = fields.require(ROLE_PREFIX);
+        Date deadline = DateFormatter.parse(fields.require(DEADLINE_PREFIX));
+        int pay = parsePay(fields.require(PAY_PREFIX));
+        return new AddCommand(company, role, deadline, pay);
     }
 
-    public static DeleteCommand parseDeleteCommandArgs(String args) throws InternityException {
+    /**
+     * Parses the arguments of the {@code delete} command: a one-based {@code INDEX}, {@code #ID}, or
+     * {@code where CONDITION...} to delete every matching internship.
+     *
+     * @param args the text after the command word
+     * @return a command that deletes the given internship or the matching internships
+     * @throws InternityException if the index or id is missing or not a number, or a condition is invalid
+     */
+    public static Command parseDeleteCommandArgs(String args) throws InternityException {
         if (args == null || args.isBlank()) {
             throw InternityException.invalidDeleteCommand();
         }
+        String target = args.trim();
+        if (startsWithWord(target, WHERE_KEYWORD)) {
+            return new DeleteWhereCommand(WhereClause.parse(target.substring(WHERE_KEYWORD.length())));
+        }
+        if (target.charAt(0) == ID_MARKER) {
+            int id = parseId(target);
+            if (id < 0) {
+                throw InternityException.invalidDeleteCommand();
+            }
+            return DeleteCommand.byId(id);
+        }
         try {
-            int oneBasedIndex = Integer.parseInt(args.trim());
+            int oneBasedIndex = Integer.parseInt(target);
 
             int zeroBasedIndex = oneBasedIndex - 1;
 
@@ -57,20 +101,319 @@ public final class ArgumentParser {
         }
     }
 
-    public static UpdateCommand parseUpdateCommandArgs(String args) throws InternityException {
-        String newStatus;
-        int zeroBasedIndex;
+    /**
+     * Parses the arguments of the {@code update} command: {@code INDEX status/NEW_STATUS}, where the one-based
+     * {@code INDEX} may also be given as {@code #ID}, or {@code where CONDITION... set status/NEW_STATUS} to
+     * update every matching internship.
+     *
+     * @param args the text after the command word
+     * @return a command that updates the status of the given internship or the matching internships
+     * @throws InternityException if the index or the status is missing or invalid, or a condition is invalid
+     */
+    public static Command parseUpdateCommandArgs(String args) throws InternityException {
+        if (args == null || args.isBlank()) {
+            throw InternityException.invalidUpdateCommand();
+        }
+        String trimmed = args.trim();
+        if (startsWithWord(trimmed, WHERE_KEYWORD)) {
+            return parseUpdateWhere(trimmed.substring(WHERE_KEYWORD.length()));
+        }
+
+        PrefixedArguments fields = PrefixedArguments.tokenize(args, InternityException::invalidUpdateField,
+                STATUS_PREFIX);
+        String index = fields.getPreamble();
+        if (index.isEmpty()) {
+            throw InternityException.invalidUpdateField("missing INDEX");
+        }
+        if (index.charAt(0) == ID_MARKER) {
+            int id = parseId(index);
+            if (id < 0) {
+                throw InternityException.invalidUpdateField("ID must be a number, got \"" + index + "\"");
+            }
+            return UpdateCommand.byId(id, fields.require(STATUS_PREFIX));
+        }
+        int oneBasedIndex;
         try {
-            String[] splitArgs = args.split("\\s+status/");
-            zeroBasedIndex = Integer.parseInt(splitArgs[0].trim()) - 1;
-            newStatus = splitArgs[1].trim();
-        } catch (Exception e) {
-            throw new InternityException("Invalid update command format. Use: update INDEX status/NEW_STATUS");
+            oneBasedIndex = Integer.parseInt(index);
+        } catch (NumberFormatException e) {
+            throw InternityException.invalidUpdateField("INDEX must be a number, got \"" + index + "\"");
         }
-        return new UpdateCommand(zeroBasedIndex, newStatus);
+        return new UpdateCommand(oneBasedIndex - 1, fields.require(STATUS_PREFIX));
     }
 
+    /**
+     * Parses the arguments of the {@code list} command: {@code [--page PAGE] [--size PAGE_SIZE]}.
+     * If only one of the options is given, the other one takes its default value.
+     *
+     * @param args the text after the command word
+     * @return a command listing every internship, or a single page if any option is given
+     * @throws InternityException if an option is unknown, repeated or not a positive number
+     */
     public static ListCommand parseListCommandArgs(String args) throws InternityException {
-        return new ListCommand();
+        if (args == null || args.isBlank()) {
+            return new ListCommand();
+        }
+
+        String[] tokens = args.trim().split("\\s+");
+        if (tokens.length % 2 != 0) {
+            throw InternityException.invalidListCommand();
+        }
+        int page = 0;
+        int pageSize = 0;
+        for (int i = 0; i < tokens.length; i += 2) {
+            int value = parsePositiveInt(tokens[i + 1]);
+            if (tokens[i].equals("--page") && page == 0) {
+                page = value;
+            } else if (tokens[i].equals("--size") && pageSize == 0) {
+                pageSize = value;
+            } else {
+                throw InternityException.invalidListCommand();
+            }
+        }
+        return new ListCommand(page == 0 ? 1 : page, pageSize == 0 ? ListCommand.DEFAULT_PAGE_SIZE : pageSize);
+    }
+
+    /**
+     * Parses the arguments of the {@code find} command: {@code company/COMPANY_NAME} or {@code status/STATUS}.
+     *
+     * @param args the text after the command word
+     * @return a command that looks up internships by the given field
+     * @throws InternityException if the field is missing, unknown or empty
+     */
+    public static FindCommand parseFindCommandArgs(String args) throws InternityException {
+        String trimmed = args == null ? "" : args.trim();
+        FindCommand.Field field;
+        String value;
+        if (trimmed.startsWith("company/")) {
+            field = FindCommand.Field.COMPANY;
+            value = trimmed.substring("company/".length()).trim();
+        } else if (trimmed.startsWith("status/")) {
+            field = FindCommand.Field.STATUS;
+            value = trimmed.substring("status/".length()).trim();
+        } else {
+            throw InternityException.invalidFindCommand();
+        }
+        if (value.isEmpty()) {
+            throw InternityException.invalidFindCommand();
+        }
+        return new FindCommand(field, value);
+    }
+
+    /**
+     * Parses the arguments of the {@code due} command: {@code before/DD-MM-YYYY}.
+     *
+     * @param args the text after the command word
+     * @return a command that lists internships due before the given date
+     * @throws InternityException if the argument is missing or the date is invalid
+     */
+    public static DueCommand parseDueCommandArgs(String args) throws InternityException {
+        String trimmed = args == null ? "" : args.trim();
+        if (!trimmed.startsWith("before/")) {
+            throw InternityException.invalidDueCommand();
+        }
+        return new DueCommand(DateFormatter.parse(trimmed.substring("before/".length())));
+    }
+
+    /**
+     * Parses the arguments of the {@code search} command.
+     *
+     * @param args the keyword query
+     * @return a command that searches company names and roles
+     * @throws InternityException if the query is empty or malformed
+     * @see SearchQuery#parse(String)
+     */
+    public static SearchCommand parseSearchCommandArgs(String args) throws InternityException {
+        return new SearchCommand(SearchQuery.parse(args));
+    }
+
+    /**
+     * Parses the arguments of the {@code query} command.
+     *
+     * @param args the conditions, order and limit of the query
+     * @return a command that runs the query
+     * @throws InternityException if the query is empty or malformed
+     * @see FilterQuery#parse(String)
+     */
+    public static QueryCommand parseQueryCommandArgs(String args) throws InternityException {
+        return new QueryCommand(FilterQuery.parse(args));
+    }
+
+    /**
+     * Parses the arguments of the {@code stats} command, which takes none.
+     *
+     * @param args the text after the command word
+     * @return a command that prints the aggregates over all internships
+     * @throws InternityException if any argument is given
+     */
+    public static StatsCommand parseStatsCommandArgs(String args) throws InternityException {
+        if (args != null && !args.isBlank()) {
+            throw InternityException.invalidStatsCommand();
+        }
+        return new StatsCommand();
+    }
+
+    /**
+     * Parses the arguments of the {@code metrics} command, which takes none.
+     *
+     * @param args the text after the command word
+     * @return a command that prints the command counts and latencies
+     * @throws InternityException if any argument is given
+     */
+    public static MetricsCommand parseMetricsCommandArgs(String args) throws InternityException {
+        if (args != null && !args.isBlank()) {
+            throw InternityException.invalidMetricsCommand();
+        }
+        return new MetricsCommand();
+    }
+
+    /**
+     * Parses the arguments of the {@code undo} command, which takes none.
+     *
+     * @param args the text after the command word
+     * @return a command that undoes the last change
+     * @throws InternityException if any argument is given
+     */
+    public static UndoCommand parseUndoCommandArgs(String args) throws InternityException {
+        if (args != null && !args.isBlank()) {
+            throw InternityException.invalidUndoCommand();
+        }
+        return new UndoCommand();
+    }
+
+    /**
+     * Parses the arguments of the {@code redo} command, which takes none.
+     *
+     * @param args the text after the command word
+     * @return a command that redoes the last undone change
+     * @throws InternityException if any argument is given
+     */
+    public static RedoCommand parseRedoCommandArgs(String args) throws InternityException {
+        if (args != null && !args.isBlank()) {
+            throw InternityException.invalidRedoCommand();
+        }
+        return new RedoCommand();
+    }
+
+    /**
+     * Parses the arguments of the {@code import} command: {@code FILE.csv}.
+     *
+     * @param args the path of the file to import
+     * @return a command that imports the file
+     * @throws InternityException if no valid path is given
+     */
+    public static ImportCommand parseImportCommandArgs(String args) throws InternityException {
+        if (args == null || args.isBlank()) {
+            throw InternityException.invalidImportCommand();
+        }
+        try {
+            return new ImportCommand(Path.of(args.strip()));
+        } catch (InvalidPathException e) {
+            throw InternityException.invalidImportCommand();
+        }
+    }
+
+    /**
+     * Parses the arguments of the {@code export} command: {@code csv|json FILE}.
+     *
+     * @param args the format followed by the path of the file to write
+     * @return a command that exports every internship
+     * @throws InternityException if the format is unknown or no valid path is given
+     */
+    public static ExportCommand parseExportCommandArgs(String args) throws InternityException {
+        String trimmed = args == null ? "" : args.strip();
+        int separator = 0;
+        while (separator < trimmed.length() && !Character.isWhitespace(trimmed.charAt(separator))) {
+            separator++;
+        }
+        String path = trimmed.substring(separator).strip();
+        if (path.isEmpty()) {
+            throw InternityException.invalidExportCommand();
+        }
+        InternshipExporter.Format format;
+        switch (trimmed.substring(0, separator).toLowerCase(Locale.ROOT)) {
+        case "csv":
+            format = InternshipExporter.Format.CSV;
+            break;
+        case "json":
+            format = InternshipExporter.Format.JSON;
+            break;
+        default:
+            throw InternityException.invalidExportCommand();
+        }
+        try {
+            return new ExportCommand(format, Path.of(path));
+        } catch (InvalidPathException e) {
+            throw InternityException.invalidExportCommand();
+        }
+    }
+
+    /**
+     * Parses {@code CONDITION... set status/NEW_STATUS}. The last {@code set} that is followed by
+     * {@code status/} starts the new values, so conditions may contain the word {@code set}.
+     */
+    private static UpdateWhereCommand parseUpdateWhere(String args) throws InternityException {
+        int set = -1;
+        for (int i = args.lastIndexOf(SET_KEYWORD); i >= 0; i = args.lastIndexOf(SET_KEYWORD, i - 1)) {
+            int next = i + SET_KEYWORD.length();
+            boolean isWord = i > 0 && Character.isWhitespace(args.charAt(i - 1))
+                    && next < args.length() && Character.isWhitespace(args.charAt(next));
+            if (isWord && args.substring(next).trim().startsWith(STATUS_PREFIX)) {
+                set = i;
+                break;
+            }
+        }
+        if (set < 0) {
+            throw InternityException.invalidWhereClause("missing set " + STATUS_PREFIX + "NEW_STATUS");
+        }
+        PrefixedArguments values = PrefixedArguments.tokenize(args.substring(set + SET_KEYWORD.length()),
+                InternityException::invalidWhereClause, STATUS_PREFIX);
+        return new UpdateWhereCommand(WhereClause.parse(args.substring(0, set)), values.require(STATUS_PREFIX));
+    }
+
+    /**
+     * Returns whether {@code text} is {@code word} or starts with {@code word} followed by whitespace.
+     */
+    private static boolean startsWithWord(String text, String word) {
+        return text.startsWith(word)
+                && (text.length() == word.length() || Character.isWhitespace(text.charAt(word.length())));
+    }
+
+    /**
+     * Parses {@code #ID}, returning {@code -1} if the text after the marker is not a positive number.
+     */
+    private static int parseId(String token) {
+        try {
+            int id = Integer.parseInt(token.substring(1));
+            return id > 0 ? id : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static int parsePay(String value) throws InternityException {
+        int pay = 0;
+        for (int i = 0; i < value.length(); i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw InternityException.invalidAddField(PAY_PREFIX + " must be a whole number, got \"" + value + "\"");
+            }
+            if (pay > (Integer.MAX_VALUE - digit) / 10) {
+                throw InternityException.invalidAddField(PAY_PREFIX + " is too large");
+            }
+            pay = pay * 10 + digit;
+        }
+        return pay;
+    }
+
+    private static int parsePositiveInt(String token) throws InternityException {
+        try {
+            int value = Integer.parseInt(token);
+            if (value <= 0) {
+                throw InternityException.invalidListCommand();
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw InternityException.invalidListCommand();
+        }
     }
 }
@@ -0,0 +1,32 @@
+package internity.cli;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event covering one call of {@link CommandParser#parseInput(String)}.
+ *
+ * <p>
+ * Like every JFR event, it costs next to nothing unless a recording has enabled it, so it is emitted for
+ * every command instead of logging at {@code FINE}.
+ * </p>
+ */
+@Name("internity.CommandParse")
+@Label("Command Parse")
+@Category({"Internity", "Commands"})
+@Description("Parsing one line of input into a command")
+class CommandParseEvent extends Event {
+    @Label("Command Word")
+    String commandWord;
+
+    @Label("Input Length")
+    @Description("Number of characters in the line")
+    int inputLength;
+
+    @Label("Failed")
+    @Description("Whether the line could not be parsed")
+    boolean isFailed;
+}
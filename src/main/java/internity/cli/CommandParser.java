@@ -1,10 +1,11 @@
 package internity.cli;
 
+import java.util.Locale;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import internity.commands.CommandFactory;
 import internity.commands.Command;
+import internity.commands.CommandRegistry;
 import internity.core.InternityException;
 
 /**
@@ -13,56 +14,83 @@ import internity.core.InternityException;
  * validating the input and constructing the instance of the
  * corresponding command.
  *
- * <p>Supported commands include:
- * <ul>
- *      <li>{@code exit} - exits the program</li>
- * </ul>
+ * <p>
+ * The command word is looked up in a {@link CommandRegistry}, so adding a command does not require
+ * changes here.
+ * </p>
+ *
+ * <p>
+ * Every parse is reported to Flight Recorder as a {@link CommandParseEvent}. Unlike the {@code FINE} log
+ * message, the event costs next to nothing while no recording has enabled it.
+ * </p>
  */
 public class CommandParser {
     private static final Logger logger = Logger.getLogger(CommandParser.class.getName());
 
+    private final CommandRegistry registry;
+
     static {
         logger.setLevel(Level.WARNING);
     }
 
+    /**
+     * Creates a parser for the built-in commands.
+     */
+    public CommandParser() {
+        this(CommandRegistry.getDefault());
+    }
+
+    /**
+     * Creates a parser for the commands in {@code registry}.
+     *
+     * @param registry the commands that can be parsed
+     */
+    public CommandParser(CommandRegistry registry) {
+        this.registry = registry;
+    }
+
     /**
      * Parses the given input string and returns the corresponding {@link Command}. <br>
-     * The first token (before the first space) is treated as the command keyword.
+     * The first token (before the first whitespace) is treated as the command keyword, ignoring case.
      *
      * @param input raw user input
      * @return a {@link Command} corresponding to the input
      * @throws InternityException if input is null or blank or unknown command is entered
      */
     public Command parseInput(String input) throws InternityException {
+        CommandParseEvent event = new CommandParseEvent();
+        event.begin();
         if (input == null || input.isBlank()) {
             throw InternityException.invalidInput();
         }
-        assert !input.isBlank() : "Input should not be blank after validation";
 
-        String[] parts = input.trim().split("\\s+", 2);
-        assert parts.length >= 1 : "Splitting input should result in at least one part";
-
-        String commandWord = parts[0].toLowerCase();
-        String args = parts.length > 1 ? parts[1] : "";
-
-        logger.fine(() -> "Parsed command: \"" + commandWord + "\" with args: \"" + args + "\"");
-
-        assert !commandWord.isBlank() : "Command keyword must not be blank";
-        assert args != null : "Args should never be null (may be empty string)";
-
-        CommandFactory commandFactory = new CommandFactory();
-        Command command = commandFactory.createCommand(commandWord, args);
-
-        logger.fine(() -> "Parsed command: \"" + commandWord + "\" with args: \"" + args + "\"");
-
-        assert command != null : "CommandFactory should never return null command";
-
-        if (command == null) {
-            logger.severe("CommandFactory returned null for command: " + commandWord);
-            throw InternityException.unknownCommand(commandWord);
+        int start = 0;
+        while (Character.isWhitespace(input.charAt(start))) {
+            start++;
+        }
+        int end = start;
+        while (end < input.length() && !Character.isWhitespace(input.charAt(end))) {
+            end++;
         }
+        String commandWord = input.substring(start, end).toLowerCase(Locale.ROOT);
+        String args = end == input.length() ? "" : input.substring(end).strip();
 
-        logger.info(() -> "Successfully created command: " + command.getClass().getSimpleName());
-        return command;
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Parsed command: \"" + commandWord + "\" with args: \"" + args + "\"");
+        }
+        boolean isFailed = true;
+        try {
+            Command command = registry.create(commandWord, args);
+            isFailed = false;
+            return command;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.commandWord = commandWord;
+                event.inputLength = input.length();
+                event.isFailed = isFailed;
+                event.commit();
+            }
+        }
     }
 }
@@ -0,0 +1,137 @@
+package internity.cli;
+
+import java.util.function.Function;
+
+import internity.core.InternityException;
+
+/**
+ * The fields of a command whose arguments are written as {@code prefix/value} pairs, such as
+ * {@code company/Google role/Intern}.
+ *
+ * <p>
+ * {@link #tokenize} scans the arguments once from left to right. A prefix is only recognised at the
+ * start of the arguments or directly after whitespace, so values may themselves contain {@code /}.
+ * Fields may be given in any order. Text before the first prefix is kept as the preamble.
+ * </p>
+ */
+final class PrefixedArguments {
+    private final String[] prefixes;
+    private final String[] values;
+    private final String preamble;
+    private final Function<String, InternityException> error;
+
+    private PrefixedArguments(String[] prefixes, String[] values, String preamble,
+            Function<String, InternityException> error) {
+        this.prefixes = prefixes;
+        this.values = values;
+        this.preamble = preamble;
+        this.error = error;
+    }
+
+    /**
+     * Splits {@code args} into the values of the given prefixes.
+     *
+     * @param args the text after the command word, may be {@code null}
+     * @param error creates the exception for a problem with one field, given a description of it
+     * @param prefixes the recognised prefixes, each ending in {@code /}
+     * @return the preamble and the trimmed value of each prefix that was given
+     * @throws InternityException if a prefix is given more than once
+     */
+    static PrefixedArguments tokenize(String args, Function<String, InternityException> error, String... prefixes)
+            throws InternityException {
+        String[] values = new String[prefixes.length];
+        if (args == null) {
+            return new PrefixedArguments(prefixes, values, "", error);
+        }
+
+        int length = args.length();
+        String preamble = null;
+        int field = -1;
+        int valueStart = 0;
+        for (int i = 0; i < length; i++) {
+            if (i > 0 && !Character.isWhitespace(args.charAt(i - 1))) {
+                continue;
+            }
+            int match = matchPrefix(args, i, prefixes);
+            if (match < 0) {
+                continue;
+            }
+            if (field < 0) {
+                preamble = args.substring(0, i).trim();
+            } else {
+                values[field] = args.substring(valueStart, i).trim();
+            }
+            if (values[match] != null) {
+                throw error.apply(prefixes[match] + " is given more than once");
+            }
+            field = match;
+            valueStart = i + prefixes[match].length();
+            values[field] = "";
+            i = valueStart - 1;
+        }
+        if (field < 0) {
+            preamble = args.trim();
+        } else {
+            values[field] = args.substring(valueStart).trim();
+        }
+        return new PrefixedArguments(prefixes, values, preamble, error);
+    }
+
+    /**
+     * Returns the text before the first prefix, trimmed. It is empty if the arguments start with a prefix.
+     */
+    String getPreamble() {
+        return preamble;
+    }
+
+    /**
+     * Returns the value of {@code prefix}.
+     *
+     * @param prefix one of the prefixes passed to {@link #tokenize}
+     * @return the trimmed value, never empty
+     * @throws InternityException if the prefix was not given or its value is empty
+     */
+    String require(String prefix) throws InternityException {
+        String value = values[indexOf(prefix)];
+        if (value == null) {
+            throw error.apply("missing " + prefix);
+        }
+        if (value.isEmpty()) {
+            throw error.apply(prefix + " cannot be empty");
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value of {@code prefix}, or {@code null} if it was not given.
+     *
+     * @param prefix one of the prefixes passed to {@link #tokenize}
+     * @return the trimmed value, or {@code null}
+     * @throws InternityException if the prefix was given with an empty value
+     */
+    String get(String prefix) throws InternityException {
+        String value = values[indexOf(prefix)];
+        if (value != null && value.isEmpty()) {
+            throw error.apply(prefix + " cannot be empty");
+        }
+        return value;
+    }
+
+    private int indexOf(String prefix) {
+        for (int i = 0; i < prefixes.length; i++) {
+            if (prefixes[i].equals(prefix)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown prefix: " + prefix);
+    }
+
+    private static int matchPrefix(String args, int start, String[] prefixes) {
+        for (int i = 0; i < prefixes.length; i++) {
+            if (args.startsWith(prefixes[i], start)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,111 @@
+package internity.cli;
+
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.utils.DateFormatter;
+
+/**
+ * Parses the conditions of a bulk command, such as {@code status/Pending deadline</01-01-2026}, into a
+ * predicate over internships.
+ *
+ * <p>
+ * Every condition must hold for an internship to match. {@code company/}, {@code role/} and {@code status/}
+ * compare the whole value, ignoring case and surrounding spaces, like {@code find} does.
+ * {@code deadline</} and {@code deadline>/} match deadlines strictly before or after a date, and
+ * {@code pay</} and {@code pay>/} match pay strictly below or above an amount.
+ * </p>
+ *
+ * <p>
+ * This class cannot be instantiated.
+ * </p>
+ */
+final class WhereClause {
+    private static final String COMPANY = "company/";
+    private static final String ROLE = "role/";
+    private static final String STATUS = "status/";
+    private static final String DEADLINE_BEFORE = "deadline</";
+    private static final String DEADLINE_AFTER = "deadline>/";
+    private static final String PAY_BELOW = "pay</";
+    private static final String PAY_ABOVE = "pay>/";
+
+    private WhereClause() {
+    } // prevent instantiation
+
+    /**
+     * Parses {@code conditions} into a predicate that holds when all of them do.
+     *
+     * @param conditions the text after {@code where}
+     * @return the combined predicate
+     * @throws InternityException if there is no condition, or a condition is unknown, repeated or invalid
+     */
+    static Predicate<Internship> parse(String conditions) throws InternityException {
+        PrefixedArguments fields = PrefixedArguments.tokenize(conditions, InternityException::invalidWhereClause,
+                COMPANY, ROLE, STATUS, DEADLINE_BEFORE, DEADLINE_AFTER, PAY_BELOW, PAY_ABOVE);
+        if (!fields.getPreamble().isEmpty()) {
+            throw InternityException.invalidWhereClause("unexpected text \"" + fields.getPreamble() + "\"");
+        }
+
+        Predicate<Internship> predicate = null;
+        predicate = and(predicate, textEquals(fields.get(COMPANY), Internship::getCompany));
+        predicate = and(predicate, textEquals(fields.get(ROLE), Internship::getRole));
+        predicate = and(predicate, textEquals(fields.get(STATUS), Internship::getStatus));
+
+        String before = fields.get(DEADLINE_BEFORE);
+        if (before != null) {
+            Date date = DateFormatter.parse(before);
+            predicate = and(predicate, internship -> internship.getDeadline().compareTo(date) < 0);
+        }
+        String after = fields.get(DEADLINE_AFTER);
+        if (after != null) {
+            Date date = DateFormatter.parse(after);
+            predicate = and(predicate, internship -> internship.getDeadline().compareTo(date) > 0);
+        }
+        String below = fields.get(PAY_BELOW);
+        if (below != null) {
+            int pay = parsePay(PAY_BELOW, below);
+            predicate = and(predicate, internship -> internship.getPay() < pay);
+        }
+        String above = fields.get(PAY_ABOVE);
+        if (above != null) {
+            int pay = parsePay(PAY_ABOVE, above);
+            predicate = and(predicate, internship -> internship.getPay() > pay);
+        }
+
+        if (predicate == null) {
+            throw InternityException.invalidWhereClause("missing condition");
+        }
+        return predicate;
+    }
+
+    private static Predicate<Internship> textEquals(String value, Function<Internship, String> field) {
+        if (value == null) {
+            return null;
+        }
+        String expected = normalize(value);
+        return internship -> normalize(field.apply(internship)).equals(expected);
+    }
+
+    private static Predicate<Internship> and(Predicate<Internship> first, Predicate<Internship> second) {
+        if (first == null) {
+            return second;
+        }
+        return second == null ? first : first.and(second);
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static int parsePay(String prefix, String value) throws InternityException {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw InternityException.invalidWhereClause(prefix + " must be a whole number, got \"" + value + "\"");
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package internity.commands;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import internity.utils.LatencyHistogram;
+
+/**
+ * Counts and timings of every command run in this process, grouped by the type of command.
+ *
+ * <p>
+ * The dispatch loop records how long each command took to parse and to execute, and whether it failed.
+ * Recording costs one map lookup by class and a few atomic updates, and is safe from any number of
+ * session threads. The figures are shown by the {@code metrics} command and can be written out in the
+ * Prometheus text format with {@link #toPrometheusText()}.
+ * </p>
+ */
+public final class CommandMetrics {
+    private static final String PREFIX = "internity_";
+    private static final int NANOS_SCALE = 9;
+    /** The histogram bounds written to Prometheus, in nanoseconds. */
+    private static final long[] PROMETHEUS_BOUNDS = {
+        10_000L, 50_000L, 100_000L, 500_000L, 1_000_000L, 5_000_000L, 10_000_000L, 50_000_000L, 100_000_000L,
+        500_000_000L, 1_000_000_000L, 5_000_000_000L,
+    };
+
+    private static final ConcurrentMap<Class<?>, CommandStats> byType = new ConcurrentHashMap<>();
+    private static final LongAdder parseFailures = new LongAdder();
+
+    private CommandMetrics() {
+    } // prevent instantiation
+
+    /**
+     * The figures of one type of command.
+     */
+    public static final class CommandStats {
+        private final String name;
+        private final LatencyHistogram parse = new LatencyHistogram();
+        private final LatencyHistogram execute = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+
+        private CommandStats(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Returns the name of the command type, such as {@code delete_where} for {@link DeleteWhereCommand}.
+         */
+        public String getName() {
+            return name;
+        }
+
+        public LatencyHistogram getParse() {
+            return parse;
+        }
+
+        public LatencyHistogram getExecute() {
+            return execute;
+        }
+
+        /**
+         * Returns the number of executions that threw an exception.
+         */
+        public long getErrors() {
+            return errors.sum();
+        }
+    }
+
+    /**
+     * Records one run of {@code command}.
+     *
+     * @param command the command that was parsed
+     * @param parseNanos the time taken to parse it
+     * @param executeNanos the time taken to execute it
+     * @param isError whether the execution threw an exception
+     */
+    public static void record(Command command, long parseNanos, long executeNanos, boolean isError) {
+        CommandStats stats = byType.computeIfAbsent(command.getClass(), type -> new CommandStats(nameOf(command)));
+        stats.parse.record(parseNanos);
+        stats.execute.record(executeNanos);
+        if (isError) {
+            stats.errors.increment();
+        }
+    }
+
+    /**
+     * Records input that could not be parsed into a command.
+     */
+    public static void recordParseFailure() {
+        parseFailures.increment();
+    }
+
+    /**
+     * Returns the figures of every command type run so far, ordered by name.
+     *
+     * @return a list that does not change as more commands run, although the figures in it do
+     */
+    public static List<CommandStats> getStats() {
+        List<CommandStats> stats = new ArrayList<>(byType.values());
+        stats.sort(Comparator.comparing(CommandStats::getName));
+        return Collections.unmodifiableList(stats);
+    }
+
+    /**
+     * Returns the number of inputs that could not be parsed.
+     */
+    public static long getParseFailures() {
+        return parseFailures.sum();
+    }
+
+    /**
+     * Forgets every recorded figure.
+     */
+    public static void reset() {
+        byType.clear();
+        parseFailures.reset();
+    }
+
+    /**
+     * Returns every figure in the Prometheus text exposition format.
+     *
+     * @return the metrics, one sample per line
+     */
+    public static String toPrometheusText() {
+        List<CommandStats> stats = getStats();
+        StringBuilder out = new StringBuilder();
+        appendHeader(out, "commands_total", "counter", "Commands run, by command type.");
+        for (CommandStats command : stats) {
+            appendSample(out, "commands_total", command.name, null, command.execute.getCount());
+        }
+        appendHeader(out, "command_errors_total", "counter", "Commands that failed, by command type.");
+        for (CommandStats command : stats) {
+            appendSample(out, "command_errors_total", command.name, null, command.getErrors());
+        }
+        appendHeader(out, "parse_failures_total", "counter", "Inputs that could not be parsed into a command.");
+        out.append(PREFIX).append("parse_failures_total ").append(parseFailures.sum()).append('\n');
+        appendHistograms(out, "command_parse_seconds", "Time taken to parse commands.", stats, true);
+        appendHistograms(out, "command_execute_seconds", "Time taken to execute commands.", stats, false);
+        return out.toString();
+    }
+
+    private static void appendHistograms(StringBuilder out, String metric, String help, List<CommandStats> stats,
+            boolean isParse) {
+        appendHeader(out, metric, "histogram", help);
+        for (CommandStats command : stats) {
+            LatencyHistogram histogram = isParse ? command.parse : command.execute;
+            for (long bound : PROMETHEUS_BOUNDS) {
+                appendSample(out, metric + "_bucket", command.name, seconds(bound), histogram.countAtMost(bound));
+            }
+            appendSample(out, metric + "_bucket", command.name, "+Inf", histogram.getCount());
+            out.append(PREFIX).append(metric).append("_sum{command=\"").append(command.name).append("\"} ")
+                    .append(seconds(histogram.getSum())).append('\n');
+            appendSample(out, metric + "_count", command.name, null, histogram.getCount());
+        }
+    }
+
+    private static void appendHeader(StringBuilder out, String metric, String type, String help) {
+        out.append("# HELP ").append(PREFIX).append(metric).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(PREFIX).append(metric).append(' ').append(type).append('\n');
+    }
+
+    private static void appendSample(StringBuilder out, String metric, String command, String bound, long value) {
+        out.append(PREFIX).append(metric).append("{command=\"").append(command).append('"');
+        if (bound != null) {
+            out.append(",le=\"").append(bound).append('"');
+        }
+        out.append("} ").append(value).append('\n');
+    }
+
+    private static String seconds(long nanos) {
+        return BigDecimal.valueOf(nanos, NANOS_SCALE).stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * Returns the name {@code command} is reported under, such as {@code delete_where} for a
+     * {@link DeleteWhereCommand}.
+     *
+     * @param command a parsed command
+     * @return the snake-case class name without its {@code Command} suffix
+     */
+    public static String nameOf(Command command) {
+        String simpleName = command.getClass().getSimpleName();
+        String name = simpleName.endsWith("Command")
+                ? simpleName.substring(0, simpleName.length() - "Command".length())
+                : simpleName;
+        if (name.isEmpty()) {
+            return "unknown";
+        }
+        StringBuilder snakeCase = new StringBuilder();
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c) && i > 0) {
+                snakeCase.append('_');
+            }
+            snakeCase.append(Character.toLowerCase(c));
+        }
+        return snakeCase.toString();
+    }
+}
@@ -0,0 +1,122 @@
+package internity.commands;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import internity.cli.ArgumentParser;
+import internity.core.InternityException;
+
+/**
+ * Maps command words to the functions that turn their arguments into {@link Command} objects.
+ *
+ * <p>
+ * A command is registered once under its word and any aliases. Every prefix of at least
+ * {@value #MIN_PREFIX_LENGTH} characters that belongs to exactly one registered word is accepted as well,
+ * so {@code del 2} runs {@code delete 2}. All lookups are resolved when a command is registered, so
+ * {@link #create(String, String)} is a single hash lookup followed by the parser itself.
+ * </p>
+ *
+ * <p>
+ * The parsers must be stateless, because the {@linkplain #getDefault() default registry} is shared.
+ * </p>
+ */
+public class CommandRegistry {
+    private static final int MIN_PREFIX_LENGTH = 3;
+    private static final ExitCommand EXIT_COMMAND = new ExitCommand();
+    private static final CommandRegistry DEFAULT = createDefault();
+
+    private final Map<String, Parser> parsers = new HashMap<>();
+    private final Map<String, Parser> prefixes = new HashMap<>();
+    private final Map<String, List<String>> prefixOwners = new HashMap<>();
+
+    /**
+     * Creates the {@link Command} for one command word from the text that follows it.
+     */
+    @FunctionalInterface
+    public interface Parser {
+        Command parse(String args) throws InternityException;
+    }
+
+    /**
+     * Returns the registry holding every built-in command.
+     *
+     * @return the shared default registry
+     */
+    public static CommandRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    private static CommandRegistry createDefault() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register("add", ArgumentParser::parseAddCommandArgs);
+        registry.register("delete", ArgumentParser::parseDeleteCommandArgs);
+        registry.register("update", ArgumentParser::parseUpdateCommandArgs);
+        registry.register("list", ArgumentParser::parseListCommandArgs);
+        registry.register("find", ArgumentParser::parseFindCommandArgs);
+        registry.register("search", ArgumentParser::parseSearchCommandArgs);
+        registry.register("due", ArgumentParser::parseDueCommandArgs);
+        registry.register("query", ArgumentParser::parseQueryCommandArgs);
+        registry.register("stats", ArgumentParser::parseStatsCommandArgs);
+        registry.register("metrics", ArgumentParser::parseMetricsCommandArgs);
+        registry.register("undo", ArgumentParser::parseUndoCommandArgs);
+        registry.register("redo", ArgumentParser::parseRedoCommandArgs);
+        registry.register("import", ArgumentParser::parseImportCommandArgs);
+        registry.register("export", ArgumentParser::parseExportCommandArgs);
+        registry.register("exit", args -> EXIT_COMMAND);
+        return registry;
+    }
+
+    /**
+     * Registers {@code parser} under {@code word} and the given aliases.
+     *
+     * @param word the lower-case command word
+     * @param parser creates the command from its arguments
+     * @param aliases other lower-case words that run the same command
+     * @throws IllegalArgumentException if the word or an alias is already registered
+     */
+    public void register(String word, Parser parser, String... aliases) {
+        registerWord(word, parser);
+        for (String alias : aliases) {
+            registerWord(alias, parser);
+        }
+    }
+
+    /**
+     * Returns the command for {@code commandWord}, which is matched exactly, as an alias or as an
+     * unambiguous prefix.
+     *
+     * @param commandWord the lower-case command word
+     * @param args the text after the command word, never {@code null}
+     * @return the parsed command
+     * @throws InternityException if the word is not known or the arguments are invalid
+     */
+    public Command create(String commandWord, String args) throws InternityException {
+        Parser parser = parsers.get(commandWord);
+        if (parser == null) {
+            parser = prefixes.get(commandWord);
+        }
+        if (parser == null) {
+            throw InternityException.unknownCommand(commandWord);
+        }
+        return parser.parse(args);
+    }
+
+    private void registerWord(String word, Parser parser) {
+        if (parsers.putIfAbsent(word, parser) != null) {
+            throw new IllegalArgumentException("Command already registered: " + word);
+        }
+        for (int length = MIN_PREFIX_LENGTH; length < word.length(); length++) {
+            String prefix = word.substring(0, length);
+            List<String> owners = prefixOwners.computeIfAbsent(prefix, ignored -> new ArrayList<>());
+            owners.add(word);
+            if (owners.size() == 1) {
+                prefixes.put(prefix, parser);
+            } else if (parsers.get(owners.get(0)) != parser) {
+                // Only prefixes shared by aliases of the same command stay unambiguous.
+                prefixes.remove(prefix);
+            }
+        }
+    }
+}
@@ -6,21 +6,36 @@ import internity.core.InternshipList;
 import internity.ui.Ui;
 
 public class DeleteCommand extends Command {
+    private static final int NO_ID = -1;
+
     private final int index;
+    private final int id;
 
     public DeleteCommand(int index) {
+        this(index, NO_ID);
+    }
+
+    private DeleteCommand(int index, int id) {
         this.index = index;
+        this.id = id;
+    }
+
+    /**
+     * Creates a command that deletes the internship with the given id, wherever it is in the list.
+     *
+     * @param id the id of the internship to delete
+     * @return the command
+     */
+    public static DeleteCommand byId(int id) {
+        return new DeleteCommand(NO_ID, id);
     }
 
     @Override
     public void execute() throws InternityException {
-        // Get the internship before deleting to display its info
-        Internship internship = InternshipList.get(index);
+        // Delete the internship, keeping it to display its info
+        Internship internship = id == NO_ID ? InternshipList.delete(index) : InternshipList.deleteById(id);
         String internshipInfo = internship.getCompany() + " - " + internship.getRole();
 
-        // Delete the internship
-        InternshipList.delete(index);
-
         // Get the new size after deletion
         int totalItems = InternshipList.size();
 
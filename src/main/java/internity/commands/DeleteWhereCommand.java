@@ -0,0 +1,43 @@
+package internity.commands;
+
+import java.util.function.Predicate;
+
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+import internity.ui.Ui;
+
+/**
+ * Represents a command that deletes every internship matching a condition.
+ * <br>
+ * Command format:
+ * {@code delete where CONDITION...}
+ *
+ * <p>
+ * The condition is checked once per internship in a single pass over the {@link InternshipList}, and a
+ * single summary line is printed instead of one message per deleted internship.
+ * </p>
+ */
+public class DeleteWhereCommand extends Command {
+    private final Predicate<Internship> condition;
+
+    /**
+     * Constructs a {@code DeleteWhereCommand}.
+     *
+     * @param condition selects the internships to delete
+     */
+    public DeleteWhereCommand(Predicate<Internship> condition) {
+        this.condition = condition;
+    }
+
+    @Override
+    public void execute() throws InternityException {
+        int deleted = InternshipList.deleteWhere(condition);
+        Ui.printDeleteWhere(deleted, InternshipList.size());
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
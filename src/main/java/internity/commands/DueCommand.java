@@ -0,0 +1,38 @@
+package internity.commands;
+
+import internity.core.Date;
+import internity.core.InternshipList;
+import internity.ui.Ui;
+
+/**
+ * Represents a command that lists the internships whose deadline is before a given date,
+ * earliest deadline first.
+ * <br>
+ * Command format:
+ * {@code due before/DD-MM-YYYY}
+ */
+public class DueCommand extends Command {
+    private final Date before;
+
+    /**
+     * Constructs a {@code DueCommand}.
+     *
+     * @param before the exclusive upper bound on deadlines
+     */
+    public DueCommand(Date before) {
+        this.before = before;
+    }
+
+    /**
+     * Prints every internship due strictly before the date, ordered by deadline.
+     */
+    @Override
+    public void execute() {
+        Ui.printMatches(InternshipList.findMatches(() -> InternshipList.findDueBefore(before)));
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
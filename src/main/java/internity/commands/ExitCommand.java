@@ -1,5 +1,7 @@
 package internity.commands;
 
+import internity.storage.InternshipJournal;
+
 /**
  * Represents the {@code exit} command, which terminates the program.
  *
@@ -13,11 +15,12 @@ public class ExitCommand extends Command {
     /**
      * Executes the {@code exit} command.
      * <p>
-     * Prints an exit message.
+     * Forces the unsaved changes to disk and prints an exit message.
      * </p>
      */
     @Override
     public void execute() {
+        InternshipJournal.syncOpenJournals();
         System.out.println("Thank you for using Internity! Goodbye!");
     }
 
@@ -0,0 +1,54 @@
+package internity.commands;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import internity.core.InternityException;
+import internity.core.InternshipList;
+import internity.storage.InternshipExporter;
+import internity.ui.Ui;
+
+/**
+ * Represents a command that writes every internship to a CSV or JSON file.
+ * <br>
+ * Command format:
+ * {@code export csv|json FILE}
+ *
+ * @see InternshipExporter
+ */
+public class ExportCommand extends Command {
+    private final InternshipExporter.Format format;
+    private final Path file;
+
+    /**
+     * Constructs an {@code ExportCommand}.
+     *
+     * @param format the file format to write
+     * @param file the file to write, replaced if it exists
+     */
+    public ExportCommand(InternshipExporter.Format format, Path file) {
+        this.format = format;
+        this.file = file;
+    }
+
+    /**
+     * Writes the internships to the file from a snapshot, so the list can change while the file is written.
+     *
+     * @throws InternityException if the file cannot be written
+     */
+    @Override
+    public void execute() throws InternityException {
+        try {
+            InternshipExporter exporter = new InternshipExporter();
+            int exported = exporter.export(InternshipList.snapshot().asList(), format, file);
+            Ui.printExport(exported, file.toString());
+        } catch (IOException e) {
+            throw InternityException.exportError(file.toString(), e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -0,0 +1,56 @@
+package internity.commands;
+
+import internity.core.InternshipList;
+import internity.ui.Ui;
+
+/**
+ * Represents a command that looks up internships by company or by status.
+ * Matching ignores case and is answered from the indexes kept by {@link InternshipList},
+ * so it does not scan the whole list.
+ * <br>
+ * Command format:
+ * {@code find company/COMPANY_NAME} or {@code find status/STATUS}
+ */
+public class FindCommand extends Command {
+    /**
+     * The field an internship is looked up by.
+     */
+    public enum Field {
+        COMPANY,
+        STATUS
+    }
+
+    private final Field field;
+    private final String value;
+
+    /**
+     * Constructs a {@code FindCommand}.
+     *
+     * @param field the field to match on
+     * @param value the value the field must equal, ignoring case
+     */
+    public FindCommand(Field field, String value) {
+        this.field = field;
+        this.value = value;
+    }
+
+    /**
+     * Prints every internship whose field equals the value, in list order.
+     */
+    @Override
+    public void execute() {
+        Ui.printMatches(InternshipList.findMatches(this::find));
+    }
+
+    private int[] find() {
+        return switch (field) {
+        case COMPANY -> InternshipList.findByCompany(value);
+        case STATUS -> InternshipList.findByStatus(value);
+        };
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -0,0 +1,53 @@
+package internity.commands;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+import internity.storage.CsvInternshipReader;
+import internity.ui.Ui;
+
+/**
+ * Represents a command that appends every internship in a CSV file to the {@link InternshipList}.
+ * <br>
+ * Command format:
+ * {@code import FILE.csv}
+ *
+ * <p>
+ * The file is parsed completely before anything is added, and the internships are then added in one
+ * bulk operation. If any row is invalid, nothing is added.
+ * </p>
+ *
+ * @see CsvInternshipReader
+ */
+public class ImportCommand extends Command {
+    private final Path file;
+
+    /**
+     * Constructs an {@code ImportCommand}.
+     *
+     * @param file the CSV file to import
+     */
+    public ImportCommand(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Reads the file and appends its internships to the list.
+     *
+     * @throws InternityException if the file cannot be read or contains an invalid row
+     */
+    @Override
+    public void execute() throws InternityException {
+        List<Internship> imported = CsvInternshipReader.read(file);
+        InternshipList.addAll(imported);
+        Ui.printImport(imported.size(), InternshipList.size());
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -6,24 +6,52 @@ import internity.core.InternshipList;
 import java.util.logging.Logger;
 
 /**
- * Represents a command that lists all internship applications
- * as a formatted table
+ * Represents a command that lists internship applications
+ * as a formatted table, either all of them or one page at a time
  * <br>
  * Command format:
- * {@code list}
+ * {@code list [--page PAGE] [--size PAGE_SIZE]}
  */
 public class ListCommand extends Command {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
     private static final Logger logger = Logger.getLogger(ListCommand.class.getName());
+
+    private final int page;
+    private final int pageSize;
+
+    /**
+     * Creates a command that lists every internship.
+     */
+    public ListCommand() {
+        this(0, 0);
+    }
+
+    /**
+     * Creates a command that lists a single page of internships.
+     *
+     * @param page one-based page number, or {@code 0} to list everything
+     * @param pageSize number of internships per page
+     */
+    public ListCommand(int page, int pageSize) {
+        this.page = page;
+        this.pageSize = pageSize;
+    }
+
     /**
      * Executes the {@code list} command.
      * <p>
-     * Prints a formatted table with all internship applications.
+     * Prints a formatted table with all internship applications, or with the requested page only.
      * </p>
      */
     @Override
     public void execute() throws InternityException {
         logger.info("Executing list command");
-        InternshipList.listAll();
+        if (page == 0) {
+            InternshipList.listAll();
+        } else {
+            InternshipList.listPage(page, pageSize);
+        }
         logger.info("List command executed successfully.");
     }
 
@@ -0,0 +1,23 @@
+package internity.commands;
+
+import internity.ui.Ui;
+
+/**
+ * Represents a command that prints how many commands of each type have run and how long they took.
+ * <br>
+ * Command format:
+ * {@code metrics}
+ *
+ * @see CommandMetrics for how the figures are collected
+ */
+public class MetricsCommand extends Command {
+    @Override
+    public void execute() {
+        Ui.printMetrics(CommandMetrics.getStats(), CommandMetrics.getParseFailures());
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
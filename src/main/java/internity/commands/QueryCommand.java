@@ -0,0 +1,39 @@
+package internity.commands;
+
+import internity.core.FilterQuery;
+import internity.core.InternshipList;
+import internity.ui.Ui;
+
+/**
+ * Represents a command that lists the internships matching a query over their fields.
+ * <br>
+ * Command format:
+ * {@code query [CONDITION [AND|OR CONDITION]...] [ORDER BY FIELD [ASC|DESC], ...] [LIMIT COUNT]}
+ *
+ * @see FilterQuery for the query syntax
+ */
+public class QueryCommand extends Command {
+    private final FilterQuery query;
+
+    /**
+     * Constructs a {@code QueryCommand}.
+     *
+     * @param query the compiled query
+     */
+    public QueryCommand(FilterQuery query) {
+        this.query = query;
+    }
+
+    /**
+     * Prints the internships matching the query, in the order it asks for.
+     */
+    @Override
+    public void execute() {
+        Ui.printMatches(InternshipList.findMatches(() -> InternshipList.query(query)));
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -0,0 +1,28 @@
+package internity.commands;
+
+import internity.core.InternityException;
+import internity.core.InternshipList;
+import internity.ui.Ui;
+
+/**
+ * Represents a command that makes the last undone change to the list of internships again.
+ * <br>
+ * Command format:
+ * {@code redo}
+ *
+ * <p>
+ * Undone changes can only be redone until the list is changed in any other way.
+ * </p>
+ */
+public class RedoCommand extends Command {
+    @Override
+    public void execute() throws InternityException {
+        int redone = InternshipList.redo();
+        Ui.printRedo(redone, InternshipList.size());
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
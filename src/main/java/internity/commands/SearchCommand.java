@@ -0,0 +1,39 @@
+package internity.commands;
+
+import internity.core.InternshipList;
+import internity.core.SearchQuery;
+import internity.ui.Ui;
+
+/**
+ * Represents a command that finds internships by keywords in their company name or role.
+ * <br>
+ * Command format:
+ * {@code search KEYWORD [[AND|OR] KEYWORD]...}
+ *
+ * @see SearchQuery for how keywords are matched
+ */
+public class SearchCommand extends Command {
+    private final SearchQuery query;
+
+    /**
+     * Constructs a {@code SearchCommand}.
+     *
+     * @param query the parsed keyword query
+     */
+    public SearchCommand(SearchQuery query) {
+        this.query = query;
+    }
+
+    /**
+     * Prints every internship matching the query, in list order.
+     */
+    @Override
+    public void execute() {
+        Ui.printMatches(InternshipList.findMatches(() -> InternshipList.search(query)));
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
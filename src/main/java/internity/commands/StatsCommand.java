@@ -0,0 +1,26 @@
+package internity.commands;
+
+import internity.core.InternshipList;
+import internity.ui.Ui;
+
+/**
+ * Represents a command that prints counts per status, pay statistics and the number of deadlines per month.
+ * <br>
+ * Command format:
+ * {@code stats}
+ *
+ * <p>
+ * The aggregates are kept up to date as the list changes, so this command never scans the list.
+ * </p>
+ */
+public class StatsCommand extends Command {
+    @Override
+    public void execute() {
+        Ui.printStats(InternshipList.getStats());
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -0,0 +1,30 @@
+package internity.commands;
+
+import internity.core.InternityException;
+import internity.core.InternshipList;
+import internity.ui.Ui;
+
+/**
+ * Represents a command that reverts the last change to the list of internships.
+ * <br>
+ * Command format:
+ * {@code undo}
+ *
+ * <p>
+ * A change made by one command is undone as a whole, so {@code undo} after {@code delete where ...} brings back
+ * every deleted internship at its old position. Only the changes made since Internity started can be undone,
+ * and none while Internity is serving several sessions.
+ * </p>
+ */
+public class UndoCommand extends Command {
+    @Override
+    public void execute() throws InternityException {
+        int undone = InternshipList.undo();
+        Ui.printUndo(undone, InternshipList.size());
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -8,10 +8,13 @@ import internity.ui.Ui;
  * Represents a command that updates the status of an internship application.
  *
  * Command format:
- * update INDEX status/NEW_STATUS
+ * update INDEX status/NEW_STATUS or update #ID status/NEW_STATUS
  */
 public class UpdateCommand extends Command {
+    private static final int NO_ID = -1;
+
     private final int index;
+    private final int id;
     private final String newStatus;
 
     /**
@@ -19,14 +22,34 @@ public class UpdateCommand extends Command {
      * Example: "1 status/Accepted"
      */
     public UpdateCommand(int index, String newStatus) throws InternityException {
+        this(index, NO_ID, newStatus);
+    }
+
+    private UpdateCommand(int index, int id, String newStatus) {
         this.index = index;
+        this.id = id;
         this.newStatus = newStatus;
     }
 
+    /**
+     * Creates a command that updates the status of the internship with the given id.
+     *
+     * @param id the id of the internship to update
+     * @param newStatus the new status
+     * @return the command
+     */
+    public static UpdateCommand byId(int id, String newStatus) {
+        return new UpdateCommand(NO_ID, id, newStatus);
+    }
+
     @Override
     public void execute() throws InternityException {
-        InternshipList.updateStatus(index, newStatus);
-        Ui.printUpdateInternship();
+        if (id == NO_ID) {
+            InternshipList.updateStatus(index, newStatus);
+            Ui.printUpdateInternship(index, newStatus);
+        } else {
+            Ui.printUpdateInternship(InternshipList.updateStatusById(id, newStatus), newStatus);
+        }
     }
 
     @Override
@@ -0,0 +1,46 @@
+package internity.commands;
+
+import java.util.function.Predicate;
+
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+import internity.ui.Ui;
+
+/**
+ * Represents a command that sets the status of every internship matching a condition.
+ * <br>
+ * Command format:
+ * {@code update where CONDITION... set status/NEW_STATUS}
+ *
+ * <p>
+ * The condition is checked once per internship in a single pass over the {@link InternshipList}, and a
+ * single summary line is printed instead of one message per updated internship.
+ * </p>
+ */
+public class UpdateWhereCommand extends Command {
+    private final Predicate<Internship> condition;
+    private final String newStatus;
+
+    /**
+     * Constructs an {@code UpdateWhereCommand}.
+     *
+     * @param condition selects the internships to update
+     * @param newStatus the status to give them
+     */
+    public UpdateWhereCommand(Predicate<Internship> condition, String newStatus) {
+        this.condition = condition;
+        this.newStatus = newStatus;
+    }
+
+    @Override
+    public void execute() throws InternityException {
+        int updated = InternshipList.updateStatusWhere(condition, newStatus);
+        Ui.printUpdateWhere(updated, newStatus);
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -1,53 +1,128 @@
 package internity.core;
 
+/**
+ * An immutable calendar date, stored as a single {@code int} of the form {@code yyyymmdd}.
+ *
+ * <p>
+ * Comparing two dates is a single integer comparison, and the {@code dd-MM-yyyy} text returned by
+ * {@link #toString()} is built once when the date is created. Dates obtained through
+ * {@link #of(int, int, int)} or {@link #fromPacked(int)} are shared: calls with the same date
+ * between {@value #FIRST_CACHED_YEAR} and {@value #LAST_CACHED_YEAR} return the same instance, so
+ * repeated deadlines do not allocate new objects.
+ * </p>
+ */
 public class Date implements Comparable<Date> {
-    private int day;
-    private int month;
-    private int year;
+    private static final int FIRST_CACHED_YEAR = 1900;
+    private static final int LAST_CACHED_YEAR = 2199;
+    private static final int SLOTS_PER_YEAR = 12 * 31;
+    /**
+     * Canonical instances, allocated one year at a time. Racing threads may each create an instance
+     * for the same date, which is harmless because dates are immutable and only their fields are final.
+     */
+    private static final Date[][] cache = new Date[LAST_CACHED_YEAR - FIRST_CACHED_YEAR + 1][];
+
+    private final int packed;
+    private final String text;
 
     public Date(int day, int month, int year) {
-        this.day = day;
-        this.month = month;
-        this.year = year;
+        this.packed = year * 10000 + month * 100 + day;
+        this.text = format(day, month, year);
     }
 
-    public int getMonth() {
-        return month;
+    /**
+     * Returns the shared instance for the given date.
+     *
+     * @param day day of the month, 1-31
+     * @param month month of the year, 1-12
+     * @param year the year
+     * @return a date equal to {@code new Date(day, month, year)}
+     */
+    public static Date of(int day, int month, int year) {
+        if (year < FIRST_CACHED_YEAR || year > LAST_CACHED_YEAR
+                || month < 1 || month > 12 || day < 1 || day > 31) {
+            return new Date(day, month, year);
+        }
+        Date[] yearSlots = cache[year - FIRST_CACHED_YEAR];
+        if (yearSlots == null) {
+            yearSlots = new Date[SLOTS_PER_YEAR];
+            cache[year - FIRST_CACHED_YEAR] = yearSlots;
+        }
+        int slot = (month - 1) * 31 + (day - 1);
+        Date date = yearSlots[slot];
+        if (date == null) {
+            date = new Date(day, month, year);
+            yearSlots[slot] = date;
+        }
+        return date;
     }
 
-    public void setMonth(int month) {
-        this.month = month;
+    /**
+     * Returns the shared instance for a date packed as {@code yyyymmdd}.
+     *
+     * @param packed the date as returned by {@link #getPacked()}
+     * @return the corresponding date
+     */
+    public static Date fromPacked(int packed) {
+        return of(packed % 100, packed / 100 % 100, packed / 10000);
     }
 
-    public int getDay() {
-        return day;
+    /**
+     * Returns this date as an {@code int} of the form {@code yyyymmdd}.
+     * Packed dates sort in the same order as the dates themselves.
+     *
+     * @return the packed date
+     */
+    public int getPacked() {
+        return packed;
     }
 
-    public void setDay(int day) {
-        this.day = day;
+    public int getMonth() {
+        return packed / 100 % 100;
     }
 
-    public int getYear() {
-        return year;
+    public int getDay() {
+        return packed % 100;
     }
 
-    public void setYear(int year) {
-        this.year = year;
+    public int getYear() {
+        return packed / 10000;
     }
 
     @Override
     public int compareTo(Date other) {
-        if (this.year != other.year) {
-            return this.year - other.year;
-        }
-        if (this.month != other.month) {
-            return this.month - other.month;
-        }
-        return this.day - other.day;
+        return Integer.compare(this.packed, other.packed);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Date && ((Date) other).packed == packed;
+    }
+
+    @Override
+    public int hashCode() {
+        return packed;
     }
 
     @Override
     public String toString() {
-        return String.format("%02d-%02d-%04d", day, month, year);
+        return text;
+    }
+
+    private static String format(int day, int month, int year) {
+        StringBuilder builder = new StringBuilder(10);
+        appendPadded(builder, day, 2);
+        builder.append('-');
+        appendPadded(builder, month, 2);
+        builder.append('-');
+        appendPadded(builder, year, 4);
+        return builder.toString();
+    }
+
+    private static void appendPadded(StringBuilder builder, int value, int width) {
+        int start = builder.length();
+        builder.append(value);
+        while (builder.length() - start < width) {
+            builder.insert(start, '0');
+        }
     }
 }
@@ -0,0 +1,431 @@
+package internity.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+import internity.utils.DateFormatter;
+
+/**
+ * A parsed query for the {@code query} command, such as
+ * {@code company~goo AND pay>=5000 AND deadline<30-11-2025 ORDER BY deadline LIMIT 20}.
+ *
+ * <p>
+ * A query is made of optional conditions, an optional {@code ORDER BY} and an optional {@code LIMIT}.
+ * A condition is a field, an operator and a value with no spaces in between; values containing spaces are
+ * written in double quotes, as in {@code company="Jane Street"}. Conditions are joined with {@code AND} and
+ * {@code OR}, and {@code AND} binds tighter and may be left out. A query without conditions matches every
+ * internship.
+ * Keywords are only recognised in upper case.
+ * </p>
+ *
+ * <ul>
+ *     <li>{@code company}, {@code role} and {@code status} support {@code =} and {@code !=}, which compare
+ *     the whole value, and {@code ~}, which matches any part of it. Both ignore case.</li>
+ *     <li>{@code deadline} and {@code pay} support {@code =}, {@code !=}, {@code <}, {@code <=}, {@code >}
+ *     and {@code >=}.</li>
+ * </ul>
+ *
+ * <p>
+ * Parsing compiles the conditions into a single predicate and the sort keys into a single comparator,
+ * so running the query does no further parsing. The {@link QueryPlanner} decides how the matches are found.
+ * </p>
+ */
+public final class FilterQuery {
+    /** The limit of a query without {@code LIMIT}. */
+    public static final int NO_LIMIT = -1;
+
+    /**
+     * A field of {@link Internship} that can be filtered on and sorted by.
+     */
+    enum Field {
+        COMPANY, ROLE, STATUS, DEADLINE, PAY;
+
+        boolean isText() {
+            return this == COMPANY || this == ROLE || this == STATUS;
+        }
+    }
+
+    /**
+     * A comparison between a field and a value.
+     */
+    enum Operator {
+        // Two-character operators come first so that they are matched before their one-character prefixes.
+        NOT_EQUAL("!="), AT_MOST("<="), AT_LEAST(">="), EQUAL("="), LESS("<"), GREATER(">"), CONTAINS("~");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        /**
+         * Returns whether a field compared with the value as {@code comparison} satisfies this operator.
+         */
+        boolean accepts(int comparison) {
+            switch (this) {
+            case NOT_EQUAL:
+                return comparison != 0;
+            case AT_MOST:
+                return comparison <= 0;
+            case AT_LEAST:
+                return comparison >= 0;
+            case LESS:
+                return comparison < 0;
+            case GREATER:
+                return comparison > 0;
+            default:
+                return comparison == 0;
+            }
+        }
+    }
+
+    /**
+     * A single compiled condition, such as {@code pay>=5000}.
+     */
+    static final class Condition {
+        final Field field;
+        final Operator operator;
+        /** The normalized value of a text condition, or {@code null}. */
+        final String text;
+        /** The value of a deadline condition, or {@code null}. */
+        final Date date;
+        final Predicate<Internship> predicate;
+
+        private Condition(Field field, Operator operator, String text, Date date, Predicate<Internship> predicate) {
+            this.field = field;
+            this.operator = operator;
+            this.text = text;
+            this.date = date;
+            this.predicate = predicate;
+        }
+    }
+
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String ORDER = "ORDER";
+    private static final String BY = "BY";
+    private static final String ASC = "ASC";
+    private static final String DESC = "DESC";
+    private static final String LIMIT = "LIMIT";
+    private static final String COMMA = ",";
+
+    private final List<List<Condition>> clauses;
+    private final Predicate<Internship> predicate;
+    private final Field orderField;
+    private final boolean isDescending;
+    private final boolean hasSingleSortKey;
+    private final Comparator<Internship> comparator;
+    private final int limit;
+
+    private FilterQuery(List<List<Condition>> clauses, Predicate<Internship> predicate, List<Field> sortFields,
+            List<Boolean> sortDescending, Comparator<Internship> comparator, int limit) {
+        this.clauses = clauses;
+        this.predicate = predicate;
+        this.orderField = sortFields.isEmpty() ? null : sortFields.get(0);
+        this.isDescending = !sortDescending.isEmpty() && sortDescending.get(0);
+        this.hasSingleSortKey = sortFields.size() == 1;
+        this.comparator = comparator;
+        this.limit = limit;
+    }
+
+    /**
+     * Parses a query such as {@code status=Pending OR pay>3000 ORDER BY pay DESC LIMIT 5}.
+     *
+     * @param query the text after the command word
+     * @return the compiled query
+     * @throws InternityException if the query is empty or malformed, or a value is invalid
+     */
+    public static FilterQuery parse(String query) throws InternityException {
+        if (query == null || query.isBlank()) {
+            throw InternityException.invalidQueryCommand("the query is empty");
+        }
+        List<String> tokens = tokenize(query);
+        int next = 0;
+
+        List<List<Condition>> clauses = new ArrayList<>();
+        List<Condition> clause = new ArrayList<>();
+        String pendingOperator = null;
+        while (next < tokens.size() && !isKeyword(tokens.get(next), ORDER) && !isKeyword(tokens.get(next), LIMIT)) {
+            String token = tokens.get(next++);
+            if (isKeyword(token, AND) || isKeyword(token, OR)) {
+                if (clause.isEmpty() || pendingOperator != null) {
+                    throw InternityException.invalidQueryCommand(token + " must be between two conditions");
+                }
+                if (isKeyword(token, OR)) {
+                    clauses.add(Collections.unmodifiableList(clause));
+                    clause = new ArrayList<>();
+                }
+                pendingOperator = token;
+            } else {
+                clause.add(parseCondition(token));
+                pendingOperator = null;
+            }
+        }
+        if (pendingOperator != null) {
+            throw InternityException.invalidQueryCommand("missing condition after " + pendingOperator);
+        }
+        if (!clause.isEmpty()) {
+            clauses.add(Collections.unmodifiableList(clause));
+        }
+
+        List<Field> sortFields = new ArrayList<>();
+        List<Boolean> sortDescending = new ArrayList<>();
+        Comparator<Internship> comparator = null;
+        if (next < tokens.size() && isKeyword(tokens.get(next), ORDER)) {
+            next++;
+            if (next == tokens.size() || !isKeyword(tokens.get(next), BY)) {
+                throw InternityException.invalidQueryCommand("ORDER must be followed by BY");
+            }
+            do {
+                next++;
+                if (next == tokens.size()) {
+                    throw InternityException.invalidQueryCommand("missing field to order by");
+                }
+                Field field = parseField(tokens.get(next++));
+                boolean isDescending = false;
+                if (next < tokens.size() && (isKeyword(tokens.get(next), ASC) || isKeyword(tokens.get(next), DESC))) {
+                    isDescending = isKeyword(tokens.get(next++), DESC);
+                }
+                sortFields.add(field);
+                sortDescending.add(isDescending);
+                Comparator<Internship> key = isDescending ? comparing(field).reversed() : comparing(field);
+                comparator = comparator == null ? key : comparator.thenComparing(key);
+            } while (next < tokens.size() && tokens.get(next).equals(COMMA));
+        }
+
+        int limit = NO_LIMIT;
+        if (next < tokens.size() && isKeyword(tokens.get(next), LIMIT)) {
+            next++;
+            if (next == tokens.size()) {
+                throw InternityException.invalidQueryCommand("missing number after LIMIT");
+            }
+            limit = parseLimit(tokens.get(next++));
+        }
+
+        if (next < tokens.size()) {
+            throw InternityException.invalidQueryCommand("unexpected \"" + tokens.get(next) + "\"");
+        }
+        return new FilterQuery(Collections.unmodifiableList(clauses), compile(clauses), sortFields, sortDescending,
+                comparator, limit);
+    }
+
+    /**
+     * Returns whether {@code internship} satisfies the conditions of this query.
+     *
+     * @param internship the internship to test
+     * @return {@code true} if it matches
+     */
+    public boolean matches(Internship internship) {
+        return predicate.test(internship);
+    }
+
+    /**
+     * Returns the comparator given by {@code ORDER BY}.
+     *
+     * @return the comparator, or {@code null} to keep list order
+     */
+    public Comparator<Internship> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Returns the maximum number of matches to return.
+     *
+     * @return the limit, or {@link #NO_LIMIT}
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns the alternatives of this query. Each alternative is a list of conditions that must all hold.
+     * A query without conditions has no alternatives.
+     */
+    List<List<Condition>> getClauses() {
+        return clauses;
+    }
+
+    /**
+     * Returns the first field given by {@code ORDER BY}, or {@code null} if there is none.
+     */
+    Field getOrderField() {
+        return orderField;
+    }
+
+    boolean isDescending() {
+        return isDescending;
+    }
+
+    boolean hasSingleSortKey() {
+        return hasSingleSortKey;
+    }
+
+    /**
+     * Splits {@code query} on spaces outside double quotes, removing the quotes, and makes every comma
+     * outside quotes a token of its own.
+     */
+    private static List<String> tokenize(String query) throws InternityException {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+        boolean isQuoted = false;
+        boolean hasToken = false;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c == '"') {
+                isQuoted = !isQuoted;
+                hasToken = true;
+            } else if (!isQuoted && (Character.isWhitespace(c) || c == ',')) {
+                if (hasToken) {
+                    tokens.add(token.toString());
+                    token.setLength(0);
+                    hasToken = false;
+                }
+                if (c == ',') {
+                    tokens.add(COMMA);
+                }
+            } else {
+                token.append(c);
+                hasToken = true;
+            }
+        }
+        if (isQuoted) {
+            throw InternityException.invalidQueryCommand("missing closing quote");
+        }
+        if (hasToken) {
+            tokens.add(token.toString());
+        }
+        return tokens;
+    }
+
+    private static boolean isKeyword(String token, String keyword) {
+        return token.equals(keyword);
+    }
+
+    private static Condition parseCondition(String token) throws InternityException {
+        int nameEnd = 0;
+        while (nameEnd < token.length() && Character.isLetter(token.charAt(nameEnd))) {
+            nameEnd++;
+        }
+        if (nameEnd == 0 || nameEnd == token.length()) {
+            throw InternityException.invalidQueryCommand("\"" + token + "\" is not a condition");
+        }
+        Field field = parseField(token.substring(0, nameEnd));
+        Operator operator = null;
+        for (Operator candidate : Operator.values()) {
+            if (token.startsWith(candidate.symbol, nameEnd)) {
+                operator = candidate;
+                break;
+            }
+        }
+        if (operator == null) {
+            throw InternityException.invalidQueryCommand("\"" + token + "\" has no operator");
+        }
+        String value = token.substring(nameEnd + operator.symbol.length());
+        if (value.isEmpty()) {
+            throw InternityException.invalidQueryCommand("\"" + token + "\" has no value");
+        }
+        boolean isOrdering = operator != Operator.EQUAL && operator != Operator.NOT_EQUAL
+                && operator != Operator.CONTAINS;
+        if (field.isText() ? isOrdering : operator == Operator.CONTAINS) {
+            throw InternityException.invalidQueryCommand(name(field) + " cannot be compared with " + operator.symbol);
+        }
+        return compileCondition(field, operator, value);
+    }
+
+    private static Condition compileCondition(Field field, Operator operator, String value)
+            throws InternityException {
+        if (field == Field.DEADLINE) {
+            Date date = DateFormatter.parse(value);
+            return new Condition(field, operator, null, date,
+                    internship -> operator.accepts(internship.getDeadline().compareTo(date)));
+        }
+        if (field == Field.PAY) {
+            int pay = parsePay(value);
+            return new Condition(field, operator, null, null,
+                    internship -> operator.accepts(Integer.compare(internship.getPay(), pay)));
+        }
+        String text = normalize(value);
+        if (operator == Operator.CONTAINS) {
+            return new Condition(field, operator, text, null,
+                    internship -> normalize(textOf(field, internship)).contains(text));
+        }
+        boolean isEqual = operator == Operator.EQUAL;
+        return new Condition(field, operator, text, null,
+                internship -> normalize(textOf(field, internship)).equals(text) == isEqual);
+    }
+
+    private static Predicate<Internship> compile(List<List<Condition>> clauses) {
+        Predicate<Internship> any = null;
+        for (List<Condition> clause : clauses) {
+            Predicate<Internship> all = null;
+            for (Condition condition : clause) {
+                all = all == null ? condition.predicate : all.and(condition.predicate);
+            }
+            any = any == null ? all : any.or(all);
+        }
+        return any == null ? internship -> true : any;
+    }
+
+    private static Field parseField(String name) throws InternityException {
+        for (Field field : Field.values()) {
+            if (name(field).equals(name)) {
+                return field;
+            }
+        }
+        throw InternityException.invalidQueryCommand("unknown field \"" + name + "\"");
+    }
+
+    private static String name(Field field) {
+        return field.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static int parsePay(String value) throws InternityException {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw InternityException.invalidQueryCommand("pay must be a whole number, got \"" + value + "\"");
+        }
+    }
+
+    private static int parseLimit(String value) throws InternityException {
+        try {
+            int limit = Integer.parseInt(value);
+            if (limit > 0) {
+                return limit;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw InternityException.invalidQueryCommand("LIMIT must be a positive number, got \"" + value + "\"");
+    }
+
+    private static Comparator<Internship> comparing(Field field) {
+        switch (field) {
+        case DEADLINE:
+            return Comparator.comparing(Internship::getDeadline);
+        case PAY:
+            return Comparator.comparingInt(Internship::getPay);
+        default:
+            return Comparator.comparing(internship -> normalize(textOf(field, internship)));
+        }
+    }
+
+    private static String textOf(Field field, Internship internship) {
+        switch (field) {
+        case COMPANY:
+            return internship.getCompany();
+        case ROLE:
+            return internship.getRole();
+        default:
+            return internship.getStatus();
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
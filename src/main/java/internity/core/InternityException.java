@@ -9,10 +9,21 @@ package internity.core;
  * </p>
  */
 public class InternityException extends Exception {
+    private static final String ADD_USAGE = "add company/COMPANY_NAME role/ROLE_NAME deadline/DEADLINE pay/PAY_AMOUNT";
+    private static final String UPDATE_USAGE = "update INDEX|#ID status/NEW_STATUS";
+    private static final String WHERE_USAGE = "update where CONDITION... set status/NEW_STATUS "
+            + "or delete where CONDITION...";
+    private static final String QUERY_USAGE = "query [CONDITION [AND|OR CONDITION]...] "
+            + "[ORDER BY FIELD [ASC|DESC], ...] [LIMIT COUNT]";
+
     public InternityException(String message) {
         super(message);
     }
 
+    public InternityException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
     public static InternityException invalidInput() {
         return new InternityException("Input cannot be null or blank");
     }
@@ -26,19 +37,122 @@ public class InternityException extends Exception {
     }
 
     public static InternityException invalidAddCommand() {
-        return new InternityException("Invalid add command. Usage: add company/COMPANY_NAME" +
-                " role/ROLE_NAME deadline/DEADLINE pay/PAY_AMOUNT");
+        return new InternityException("Invalid add command. Usage: " + ADD_USAGE);
+    }
+
+    public static InternityException invalidAddField(String detail) {
+        return new InternityException("Invalid add command: " + detail + ". Usage: " + ADD_USAGE);
+    }
+
+    public static InternityException invalidUpdateCommand() {
+        return new InternityException("Invalid update command format. Use: " + UPDATE_USAGE);
+    }
+
+    public static InternityException invalidUpdateField(String detail) {
+        return new InternityException("Invalid update command: " + detail + ". Use: " + UPDATE_USAGE);
+    }
+
+    public static InternityException invalidWhereClause(String detail) {
+        return new InternityException("Invalid where clause: " + detail + ". Usage: " + WHERE_USAGE);
     }
 
     public static InternityException invalidDeleteCommand() {
-        return new InternityException("Invalid delete command. Usage: delete INDEX");
+        return new InternityException("Invalid delete command. Usage: delete INDEX|#ID");
     }
 
     public static InternityException invalidInternshipIndex() {
         return new InternityException("Invalid internship index.");
     }
 
+    public static InternityException duplicateInternshipId(int id) {
+        return new InternityException("ID #" + id + " has already been given to an internship.");
+    }
+
+    public static InternityException unknownInternshipId(int id) {
+        return new InternityException("No internship has ID #" + id + ".");
+    }
+
     public static InternityException invalidListCommand() {
-        return new InternityException("Invalid list command. Usage: list");
+        return new InternityException("Invalid list command. Usage: list [--page PAGE] [--size PAGE_SIZE]");
+    }
+
+    public static InternityException invalidFindCommand() {
+        return new InternityException("Invalid find command. Usage: find company/COMPANY_NAME or find status/STATUS");
+    }
+
+    public static InternityException invalidDueCommand() {
+        return new InternityException("Invalid due command. Usage: due before/DEADLINE");
+    }
+
+    public static InternityException invalidSearchCommand() {
+        return new InternityException("Invalid search command. Usage: search KEYWORD [[AND|OR] KEYWORD]...");
+    }
+
+    public static InternityException invalidQueryCommand(String detail) {
+        return new InternityException("Invalid query: " + detail + ". Usage: " + QUERY_USAGE);
+    }
+
+    public static InternityException invalidStatsCommand() {
+        return new InternityException("Invalid stats command. Usage: stats");
+    }
+
+    public static InternityException invalidMetricsCommand() {
+        return new InternityException("Invalid metrics command. Usage: metrics");
+    }
+
+    public static InternityException invalidUndoCommand() {
+        return new InternityException("Invalid undo command. Usage: undo");
+    }
+
+    public static InternityException invalidRedoCommand() {
+        return new InternityException("Invalid redo command. Usage: redo");
+    }
+
+    public static InternityException nothingToUndo() {
+        return new InternityException("There is no change to undo.");
+    }
+
+    public static InternityException nothingToRedo() {
+        return new InternityException("There is no undone change to redo.");
+    }
+
+    public static InternityException undoUnavailable() {
+        return new InternityException("Undo and redo are not available while Internity is serving several sessions.");
+    }
+
+    public static InternityException misplacedInternshipId(int id, int index) {
+        return new InternityException("ID #" + id + " does not belong at index " + index + ".");
+    }
+
+    public static InternityException invalidImportCommand() {
+        return new InternityException("Invalid import command. Usage: import FILE.csv");
+    }
+
+    public static InternityException importError(String file, String detail) {
+        return new InternityException("Unable to import " + file + ": " + detail);
+    }
+
+    public static InternityException invalidCsvRow(int line, String detail) {
+        return new InternityException("Nothing was imported. Line " + line + " is invalid: " + detail);
+    }
+
+    public static InternityException invalidExportCommand() {
+        return new InternityException("Invalid export command. Usage: export csv|json FILE");
+    }
+
+    public static InternityException exportError(String file, String detail) {
+        return new InternityException("Unable to export to " + file + ": " + detail);
+    }
+
+    public static InternityException pageOutOfRange(int page, int pageCount) {
+        return new InternityException("Page " + page + " does not exist. There are " + pageCount + " page(s).");
+    }
+
+    public static InternityException storageError(String detail, Throwable cause) {
+        return new InternityException("Unable to access saved internships: " + detail, cause);
+    }
+
+    public static InternityException corruptedStorage(String detail) {
+        return new InternityException("Saved internships are corrupted: " + detail);
     }
 }
@@ -0,0 +1,293 @@
+package internity.core;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.IntPredicate;
+
+import internity.utils.IntList;
+
+/**
+ * Secondary indexes over the {@link InternshipList}, kept up to date as the list changes.
+ *
+ * <p>
+ * Internships are indexed by company and by status (case-insensitive, in hash maps) and by deadline
+ * (in a sorted map). Each index entry holds the ascending {@linkplain SlotTable slots} of the matching
+ * internships, so a lookup costs one map access plus the number of matches instead of a scan of the whole list.
+ * </p>
+ *
+ * <p>
+ * Adding and updating an internship only touch its own entries. Deleting one leaves its entries in place:
+ * lookups return tombstoned slots too, which the {@link SlotTable} drops when converting them to positions,
+ * and compacting the slots removes those of the dropped tombstones together with renumbering every entry in
+ * one pass.
+ * After {@link #invalidate(List)} the indexes are rebuilt on the next lookup rather than straight away,
+ * so loading a large saved list does not have to read every record up front.
+ * </p>
+ */
+class InternshipIndex {
+    private final Map<String, IntList> byCompany = new HashMap<>();
+    private final Map<String, IntList> byStatus = new HashMap<>();
+    private final NavigableMap<Date, IntList> byDeadline = new TreeMap<>();
+    private List<Internship> internships;
+    private volatile boolean isValid = true;
+
+    /**
+     * Creates indexes over the slots of {@code internships}, which must be empty.
+     */
+    InternshipIndex(List<Internship> internships) {
+        this.internships = internships;
+    }
+
+    /**
+     * Discards the indexes so they are rebuilt from {@code internships} on the next lookup.
+     *
+     * @param internships the list the indexes describe from now on
+     */
+    void invalidate(List<Internship> internships) {
+        this.internships = internships;
+        isValid = false;
+        byCompany.clear();
+        byStatus.clear();
+        byDeadline.clear();
+    }
+
+    int[] findByCompany(String company) {
+        return find(byCompany, normalize(company));
+    }
+
+    int[] findByStatus(String status) {
+        return find(byStatus, normalize(status));
+    }
+
+    /**
+     * Returns the slots of internships with a deadline strictly before {@code date},
+     * ordered by deadline and then by slot.
+     */
+    int[] findDueBefore(Date date) {
+        ensureValid();
+        NavigableMap<Date, IntList> due = byDeadline.headMap(date, false);
+        int count = 0;
+        for (IntList matches : due.values()) {
+            count += matches.size();
+        }
+        int[] result = new int[count];
+        int next = 0;
+        for (IntList matches : due.values()) {
+            for (int i = 0; i < matches.size(); i++) {
+                result[next++] = matches.get(i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of index entries for {@code company}, which may include deleted internships.
+     */
+    int countByCompany(String company) {
+        return count(byCompany, normalize(company));
+    }
+
+    /**
+     * Returns the number of index entries for {@code status}, which may include deleted internships.
+     */
+    int countByStatus(String status) {
+        return count(byStatus, normalize(status));
+    }
+
+    /**
+     * Passes the slots of internships with a deadline in the given range to {@code action}, ordered by deadline
+     * and then by ascending slot, until {@code action} returns {@code false}. Deleted internships are included.
+     *
+     * @param from the lower bound, or {@code null} for none
+     * @param to the upper bound, or {@code null} for none
+     * @param isDescending whether to visit the latest deadlines first
+     */
+    void forEachByDeadline(Date from, boolean isFromInclusive, Date to, boolean isToInclusive, boolean isDescending,
+            IntPredicate action) {
+        ensureValid();
+        if (from != null && to != null) {
+            int comparison = from.compareTo(to);
+            if (comparison > 0 || comparison == 0 && !(isFromInclusive && isToInclusive)) {
+                return;
+            }
+        }
+        NavigableMap<Date, IntList> range = byDeadline;
+        if (from != null) {
+            range = range.tailMap(from, isFromInclusive);
+        }
+        if (to != null) {
+            range = range.headMap(to, isToInclusive);
+        }
+        if (isDescending) {
+            range = range.descendingMap();
+        }
+        for (IntList matches : range.values()) {
+            for (int i = 0; i < matches.size(); i++) {
+                if (!action.test(matches.get(i))) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Indexes the internship just stored in the last slot.
+     */
+    void add(int slot, Internship internship) {
+        if (!isValid) {
+            return;
+        }
+        assert slot == internships.size() - 1 : "Internships are only appended";
+        append(slot, internship);
+    }
+
+    /**
+     * Indexes the internships just stored in the last slots, starting from {@code fromSlot}.
+     */
+    void addAll(int fromSlot, List<Internship> added) {
+        if (!isValid) {
+            return;
+        }
+        assert fromSlot + added.size() == internships.size() : "Internships are only appended";
+        for (int i = 0; i < added.size(); i++) {
+            append(fromSlot + i, added.get(i));
+        }
+    }
+
+    /**
+     * Moves the internship in {@code slot} from its old status entry to the entry of its new status.
+     */
+    void updateStatus(int slot, Internship internship, String oldStatus) {
+        if (!isValid) {
+            return;
+        }
+        remove(byStatus, normalize(oldStatus), slot);
+        postings(byStatus, normalize(internship.getStatus())).insert(slot);
+    }
+
+    /**
+     * Moves several internships to the entries of their new statuses, touching each affected entry once.
+     *
+     * @param updatedSlots the slots of the updated internships, in ascending order
+     * @param updated the internships, already carrying their new status
+     * @param oldStatuses the status of each internship before the update
+     */
+    void updateStatusAll(int[] updatedSlots, List<Internship> updated, List<String> oldStatuses) {
+        if (!isValid) {
+            return;
+        }
+        Map<String, IntList> removed = new HashMap<>();
+        Map<String, IntList> added = new HashMap<>();
+        for (int i = 0; i < updatedSlots.length; i++) {
+            postings(removed, normalize(oldStatuses.get(i))).add(updatedSlots[i]);
+            postings(added, normalize(updated.get(i).getStatus())).add(updatedSlots[i]);
+        }
+        for (Map.Entry<String, IntList> entry : removed.entrySet()) {
+            IntList matches = byStatus.get(entry.getKey());
+            if (matches != null) {
+                matches.removeAll(entry.getValue());
+                if (matches.isEmpty()) {
+                    byStatus.remove(entry.getKey());
+                }
+            }
+        }
+        for (Map.Entry<String, IntList> entry : added.entrySet()) {
+            byStatus.merge(entry.getKey(), entry.getValue(), IntList::union);
+        }
+    }
+
+    /**
+     * Renumbers every entry after the slots have been compacted and drops the entries of deleted internships.
+     *
+     * @param newSlots the new slot of each old slot, or {@code -1} for a tombstone
+     */
+    void compact(int[] newSlots) {
+        if (!isValid) {
+            return;
+        }
+        remap(byCompany, newSlots);
+        remap(byStatus, newSlots);
+        remap(byDeadline, newSlots);
+    }
+
+    void clear() {
+        byCompany.clear();
+        byStatus.clear();
+        byDeadline.clear();
+        isValid = true;
+    }
+
+    /**
+     * Rebuilds the index if it was invalidated. Lookups run concurrently under the list's read lock,
+     * so the first of them rebuilds the index while the others wait.
+     */
+    private void ensureValid() {
+        if (isValid) {
+            return;
+        }
+        synchronized (this) {
+            if (isValid) {
+                return;
+            }
+            // Tombstones are indexed as well, as they are when deleted after the rebuild, since they may be revived.
+            for (int slot = 0; slot < internships.size(); slot++) {
+                append(slot, internships.get(slot));
+            }
+            isValid = true;
+        }
+    }
+
+    /**
+     * Adds {@code internship} in {@code slot}, which must be after every indexed slot.
+     */
+    private void append(int slot, Internship internship) {
+        if (internship == null) {
+            return;
+        }
+        postings(byCompany, normalize(internship.getCompany())).add(slot);
+        postings(byStatus, normalize(internship.getStatus())).add(slot);
+        postings(byDeadline, internship.getDeadline()).add(slot);
+    }
+
+    private int[] find(Map<String, IntList> index, String key) {
+        ensureValid();
+        IntList matches = index.get(key);
+        return matches == null ? new int[0] : matches.toArray();
+    }
+
+    private int count(Map<String, IntList> index, String key) {
+        ensureValid();
+        IntList matches = index.get(key);
+        return matches == null ? 0 : matches.size();
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static <K> IntList postings(Map<K, IntList> index, K key) {
+        return index.computeIfAbsent(key, ignored -> new IntList());
+    }
+
+    private static <K> void remove(Map<K, IntList> index, K key, int slot) {
+        IntList matches = index.get(key);
+        if (matches == null) {
+            return;
+        }
+        matches.remove(slot);
+        if (matches.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static void remap(Map<?, IntList> index, int[] newSlots) {
+        index.values().removeIf(matches -> {
+            matches.remap(newSlots);
+            return matches.isEmpty();
+        });
+    }
+}
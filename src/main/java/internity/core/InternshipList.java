@@ -1,88 +1,1135 @@
 package internity.core;
 
+import internity.ui.TableRenderer;
 import internity.ui.Ui;
+import internity.utils.IntList;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
 
 import java.util.logging.Logger;
 
+/**
+ * The list of internships shared by every command.
+ *
+ * <p>
+ * All methods are thread-safe. Reads share a read lock, so any number of sessions can list and search at
+ * the same time, while each mutation and its listener callbacks run alone under the write lock. Code that
+ * combines several reads should run them inside {@link #read(ReadAction)} so the list cannot change in
+ * between. Printing, which may wait on a slow client, should happen outside the lock: a lookup whose matches
+ * are to be printed goes through {@link #findMatches(Lookup)}, which pairs them with a snapshot.
+ * </p>
+ *
+ * <p>
+ * Every internship gets an id when it is added. Unlike its index, which counts the internships before it,
+ * the id never changes and is saved along with the internship, so it can be used to refer to the same
+ * internship across deletes and restarts. Deleting an internship only marks its slot in the backing list as
+ * a tombstone, which costs O(log n) instead of shifting every later internship. Once the tombstones outnumber
+ * the live internships, a background thread compacts the backing list in a single pass.
+ * </p>
+ *
+ * <p>
+ * Each mutation also publishes a new {@link InternshipSnapshot}, derived from the previous one in O(log n).
+ * Long reads such as listing and exporting iterate over a {@linkplain #snapshot() snapshot} without any lock,
+ * so they neither block mutations nor see them half-done. Updated internships are replaced by copies rather
+ * than changed in place, so that older snapshots keep the old values.
+ * </p>
+ *
+ * <p>
+ * The last {@value UndoLog#DEFAULT_CAPACITY} mutations can be {@linkplain #undo() undone} and
+ * {@linkplain #redo() redone}. The {@link UndoLog} only records the ids each of them touched: deleted
+ * internships stay behind as tombstones, which compaction keeps while they may still be brought back.
+ * </p>
+ *
+ * <p>
+ * Every mutation is reported to Flight Recorder as a {@link ListMutationEvent}.
+ * </p>
+ */
 public class InternshipList {
     private static final Logger logger = Logger.getLogger(InternshipList.class.getName());
-    private static final ArrayList<Internship> List = new ArrayList<>();
+    private static final int MIN_TOMBSTONES_BEFORE_COMPACTION = 1024;
+    private static final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private static final Lock readLock = lock.readLock();
+    private static final Lock writeLock = lock.writeLock();
+    private static final List<ListMutationListener> listeners = new CopyOnWriteArrayList<>();
+    private static final SlotTable slots = new SlotTable();
+    private static List<Internship> internships = new ArrayList<>();
+    private static final InternshipIndex index = new InternshipIndex(internships);
+    private static final KeywordIndex keywordIndex = new KeywordIndex(internships);
+    private static final StatsTracker stats = new StatsTracker(internships, slots);
+    private static final UndoLog history = new UndoLog();
+    private static volatile boolean isUndoEnabled = true;
+    private static final Object snapshotBuildLock = new Object();
+    /** The latest snapshot, or {@code null} until it is rebuilt after {@link #restore(List)}. */
+    private static volatile InternshipSnapshot snapshot = InternshipSnapshot.EMPTY;
+    private static final List<Internship> liveView = new LiveView();
+    private static final AtomicBoolean isCompactionScheduled = new AtomicBoolean();
+    private static final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "internity-compaction");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     public InternshipList() {
 
     }
 
+    /**
+     * An action that reads the list and may throw a checked exception.
+     *
+     * @param <E> the type of exception thrown
+     */
+    @FunctionalInterface
+    public interface ReadAction<E extends Exception> {
+        void run() throws E;
+    }
+
+    /**
+     * A lookup returning the positions of matching internships.
+     */
+    @FunctionalInterface
+    public interface Lookup {
+        int[] find();
+    }
+
+    /**
+     * The positions found by a lookup, together with the snapshot they refer to.
+     */
+    public static final class Matches {
+        private final InternshipSnapshot snapshot;
+        private final int[] positions;
+
+        private Matches(InternshipSnapshot snapshot, int[] positions) {
+            this.snapshot = snapshot;
+            this.positions = positions;
+        }
+
+        public InternshipSnapshot getSnapshot() {
+            return snapshot;
+        }
+
+        /**
+         * Returns the zero-based positions of the matches in {@link #getSnapshot()}.
+         */
+        public int[] getPositions() {
+            return positions;
+        }
+    }
+
+    /**
+     * Runs {@code action} while holding the read lock, so the list does not change until it returns.
+     * The action may call any reading method of this class, but must not modify the list.
+     *
+     * @param action the action to run
+     * @param <E> the type of exception thrown by the action
+     * @throws E if the action throws it
+     */
+    public static <E extends Exception> void read(ReadAction<E> action) throws E {
+        readLock.lock();
+        try {
+            action.run();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the contents of the list with {@code restored}, which becomes the backing list.
+     *
+     * <p>
+     * This is used when loading saved internships, so listeners are not notified.
+     * The given list must support {@code add}, {@code remove}, {@code set} and {@code clear}.
+     * The internships are given new ids, starting from 1 in list order, and the undo history is forgotten.
+     * </p>
+     *
+     * @param restored the list to use from now on
+     */
+    public static void restore(List<Internship> restored) {
+        int[] ids = new int[restored.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i + 1;
+        }
+        restore(restored, ids, ids.length + 1);
+    }
+
+    /**
+     * Replaces the contents of the list with {@code restored}, which becomes the backing list, keeping the
+     * ids the internships were saved with. Otherwise the same as {@link #restore(List)}.
+     *
+     * @param restored the list to use from now on
+     * @param ids the id of each internship, in ascending order
+     * @param nextId the id the next internship added will get, which is above every id in {@code ids}
+     * @throws IllegalArgumentException if the ids are not ascending, do not match the internships or are not
+     *     below {@code nextId}
+     */
+    public static void restore(List<Internship> restored, int[] ids, int nextId) {
+        if (ids.length != restored.size()) {
+            throw new IllegalArgumentException("Expected " + restored.size() + " ids but got " + ids.length);
+        }
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] <= 0 || ids[i] >= nextId || (i > 0 && ids[i] <= ids[i - 1])) {
+                throw new IllegalArgumentException("Invalid id #" + ids[i] + " at index " + i);
+            }
+        }
+        ListMutationEvent event = new ListMutationEvent();
+        event.begin();
+        writeLock.lock();
+        try {
+            internships = restored;
+            slots.reset(ids, nextId);
+            index.invalidate(restored);
+            keywordIndex.invalidate(restored);
+            stats.invalidate(restored);
+            history.clear();
+            snapshot = null;
+            event.finish("restore", restored.size(), slots.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Registers a listener that is notified after every mutation of the list.
+     *
+     * @param listener the listener to register
+     */
+    public static void addListener(ListMutationListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a previously registered listener.
+     *
+     * @param listener the listener to remove
+     */
+    public static void removeListener(ListMutationListener listener) {
+        listeners.remove(listener);
+    }
+
     public static void add(Internship item) {
-        List.add(item);
+        ListMutationEvent event = new ListMutationEvent();
+        event.begin();
+        writeLock.lock();
+        try {
+            append(item, slots.getNextId());
+            event.finish("add", 1, slots.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Appends an internship that keeps the id it was saved with. This is used when replaying saved changes.
+     *
+     * @param item the internship to append
+     * @param id its id, which must not be below {@link #getNextId()}
+     * @throws InternityException if the id has already been handed out
+     */
+    public static void addWithId(Internship item, int id) throws InternityException {
+        ListMutationEvent event = new ListMutationEvent();
+        event.begin();
+        writeLock.lock();
+        try {
+            if (id < slots.getNextId()) {
+                throw InternityException.duplicateInternshipId(id);
+            }
+            append(item, id);
+            event.finish("add", 1, slots.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static void append(Internship item, int id) {
+        internships.add(item);
+        slots.append(id);
+        if (snapshot != null) {
+            snapshot = snapshot.withAdded(id, item);
+        }
+        int slot = internships.size() - 1;
+        index.add(slot, item);
+        keywordIndex.add(slot, item);
+        stats.add(item);
+        record(UndoLog.Step.add(new int[] {id}));
+        for (ListMutationListener listener : listeners) {
+            listener.onAdd(slots.size() - 1, item);
+        }
+    }
+
+    /**
+     * Appends every internship in {@code items}, in order, as a single operation.
+     * Listeners are notified once for the whole batch.
+     *
+     * @param items the internships to append
+     */
+    public static void addAll(List<Internship> items) {
+        ListMutationEvent event = new ListMutationEvent();
+        event.begin();
+        writeLock.lock();
+        try {
+            int fromSlot = internships.size();
+            int fromIndex = slots.size();
+            internships.addAll(items);
+            int[] ids = new int[items.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = slots.append();
+            }
+            if (snapshot != null) {
+                snapshot = snapshot.withAddedAll(ids, items);
+            }
+            index.addAll(fromSlot, items);
+            keywordIndex.addAll(fromSlot, items);
+            stats.addAll(items);
+            if (ids.length > 0) {
+                record(UndoLog.Step.add(ids));
+            }
+            for (ListMutationListener listener : listeners) {
+                listener.onAddAll(fromIndex, items);
+            }
+            event.finish("addAll", items.size(), slots.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the internship at {@code index}.
+     *
+     * @param index zero-based index of the internship to remove
+     * @return the removed internship
+     * @throws InternityException if there is no internship at that index
+     */
+    public static Internship delete(int index) throws InternityException {
+        ListMutationEvent event = new ListMutationEvent();
+        event.begin();
+        writeLock.lock();
+        try {
+            if (index < 0 || index >= slots.size()) {
+                throw new InternityException("Invalid internship index: " + (index + 1));
+            }
+            return deleteSlot(slots.slotOf(index), index, event);
+        } finally {
+            writeLock.unlock();
+        }
     }
 
-    public static void delete(int index) throws InternityException {
-        if (index < 0 || index >= List.size()) {
-            throw new InternityException("Invalid internship index: " + (index + 1));
+    /**
+     * Removes the internship with the given id.
+     *
+     * @param id the id of the internship to remove
+     * @return the removed internship
+     * @throws InternityException if no internship has that id
+     */
+    public static Internship deleteById(int id) throws InternityException {
+        ListMutationEvent event = new ListMutationEvent();
+        event.begin();
+        writeLock.lock();
+        try {
+            int slot = requireSlotOfId(id);
+            return deleteSlot(slot, slots.positionOf(slot), event);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static Internship deleteSlot(int slot, int position, ListMutationEvent event) {
+        Internship removed = internships.get(slot);
+        slots.delete(slot);
+        if (snapshot != null) {
+            snapshot = snapshot.withRemoved(position);
+        }
+        stats.remove(removed);
+        record(UndoLog.Step.delete(new int[] {slots.getId(slot)}));
+        for (ListMutationListener listener : listeners) {
+            listener.onDelete(position, removed);
+        }
+        scheduleCompactionIfNeeded();
+        event.finish("delete", 1, slots.size());
+        return removed;
+    }
+
+    /**
+     * Removes every internship matching {@code condition} in a single pass over the list.
+     * Listeners are notified once for the whole batch.
+     *
+     * @param condition selects the internships to remove
+     * @return the number of internships removed
+     */
+    public static int deleteWhere(Predicate<Internship> condition) {
+        ListMutationEvent event = new ListMutationEvent();
+        event.begin();
+        writeLock.lock();
+        try {
+            IntList positions = new IntList();
+            IntList ids = new IntList();
+            List<Internship> removed = new ArrayList<>();
+            int position = 0;
+            for (int slot = 0; slot < internships.size(); slot++) {
+                if (!slots.isLive(slot)) {
+                    continue;
+                }
+                Internship internship = internships.get(slot);
+                if (internship != null && condition.test(internship)) {
+                    slots.delete(slot);
+                    stats.remove(internship);
+                    positions.add(position);
+                    ids.add(slots.getId(slot));
+                    removed.add(internship);
+                }
+                position++;
+            }
+            if (!removed.isEmpty()) {
+                int[] indexes = positions.toArray();
+                if (snapshot != null) {
+                    snapshot = snapshot.withRemovedAll(indexes);
+                }
+                record(UndoLog.Step.delete(ids.toArray()));
+                for (ListMutationListener listener : listeners) {
+                    listener.onDeleteAll(indexes, removed);
+                }
+                scheduleCompactionIfNeeded();
+            }
+            event.finish("deleteWhere", removed.size(), slots.size());
+            return removed.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static void scheduleCompactionIfNeeded() {
+        int tombstones = slots.getTombstoneCount() - history.getRetainedCount();
+        if (tombstones >= Math.max(MIN_TOMBSTONES_BEFORE_COMPACTION, slots.size())
+                && isCompactionScheduled.compareAndSet(false, true)) {
+            compactor.execute(InternshipList::compactInBackground);
         }
-        List.remove(index);
     }
 
     public static Internship get(int index) throws InternityException {
-        if (index < 0 || index >= List.size()) {
-            throw new InternityException("Invalid internship index: " + (index + 1));
+        readLock.lock();
+        try {
+            if (index < 0 || index >= slots.size()) {
+                throw new InternityException("Invalid internship index: " + (index + 1));
+            }
+            return internships.get(slots.slotOf(index));
+        } finally {
+            readLock.unlock();
         }
-        return List.get(index);
     }
 
     public static int size() {
-        return List.size();
+        readLock.lock();
+        try {
+            return slots.size();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the id the next internship added will get. Ids are never handed out twice, except that
+     * {@link #clear()} starts again from 1.
+     *
+     * @return the next id
+     */
+    public static int getNextId() {
+        readLock.lock();
+        try {
+            return slots.getNextId();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the id of the internship at {@code index}.
+     *
+     * @param index zero-based index of the internship
+     * @return the id of the internship
+     * @throws IndexOutOfBoundsException if there is no internship at that index
+     */
+    public static int getId(int index) {
+        readLock.lock();
+        try {
+            return idAt(index);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private static int idAt(int index) {
+        Objects.checkIndex(index, slots.size());
+        return slots.getId(slots.slotOf(index));
+    }
+
+    /**
+     * Returns the internships as they are now. The snapshot can be read without any lock and does not change.
+     * After {@link #restore(List)}, the first call builds it from the backing list in O(n).
+     *
+     * @return the latest snapshot
+     */
+    public static InternshipSnapshot snapshot() {
+        InternshipSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        readLock.lock();
+        try {
+            // Mutations are locked out, so only other readers can be building it at the same time.
+            synchronized (snapshotBuildLock) {
+                if (snapshot == null) {
+                    int[] ids = new int[slots.size()];
+                    for (int i = 0; i < ids.length; i++) {
+                        ids[i] = idAt(i);
+                    }
+                    snapshot = InternshipSnapshot.of(liveView, ids);
+                }
+                return snapshot;
+            }
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Runs {@code lookup} and takes a snapshot under the same read lock, so the positions it finds refer to
+     * the snapshot. The matches can then be printed from the snapshot after the lock is released, without
+     * blocking mutations however long printing takes.
+     *
+     * @param lookup finds the positions of the matches, and must not modify the list
+     * @return the matches and the snapshot they refer to
+     */
+    public static Matches findMatches(Lookup lookup) {
+        readLock.lock();
+        try {
+            return new Matches(snapshot(), lookup.find());
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Returns a read-only view of the internships, in list order.
+     * Iterating over the view is only safe inside {@link #read(ReadAction)}.
+     *
+     * @return an unmodifiable view that reflects later changes to the list
+     */
+    public static List<Internship> asList() {
+        return liveView;
+    }
+
+    /**
+     * Drops the slots of deleted internships from the backing list, which also happens in the background
+     * once enough internships have been deleted. Indexes and ids are not affected. The slots of internships
+     * that undoing or redoing a recorded change would bring back are kept.
+     */
+    public static void compact() {
+        writeLock.lock();
+        try {
+            int dropped = slots.getTombstoneCount() - history.getRetainedCount();
+            if (dropped == 0) {
+                return;
+            }
+            int[] newSlots = slots.compact(history.getRetainedIds()::get);
+            int next = 0;
+            for (int slot = 0; slot < newSlots.length; slot++) {
+                if (newSlots[slot] >= 0) {
+                    if (slot != next) {
+                        internships.set(next, internships.get(slot));
+                    }
+                    next++;
+                }
+            }
+            // Removing from the end never shifts the remaining internships.
+            for (int slot = internships.size() - 1; slot >= next; slot--) {
+                internships.remove(slot);
+            }
+            index.compact(newSlots);
+            keywordIndex.compact(newSlots);
+            logger.fine(() -> "Compacted " + dropped + " deleted internship slot(s)");
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static void compactInBackground() {
+        isCompactionScheduled.set(false);
+        compact();
+    }
+
+    /**
+     * Returns the positions of internships at the given company, ignoring case.
+     *
+     * @param company the company name to look up
+     * @return zero-based positions in ascending order
+     */
+    public static int[] findByCompany(String company) {
+        readLock.lock();
+        try {
+            return slots.toPositions(index.findByCompany(company));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the positions of internships with the given status, ignoring case.
+     *
+     * @param status the status to look up
+     * @return zero-based positions in ascending order
+     */
+    public static int[] findByStatus(String status) {
+        readLock.lock();
+        try {
+            return slots.toPositions(index.findByStatus(status));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the positions of internships whose deadline is strictly before {@code date}.
+     *
+     * @param date the exclusive upper bound on deadlines
+     * @return zero-based positions, ordered by deadline and then by position
+     */
+    public static int[] findDueBefore(Date date) {
+        readLock.lock();
+        try {
+            return slots.toPositions(index.findDueBefore(date));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the positions of internships whose company or role matches {@code query}.
+     *
+     * @param query the parsed keyword query
+     * @return zero-based positions in ascending order
+     */
+    public static int[] search(SearchQuery query) {
+        readLock.lock();
+        try {
+            return slots.toPositions(keywordIndex.search(query));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the positions of internships matching {@code query}, in the order and up to the limit it gives.
+     *
+     * @param query the compiled query
+     * @return zero-based positions, in list order unless the query orders them otherwise
+     * @see QueryPlanner for how the matches are found
+     */
+    public static int[] query(FilterQuery query) {
+        readLock.lock();
+        try {
+            return slots.toPositions(new QueryPlanner(internships, slots, index).run(query));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the current aggregates over the list without scanning it.
+     *
+     * @return a snapshot of the aggregates
+     */
+    public static InternshipStats getStats() {
+        readLock.lock();
+        try {
+            return stats.snapshot();
+        } finally {
+            readLock.unlock();
+        }
     }
 
     // list all
     public static void listAll() throws InternityException {
         logger.info("Listing all internships");
 
-        if (InternshipList.isEmpty()) {
+        InternshipSnapshot current = snapshot();
+        if (current.isEmpty()) {
             logger.warning("No internships found to list");
             System.out.println("No internships found. Please add an internship first.");
-            assert (size() == 0) : "Internship list should be empty";
             return;
         }
 
-        assert (size() > 0) : "Internship list should not be empty";
-        System.out.printf("%-5s %-15s %-15s %-15s %-10s %-10s%n",
-                "No.", "Company", "Role", "Deadline", "Pay", "Status");
-        Ui.printHorizontalLine();
-        int i;
-        for (i = 0; i < InternshipList.size(); i++) {
-            Internship internship = InternshipList.get(i);
-            logger.fine("Listing internship at index: " + i);
-            System.out.printf("%-5d %-15s %-15s %-15s %-10d %-10s%n",
-                    i + 1,
-                    internship.getCompany(),
-                    internship.getRole(),
-                    internship.getDeadline().toString(),
-                    internship.getPay(),
-                    internship.getStatus()
-            );
-        }
-        logger.info("Finished listing internships. Total: " + i);
-        assert (i == size()) : "All internships should be listed";
+        TableRenderer.render(current.asList(), current::getId, 0, current.size(), System.out);
+        logger.info(() -> "Finished listing internships. Total: " + current.size());
     }
 
-    private static boolean isEmpty() {
-        return List.isEmpty();
+    /**
+     * Lists one page of internships.
+     *
+     * @param page one-based page number
+     * @param pageSize number of internships per page
+     * @throws InternityException if the page does not exist
+     */
+    public static void listPage(int page, int pageSize) throws InternityException {
+        assert page > 0 && pageSize > 0 : "Page and page size should be positive";
+
+        InternshipSnapshot current = snapshot();
+        if (current.isEmpty()) {
+            System.out.println("No internships found. Please add an internship first.");
+            return;
+        }
+
+        int size = current.size();
+        int pageCount = (size - 1) / pageSize + 1;
+        if (page > pageCount) {
+            throw InternityException.pageOutOfRange(page, pageCount);
+        }
+        int fromIndex = (page - 1) * pageSize;
+        int toIndex = Math.min(fromIndex + pageSize, size);
+        TableRenderer.render(current.asList(), current::getId, fromIndex, toIndex, System.out);
+        Ui.printPageFooter(page, pageCount, size);
     }
 
 
     public static void updateStatus(int index, String newStatus) throws InternityException {
-        if (index < 0 || index >= List.size()) {
-            throw InternityException.invalidInternshipIndex();
+        ListMutationEvent event = new ListMutationEvent();
+        event.begin();
+        writeLock.lock();
+        try {
+            if (index < 0 || index >= slots.size()) {
+                throw InternityException.invalidInternshipIndex();
+            }
+            updateSlot(slots.slotOf(index), index, newStatus);
+            event.finish("updateStatus", 1, slots.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Changes the status of the internship with the given id.
+     *
+     * @param id the id of the internship to update
+     * @param newStatus the new status
+     * @return the zero-based index of the updated internship
+     * @throws InternityException if no internship has that id
+     */
+    public static int updateStatusById(int id, String newStatus) throws InternityException {
+        ListMutationEvent event = new ListMutationEvent();
+        event.begin();
+        writeLock.lock();
+        try {
+            int slot = requireSlotOfId(id);
+            int position = slots.positionOf(slot);
+            updateSlot(slot, position, newStatus);
+            event.finish("updateStatus", 1, slots.size());
+            return position;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Changes the status of every internship matching {@code condition} in a single pass over the list.
+     * Listeners are notified once for the whole batch.
+     *
+     * @param condition selects the internships to update
+     * @param newStatus the new status
+     * @return the number of internships updated
+     */
+    public static int updateStatusWhere(Predicate<Internship> condition, String newStatus) {
+        ListMutationEvent event = new ListMutationEvent();
+        event.begin();
+        writeLock.lock();
+        try {
+            IntList updatedSlots = new IntList();
+            IntList positions = new IntList();
+            IntList ids = new IntList();
+            List<Internship> updated = new ArrayList<>();
+            List<String> oldStatuses = new ArrayList<>();
+            int position = 0;
+            for (int slot = 0; slot < internships.size(); slot++) {
+                if (!slots.isLive(slot)) {
+                    continue;
+                }
+                Internship internship = internships.get(slot);
+                if (internship != null && condition.test(internship)) {
+                    oldStatuses.add(internship.getStatus());
+                    Internship replacement = withStatus(internship, newStatus);
+                    internships.set(slot, replacement);
+                    stats.updateStatus(internship.getStatus(), newStatus);
+                    if (snapshot != null) {
+                        snapshot = snapshot.withReplaced(position, replacement);
+                    }
+                    updatedSlots.add(slot);
+                    positions.add(position);
+                    ids.add(slots.getId(slot));
+                    updated.add(replacement);
+                }
+                position++;
+            }
+            if (!updated.isEmpty()) {
+                index.updateStatusAll(updatedSlots.toArray(), updated, oldStatuses);
+                record(UndoLog.Step.updateStatus(ids.toArray(), oldStatuses.toArray(new String[0]),
+                        newStatus));
+                int[] indexes = positions.toArray();
+                for (ListMutationListener listener : listeners) {
+                    listener.onStatusUpdateAll(indexes, updated, oldStatuses);
+                }
+            }
+            event.finish("updateStatusWhere", updated.size(), slots.size());
+            return updated.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static void updateSlot(int slot, int position, String newStatus) {
+        Internship current = internships.get(slot);
+        String oldStatus = current.getStatus();
+        Internship internship = withStatus(current, newStatus);
+        internships.set(slot, internship);
+        if (snapshot != null) {
+            snapshot = snapshot.withReplaced(position, internship);
+        }
+        index.updateStatus(slot, internship, oldStatus);
+        stats.updateStatus(oldStatus, newStatus);
+        record(UndoLog.Step.updateStatus(new int[] {slots.getId(slot)}, new String[] {oldStatus}, newStatus));
+        for (ListMutationListener listener : listeners) {
+            listener.onStatusUpdate(position, internship, oldStatus);
+        }
+    }
+
+    /**
+     * Returns a copy of {@code internship} with the given status, leaving the original to older snapshots.
+     */
+    private static Internship withStatus(Internship internship, String status) {
+        Internship copy = new Internship(internship.getCompany(), internship.getRole(), internship.getDeadline(),
+                internship.getPay());
+        copy.setStatus(status);
+        return copy;
+    }
+
+    /**
+     * Reverts the latest change that has not been undone yet, as a single mutation however many internships
+     * it affected. Undoing a delete puts the internships back at their old positions with their old ids.
+     *
+     * @return the number of internships affected
+     * @throws InternityException if there is no change to undo
+     */
+    public static int undo() throws InternityException {
+        ListMutationEvent event = new ListMutationEvent();
+        event.begin();
+        writeLock.lock();
+        try {
+            requireUndoEnabled();
+            UndoLog.Step step = history.popUndo();
+            if (step == null) {
+                throw InternityException.nothingToUndo();
+            }
+            switch (step.kind) {
+            case ADD:
+                deleteIds(step.ids);
+                break;
+            case DELETE:
+                reinstateIds(step.ids);
+                break;
+            default:
+                setStatuses(step.ids, step.oldStatuses);
+                break;
+            }
+            event.finish("undo", step.size(), slots.size());
+            return step.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Makes the latest undone change again. Any other change since then forgets the undone changes.
+     *
+     * @return the number of internships affected
+     * @throws InternityException if there is no change to redo
+     */
+    public static int redo() throws InternityException {
+        ListMutationEvent event = new ListMutationEvent();
+        event.begin();
+        writeLock.lock();
+        try {
+            requireUndoEnabled();
+            UndoLog.Step step = history.popRedo();
+            if (step == null) {
+                throw InternityException.nothingToRedo();
+            }
+            switch (step.kind) {
+            case ADD:
+                reinstateIds(step.ids);
+                break;
+            case DELETE:
+                deleteIds(step.ids);
+                break;
+            default:
+                String[] statuses = new String[step.size()];
+                Arrays.fill(statuses, step.newStatus);
+                setStatuses(step.ids, statuses);
+                break;
+            }
+            event.finish("redo", step.size(), slots.size());
+            return step.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Forgets every change that could be undone or redone. This is used after replaying saved changes,
+     * which belong to earlier sessions.
+     */
+    public static void clearUndoHistory() {
+        writeLock.lock();
+        try {
+            history.clear();
+            scheduleCompactionIfNeeded();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Turns undo and redo on or off. While they are off, changes are not recorded and {@link #undo()} and
+     * {@link #redo()} fail. Turning them off also forgets the changes recorded so far.
+     *
+     * @param isEnabled whether changes can be undone
+     */
+    public static void setUndoEnabled(boolean isEnabled) {
+        writeLock.lock();
+        try {
+            isUndoEnabled = isEnabled;
+            if (!isEnabled) {
+                history.clear();
+                scheduleCompactionIfNeeded();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Puts internships back at the given positions with the ids they had before, as a single mutation.
+     * This is used when replaying saved changes that undid a delete or redid an add.
+     *
+     * <p>
+     * An internship whose slot is still kept as a tombstone is revived in O(log n). Those whose slots have
+     * been compacted away are first stored back as tombstones, in a single O(n) pass for all of them.
+     * </p>
+     *
+     * @param indexes the position of each internship once all of them are back, in ascending order
+     * @param ids the id of each internship, in ascending order
+     * @param items the internships
+     * @throws InternityException if an id is in use, or does not belong at its position
+     */
+    public static void reinstateAll(int[] indexes, int[] ids, List<Internship> items) throws InternityException {
+        assert indexes.length == ids.length && ids.length == items.size() : "Each internship needs an index and id";
+        if (ids.length == 0) {
+            return;
+        }
+        ListMutationEvent event = new ListMutationEvent();
+        event.begin();
+        writeLock.lock();
+        try {
+            IntList missingIds = new IntList();
+            List<Internship> missing = new ArrayList<>();
+            for (int i = 0; i < ids.length; i++) {
+                int id = ids[i];
+                if (slots.slotOfId(id) >= 0) {
+                    throw InternityException.duplicateInternshipId(id);
+                }
+                // Ids stay in ascending slot order, so an id fixes the position its internship comes back at.
+                if (id <= 0 || id >= slots.getNextId() || (i > 0 && id <= ids[i - 1])
+                        || slots.countLiveBelow(id) + i != indexes[i]) {
+                    throw InternityException.misplacedInternshipId(id, indexes[i]);
+                }
+                if (slots.slotOfDeletedId(id) < 0) {
+                    missingIds.add(id);
+                    missing.add(items.get(i));
+                }
+            }
+            if (!missing.isEmpty()) {
+                insertDeleted(missingIds.toArray(), missing);
+            }
+            reinstateIds(ids);
+            record(UndoLog.Step.add(ids));
+            event.finish("reinstateAll", ids.length, slots.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Stores internships back in the backing list as tombstones, at the slots their ids belong.
+     */
+    private static void insertDeleted(int[] ids, List<Internship> items) {
+        int oldCount = internships.size();
+        int[] newSlots = slots.insertDeleted(ids);
+        // Grows the list first, then moves every internship up to its new slot, starting from the last one.
+        internships.addAll(items);
+        for (int slot = oldCount - 1; slot >= 0; slot--) {
+            if (newSlots[slot] != slot) {
+                internships.set(newSlots[slot], internships.get(slot));
+            }
+        }
+        for (int i = 0; i < ids.length; i++) {
+            internships.set(slots.slotOfDeletedId(ids[i]), items.get(i));
+        }
+        index.invalidate(internships);
+        keywordIndex.invalidate(internships);
+    }
+
+    private static void record(UndoLog.Step step) {
+        if (isUndoEnabled) {
+            history.record(step);
+        }
+    }
+
+    private static void requireUndoEnabled() throws InternityException {
+        if (!isUndoEnabled) {
+            throw InternityException.undoUnavailable();
+        }
+    }
+
+    /**
+     * Deletes the live internships with the given ids, in ascending order, without recording the change.
+     */
+    private static void deleteIds(int[] ids) {
+        int[] idSlots = new int[ids.length];
+        int[] indexes = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            idSlots[i] = slots.slotOfId(ids[i]);
+            assert idSlots[i] >= 0 : "No live internship has ID #" + ids[i];
+            indexes[i] = slots.positionOf(idSlots[i]);
+        }
+        List<Internship> removed = new ArrayList<>(ids.length);
+        for (int slot : idSlots) {
+            Internship internship = internships.get(slot);
+            slots.delete(slot);
+            stats.remove(internship);
+            removed.add(internship);
+        }
+        if (snapshot != null) {
+            snapshot = snapshot.withRemovedAll(indexes);
+        }
+        for (ListMutationListener listener : listeners) {
+            listener.onDeleteAll(indexes, removed);
+        }
+        scheduleCompactionIfNeeded();
+    }
+
+    /**
+     * Brings back the deleted internships with the given ids, in ascending order, at the positions their
+     * slots give them, without recording the change.
+     */
+    private static void reinstateIds(int[] ids) {
+        int[] indexes = new int[ids.length];
+        List<Internship> reinstated = new ArrayList<>(ids.length);
+        // In ascending order, bringing back an internship never moves the ones brought back before it.
+        for (int i = 0; i < ids.length; i++) {
+            int slot = slots.slotOfDeletedId(ids[i]);
+            assert slot >= 0 : "No deleted internship with ID #" + ids[i] + " was kept";
+            slots.revive(slot);
+            Internship internship = internships.get(slot);
+            indexes[i] = slots.positionOf(slot);
+            stats.add(internship);
+            if (snapshot != null) {
+                snapshot = snapshot.withInserted(indexes[i], ids[i], internship);
+            }
+            reinstated.add(internship);
+        }
+        for (ListMutationListener listener : listeners) {
+            listener.onReinstateAll(indexes, reinstated);
+        }
+    }
+
+    /**
+     * Sets the status of each live internship with the given ids, in ascending order, without recording the
+     * change.
+     */
+    private static void setStatuses(int[] ids, String[] statuses) {
+        int[] idSlots = new int[ids.length];
+        int[] indexes = new int[ids.length];
+        List<Internship> updated = new ArrayList<>(ids.length);
+        List<String> oldStatuses = new ArrayList<>(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            idSlots[i] = slots.slotOfId(ids[i]);
+            assert idSlots[i] >= 0 : "No live internship has ID #" + ids[i];
+            indexes[i] = slots.positionOf(idSlots[i]);
+            Internship current = internships.get(idSlots[i]);
+            Internship replacement = withStatus(current, statuses[i]);
+            internships.set(idSlots[i], replacement);
+            stats.updateStatus(current.getStatus(), statuses[i]);
+            if (snapshot != null) {
+                snapshot = snapshot.withReplaced(indexes[i], replacement);
+            }
+            oldStatuses.add(current.getStatus());
+            updated.add(replacement);
+        }
+        index.updateStatusAll(idSlots, updated, oldStatuses);
+        for (ListMutationListener listener : listeners) {
+            listener.onStatusUpdateAll(indexes, updated, oldStatuses);
         }
-        Internship internship = List.get(index);
-        internship.setStatus(newStatus);
-        System.out.println("Updated internship " + (index + 1) + " status to: " + newStatus);
+    }
+
+    private static int requireSlotOfId(int id) throws InternityException {
+        int slot = slots.slotOfId(id);
+        if (slot < 0) {
+            throw InternityException.unknownInternshipId(id);
+        }
+        return slot;
     }
 
     public static void clear() {
-        List.clear();
+        ListMutationEvent event = new ListMutationEvent();
+        event.begin();
+        writeLock.lock();
+        try {
+            int removed = slots.size();
+            internships.clear();
+            snapshot = InternshipSnapshot.EMPTY;
+            slots.reset(0);
+            index.clear();
+            keywordIndex.clear();
+            stats.clear();
+            history.clear();
+            for (ListMutationListener listener : listeners) {
+                listener.onClear();
+            }
+            event.finish("clear", removed, 0);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * The live internships in list order, skipping the slots of deleted ones.
+     */
+    private static class LiveView extends AbstractList<Internship> implements RandomAccess {
+        @Override
+        public Internship get(int index) {
+            Objects.checkIndex(index, slots.size());
+            return internships.get(slots.slotOf(index));
+        }
+
+        @Override
+        public int size() {
+            return slots.size();
+        }
     }
 }
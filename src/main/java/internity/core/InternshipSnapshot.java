@@ -0,0 +1,153 @@
+package internity.core;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+
+import internity.utils.PersistentVector;
+
+/**
+ * The internships of the {@link InternshipList} at one point in time, in list order with their ids.
+ *
+ * <p>
+ * Snapshots never change, so they can be read without any lock while the list goes on changing. Each change
+ * to the list produces the next snapshot from the previous one in O(log n), sharing everything but the changed
+ * path of a {@link PersistentVector}.
+ * </p>
+ */
+public final class InternshipSnapshot {
+    static final InternshipSnapshot EMPTY = new InternshipSnapshot(PersistentVector.empty());
+
+    private final PersistentVector<Row> rows;
+    private final List<Internship> internships = new AbstractList<>() {
+        @Override
+        public Internship get(int index) {
+            return InternshipSnapshot.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return rows.size();
+        }
+
+        @Override
+        public Iterator<Internship> iterator() {
+            Iterator<Row> iterator = rows.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Internship next() {
+                    return iterator.next().internship;
+                }
+            };
+        }
+    };
+
+    /**
+     * An internship together with its id.
+     */
+    private static final class Row {
+        final int id;
+        final Internship internship;
+
+        Row(int id, Internship internship) {
+            this.id = id;
+            this.internship = internship;
+        }
+    }
+
+    private InternshipSnapshot(PersistentVector<Row> rows) {
+        this.rows = rows;
+    }
+
+    /**
+     * Returns a snapshot of the given internships, which have the given ids, in O(n).
+     */
+    static InternshipSnapshot of(List<Internship> internships, int[] ids) {
+        return EMPTY.withAddedAll(ids, internships);
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    public boolean isEmpty() {
+        return rows.isEmpty();
+    }
+
+    /**
+     * Returns the internship at {@code index} in O(log n).
+     *
+     * @throws IndexOutOfBoundsException if there is no internship at that index
+     */
+    public Internship get(int index) {
+        return rows.get(index).internship;
+    }
+
+    /**
+     * Returns the id of the internship at {@code index} in O(log n).
+     *
+     * @throws IndexOutOfBoundsException if there is no internship at that index
+     */
+    public int getId(int index) {
+        return rows.get(index).id;
+    }
+
+    /**
+     * Returns the id of every internship, in list order, in O(n).
+     */
+    public int[] getIds() {
+        int[] ids = new int[rows.size()];
+        int i = 0;
+        for (Row row : rows) {
+            ids[i++] = row.id;
+        }
+        return ids;
+    }
+
+    /**
+     * Returns an unmodifiable view of the internships. Iterating over it takes O(n).
+     */
+    public List<Internship> asList() {
+        return internships;
+    }
+
+    InternshipSnapshot withAdded(int id, Internship internship) {
+        return new InternshipSnapshot(rows.append(new Row(id, internship)));
+    }
+
+    InternshipSnapshot withAddedAll(int[] ids, List<Internship> added) {
+        Row[] addedRows = new Row[added.size()];
+        for (int i = 0; i < addedRows.length; i++) {
+            addedRows[i] = new Row(ids[i], added.get(i));
+        }
+        return new InternshipSnapshot(rows.appendAll(List.of(addedRows)));
+    }
+
+    InternshipSnapshot withInserted(int index, int id, Internship internship) {
+        return new InternshipSnapshot(rows.insert(index, new Row(id, internship)));
+    }
+
+    InternshipSnapshot withRemoved(int index) {
+        return new InternshipSnapshot(rows.remove(index));
+    }
+
+    /**
+     * Returns a snapshot without the internships at {@code indexes}, which are in ascending order.
+     */
+    InternshipSnapshot withRemovedAll(int[] indexes) {
+        PersistentVector<Row> remaining = rows;
+        for (int i = indexes.length - 1; i >= 0; i--) {
+            remaining = remaining.remove(indexes[i]);
+        }
+        return new InternshipSnapshot(remaining);
+    }
+
+    InternshipSnapshot withReplaced(int index, Internship internship) {
+        return new InternshipSnapshot(rows.set(index, new Row(rows.get(index).id, internship)));
+    }
+}
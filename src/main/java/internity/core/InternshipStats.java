@@ -0,0 +1,74 @@
+package internity.core;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A snapshot of the aggregates reported by the {@code stats} command.
+ *
+ * <p>
+ * Snapshots are taken by {@link InternshipList#getStats()} and do not change afterwards.
+ * Every value other than the pay percentiles is exact.
+ * </p>
+ */
+public final class InternshipStats {
+    /** The pay percentiles included in every snapshot, in ascending order. */
+    public static final int[] PERCENTILES = {50, 90, 99};
+
+    private final int count;
+    private final Map<String, Integer> statusCounts;
+    private final int minPay;
+    private final int maxPay;
+    private final double meanPay;
+    private final Map<Integer, Integer> payPercentiles;
+    private final Map<String, Integer> deadlinesPerMonth;
+
+    InternshipStats(int count, Map<String, Integer> statusCounts, int minPay, int maxPay, double meanPay,
+            Map<Integer, Integer> payPercentiles, Map<String, Integer> deadlinesPerMonth) {
+        this.count = count;
+        this.statusCounts = Collections.unmodifiableMap(statusCounts);
+        this.minPay = minPay;
+        this.maxPay = maxPay;
+        this.meanPay = meanPay;
+        this.payPercentiles = Collections.unmodifiableMap(payPercentiles);
+        this.deadlinesPerMonth = Collections.unmodifiableMap(deadlinesPerMonth);
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the number of internships with each status, most common first. Statuses differing only in
+     * case are counted together, under the spelling seen first.
+     */
+    public Map<String, Integer> getStatusCounts() {
+        return statusCounts;
+    }
+
+    public int getMinPay() {
+        return minPay;
+    }
+
+    public int getMaxPay() {
+        return maxPay;
+    }
+
+    public double getMeanPay() {
+        return meanPay;
+    }
+
+    /**
+     * Returns the estimated pay at each of the {@link #PERCENTILES}, accurate to within 1%.
+     */
+    public Map<Integer, Integer> getPayPercentiles() {
+        return payPercentiles;
+    }
+
+    /**
+     * Returns the number of deadlines in each month, as {@code MM-YYYY}, in chronological order.
+     */
+    public Map<String, Integer> getDeadlinesPerMonth() {
+        return deadlinesPerMonth;
+    }
+}
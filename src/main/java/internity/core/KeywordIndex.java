@@ -0,0 +1,159 @@
+package internity.core;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import internity.utils.IntList;
+
+/**
+ * An inverted index from the tokens of each internship's company and role to the {@linkplain SlotTable slots}
+ * of the internships containing them, kept up to date as the {@link InternshipList} changes.
+ *
+ * <p>
+ * A {@link SearchQuery} is answered by intersecting the postings of the tokens in each clause,
+ * shortest first, and merging the results of the clauses. The cost depends on the lengths of the
+ * postings involved rather than on the size of the list.
+ * </p>
+ *
+ * <p>
+ * Like {@link InternshipIndex}, deleting an internship leaves its postings in place until the slots are
+ * compacted, and after {@link #invalidate(List)} the index is only rebuilt when it is next searched.
+ * </p>
+ */
+class KeywordIndex {
+    private final Map<String, IntList> postings = new HashMap<>();
+    private List<Internship> internships;
+    private volatile boolean isValid = true;
+
+    /**
+     * Creates an index over the slots of {@code internships}, which must be empty.
+     */
+    KeywordIndex(List<Internship> internships) {
+        this.internships = internships;
+    }
+
+    /**
+     * Discards the index so it is rebuilt from {@code internships} on the next search.
+     *
+     * @param internships the list the index describes from now on
+     */
+    void invalidate(List<Internship> internships) {
+        this.internships = internships;
+        isValid = false;
+        postings.clear();
+    }
+
+    /**
+     * Returns the slots of the internships matching {@code query}, in ascending order.
+     */
+    int[] search(SearchQuery query) {
+        ensureValid();
+        IntList matches = new IntList();
+        for (List<String> clause : query.getClauses()) {
+            matches = IntList.union(matches, matchAll(clause));
+        }
+        return matches.toArray();
+    }
+
+    /**
+     * Indexes the internship just stored in the last slot.
+     */
+    void add(int slot, Internship internship) {
+        if (!isValid) {
+            return;
+        }
+        assert slot == internships.size() - 1 : "Internships are only appended";
+        append(slot, internship);
+    }
+
+    /**
+     * Indexes the internships just stored in the last slots, starting from {@code fromSlot}.
+     */
+    void addAll(int fromSlot, List<Internship> added) {
+        if (!isValid) {
+            return;
+        }
+        assert fromSlot + added.size() == internships.size() : "Internships are only appended";
+        for (int i = 0; i < added.size(); i++) {
+            append(fromSlot + i, added.get(i));
+        }
+    }
+
+    /**
+     * Renumbers every posting after the slots have been compacted and drops the postings of deleted internships.
+     *
+     * @param newSlots the new slot of each old slot, or {@code -1} for a tombstone
+     */
+    void compact(int[] newSlots) {
+        if (!isValid) {
+            return;
+        }
+        postings.values().removeIf(matches -> {
+            matches.remap(newSlots);
+            return matches.isEmpty();
+        });
+    }
+
+    void clear() {
+        postings.clear();
+        isValid = true;
+    }
+
+    private IntList matchAll(List<String> tokens) {
+        List<IntList> lists = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            IntList matches = postings.get(token);
+            if (matches == null) {
+                return new IntList();
+            }
+            lists.add(matches);
+        }
+        // Intersecting the shortest postings first keeps every intermediate result small.
+        lists.sort(Comparator.comparingInt(IntList::size));
+        IntList result = lists.get(0);
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result = IntList.intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Rebuilds the index if it was invalidated. Lookups run concurrently under the list's read lock,
+     * so the first of them rebuilds the index while the others wait.
+     */
+    private void ensureValid() {
+        if (isValid) {
+            return;
+        }
+        synchronized (this) {
+            if (isValid) {
+                return;
+            }
+            // Tombstones are indexed as well, as they are when deleted after the rebuild, since they may be revived.
+            for (int slot = 0; slot < internships.size(); slot++) {
+                append(slot, internships.get(slot));
+            }
+            isValid = true;
+        }
+    }
+
+    private void append(int slot, Internship internship) {
+        if (internship == null) {
+            return;
+        }
+        for (String token : tokensOf(internship)) {
+            postings.computeIfAbsent(token, ignored -> new IntList()).add(slot);
+        }
+    }
+
+    private static Set<String> tokensOf(Internship internship) {
+        Set<String> tokens = new LinkedHashSet<>(SearchQuery.tokenize(internship.getCompany()));
+        tokens.addAll(SearchQuery.tokenize(internship.getRole()));
+        return tokens;
+    }
+}
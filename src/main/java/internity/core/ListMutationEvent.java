@@ -0,0 +1,41 @@
+package internity.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event covering one mutation of the {@link InternshipList}, including the time spent
+ * waiting for the write lock.
+ */
+@Name("internity.ListMutation")
+@Label("List Mutation")
+@Category({"Internity", "Internship List"})
+@Description("Changing the internship list")
+class ListMutationEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Records")
+    @Description("Number of internships added, removed or updated")
+    int records;
+
+    @Label("Size")
+    @Description("Number of internships in the list afterwards")
+    int size;
+
+    /**
+     * Ends the event and commits it if a recording wants it. The fields are only set when it does.
+     */
+    void finish(String operation, int records, int size) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.records = records;
+            this.size = size;
+            commit();
+        }
+    }
+}
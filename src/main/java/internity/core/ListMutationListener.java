@@ -0,0 +1,93 @@
+package internity.core;
+
+import java.util.List;
+
+/**
+ * Receives a callback after every mutation applied to the {@link InternshipList}.
+ *
+ * <p>
+ * Listeners are notified after the change has been made, in the order they were registered.
+ * They are used by components that need to mirror the list, such as the persistence journal.
+ * </p>
+ */
+public interface ListMutationListener {
+    /**
+     * Called after an internship has been appended to the list.
+     *
+     * @param index zero-based index the internship was stored at
+     * @param internship the internship that was added
+     */
+    void onAdd(int index, Internship internship);
+
+    /**
+     * Called after several internships have been appended to the list in one operation.
+     * By default each of them is reported through {@link #onAdd(int, Internship)}.
+     *
+     * @param fromIndex zero-based index the first internship was stored at
+     * @param added the internships that were added, in list order
+     */
+    default void onAddAll(int fromIndex, List<Internship> added) {
+        for (int i = 0; i < added.size(); i++) {
+            onAdd(fromIndex + i, added.get(i));
+        }
+    }
+
+    /**
+     * Called after an internship has been removed from the list.
+     *
+     * @param index zero-based index the internship was removed from
+     * @param removed the internship that was removed
+     */
+    void onDelete(int index, Internship removed);
+
+    /**
+     * Called after several internships have been removed from the list in one operation.
+     * By default each of them is reported through {@link #onDelete(int, Internship)}, from the last to the
+     * first, so every index is still valid when it is reported.
+     *
+     * @param indexes zero-based indexes the internships had before the operation, in ascending order
+     * @param removed the internships that were removed, in the same order
+     */
+    default void onDeleteAll(int[] indexes, List<Internship> removed) {
+        for (int i = indexes.length - 1; i >= 0; i--) {
+            onDelete(indexes[i], removed.get(i));
+        }
+    }
+
+    /**
+     * Called after deleted internships have been put back at their old positions, when a delete is undone or
+     * an undone add is redone.
+     *
+     * @param indexes zero-based indexes the internships were put back at, in ascending order
+     * @param reinstated the internships that were put back, in the same order
+     */
+    void onReinstateAll(int[] indexes, List<Internship> reinstated);
+
+    /**
+     * Called after the status of an internship has been changed.
+     *
+     * @param index zero-based index of the updated internship
+     * @param internship the internship, already carrying its new status
+     * @param oldStatus the status before the update
+     */
+    void onStatusUpdate(int index, Internship internship, String oldStatus);
+
+    /**
+     * Called after the status of several internships has been changed in one operation.
+     * By default each of them is reported through {@link #onStatusUpdate(int, Internship, String)}.
+     *
+     * @param indexes zero-based indexes of the updated internships, in ascending order
+     * @param updated the internships, already carrying their new status, in the same order
+     * @param oldStatuses the status of each internship before the update, in the same order
+     */
+    default void onStatusUpdateAll(int[] indexes, List<Internship> updated, List<String> oldStatuses) {
+        for (int i = 0; i < indexes.length; i++) {
+            onStatusUpdate(indexes[i], updated.get(i), oldStatuses.get(i));
+        }
+    }
+
+    /**
+     * Called after every internship has been removed from the list.
+     */
+    void onClear();
+}
@@ -0,0 +1,348 @@
+package internity.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.IntPredicate;
+import java.util.logging.Logger;
+
+import internity.core.FilterQuery.Condition;
+import internity.core.FilterQuery.Field;
+import internity.core.FilterQuery.Operator;
+
+/**
+ * Finds the matches of a {@link FilterQuery}, choosing between a full scan of the list and one of the
+ * {@link InternshipIndex} lookups.
+ *
+ * <p>
+ * A query whose conditions are all joined with {@code AND} is planned as follows. An equality condition on
+ * company or status reads only the index entry of that value, choosing the smaller entry if there are both.
+ * Otherwise, conditions on the deadline read only the deadline range they allow. Every other query scans the
+ * whole list, except that a query ordered only by deadline walks the deadline index in order instead of
+ * sorting. The remaining conditions are checked on each candidate.
+ * </p>
+ *
+ * <p>
+ * {@code LIMIT} is pushed down: when the candidates already come in the requested order, the walk stops at
+ * the limit, and otherwise the best matches are kept in a heap bounded by the limit, so the cost is
+ * O(n log k) rather than a full sort.
+ * </p>
+ */
+final class QueryPlanner {
+    private static final Logger logger = Logger.getLogger(QueryPlanner.class.getName());
+    private static final int MAX_INITIAL_HEAP_CAPACITY = 1024;
+    private static final int INITIAL_MATCHES_CAPACITY = 16;
+
+    /**
+     * How the candidates of a query are found.
+     */
+    enum Strategy {
+        FULL_SCAN, COMPANY_LOOKUP, STATUS_LOOKUP, DEADLINE_RANGE
+    }
+
+    /**
+     * The chosen way of finding the candidates of one query.
+     */
+    static final class Plan {
+        private static final Plan FULL_SCAN = new Plan(Strategy.FULL_SCAN, null, null, false, null, false);
+
+        final Strategy strategy;
+        final String key;
+        final Date from;
+        final boolean isFromInclusive;
+        final Date to;
+        final boolean isToInclusive;
+
+        private Plan(Strategy strategy, String key, Date from, boolean isFromInclusive, Date to,
+                boolean isToInclusive) {
+            this.strategy = strategy;
+            this.key = key;
+            this.from = from;
+            this.isFromInclusive = isFromInclusive;
+            this.to = to;
+            this.isToInclusive = isToInclusive;
+        }
+
+        @Override
+        public String toString() {
+            switch (strategy) {
+            case COMPANY_LOOKUP:
+                return "company lookup of \"" + key + "\"";
+            case STATUS_LOOKUP:
+                return "status lookup of \"" + key + "\"";
+            case DEADLINE_RANGE:
+                return "deadline range " + (from == null ? "(*" : (isFromInclusive ? "[" : "(") + from) + ", "
+                        + (to == null ? "*)" : to + (isToInclusive ? "]" : ")"));
+            default:
+                return "full scan";
+            }
+        }
+    }
+
+    /**
+     * A matching internship together with its slot, which breaks ties in the requested order.
+     */
+    private static final class Match {
+        final int slot;
+        final Internship internship;
+
+        Match(int slot, Internship internship) {
+            this.slot = slot;
+            this.internship = internship;
+        }
+    }
+
+    /**
+     * Slots in the order they are added, unlike {@link internity.utils.IntList}, which keeps them ascending.
+     */
+    private static final class SlotBuffer {
+        private int[] slots = new int[INITIAL_MATCHES_CAPACITY];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(slots, size);
+        }
+    }
+
+    private final List<Internship> internships;
+    private final SlotTable slots;
+    private final InternshipIndex index;
+
+    QueryPlanner(List<Internship> internships, SlotTable slots, InternshipIndex index) {
+        this.internships = internships;
+        this.slots = slots;
+        this.index = index;
+    }
+
+    /**
+     * Chooses how to find the candidates of {@code query}.
+     */
+    Plan plan(FilterQuery query) {
+        List<List<Condition>> clauses = query.getClauses();
+        if (clauses.size() == 1) {
+            Plan lookup = planLookup(clauses.get(0));
+            if (lookup != null) {
+                return lookup;
+            }
+            Plan range = planDeadlineRange(clauses.get(0));
+            if (range != null) {
+                return range;
+            }
+        }
+        if (isOrderedByDeadlineOnly(query)) {
+            return new Plan(Strategy.DEADLINE_RANGE, null, null, false, null, false);
+        }
+        return Plan.FULL_SCAN;
+    }
+
+    /**
+     * Returns the slots of the internships matching {@code query}, in the order it asks for and at most as
+     * many as its limit.
+     */
+    int[] run(FilterQuery query) {
+        Plan plan = plan(query);
+        logger.fine(() -> "Query plan: " + plan);
+        int limit = query.getLimit() == FilterQuery.NO_LIMIT ? Integer.MAX_VALUE : query.getLimit();
+        boolean isDeadlineOrdered = plan.strategy == Strategy.DEADLINE_RANGE;
+        Comparator<Internship> order = query.getComparator();
+        boolean isInOrder = order == null ? !isDeadlineOrdered : isDeadlineOrdered && isOrderedByDeadlineOnly(query);
+
+        if (isInOrder) {
+            // The candidates already come in the requested order, so the walk can stop at the limit.
+            return collect(plan, query, limit);
+        }
+        if (order == null) {
+            int[] result = collect(plan, query, Integer.MAX_VALUE);
+            Arrays.sort(result);
+            return result.length > limit ? Arrays.copyOf(result, limit) : result;
+        }
+        Comparator<Match> byOrder = (first, second) -> {
+            int comparison = order.compare(first.internship, second.internship);
+            return comparison != 0 ? comparison : Integer.compare(first.slot, second.slot);
+        };
+        return limit == Integer.MAX_VALUE ? sortAll(plan, query, byOrder) : selectTop(plan, query, byOrder, limit);
+    }
+
+    /**
+     * Returns the first {@code limit} matching candidates in the order {@code plan} finds them.
+     */
+    private int[] collect(Plan plan, FilterQuery query, int limit) {
+        SlotBuffer matches = new SlotBuffer();
+        forEachCandidate(plan, query.isDescending(), slot -> {
+            if (query.matches(internships.get(slot))) {
+                matches.add(slot);
+            }
+            return matches.size < limit;
+        });
+        return matches.toArray();
+    }
+
+    private int[] sortAll(Plan plan, FilterQuery query, Comparator<Match> byOrder) {
+        List<Match> matches = new ArrayList<>();
+        forEachCandidate(plan, false, slot -> {
+            Internship internship = internships.get(slot);
+            if (query.matches(internship)) {
+                matches.add(new Match(slot, internship));
+            }
+            return true;
+        });
+        matches.sort(byOrder);
+        int[] result = new int[matches.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = matches.get(i).slot;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the first {@code limit} matches in {@code byOrder}, keeping only that many in a heap whose head
+     * is the worst match kept so far.
+     */
+    private int[] selectTop(Plan plan, FilterQuery query, Comparator<Match> byOrder, int limit) {
+        PriorityQueue<Match> best = new PriorityQueue<>(Math.min(limit, MAX_INITIAL_HEAP_CAPACITY) + 1,
+                byOrder.reversed());
+        forEachCandidate(plan, false, slot -> {
+            Internship internship = internships.get(slot);
+            if (!query.matches(internship)) {
+                return true;
+            }
+            Match match = new Match(slot, internship);
+            if (best.size() < limit) {
+                best.add(match);
+            } else if (byOrder.compare(match, best.peek()) < 0) {
+                best.poll();
+                best.add(match);
+            }
+            return true;
+        });
+        int[] result = new int[best.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = best.poll().slot;
+        }
+        return result;
+    }
+
+    /**
+     * Passes the live, non-empty candidate slots of {@code plan} to {@code action} until it returns
+     * {@code false}.
+     */
+    private void forEachCandidate(Plan plan, boolean isDescending, IntPredicate action) {
+        IntPredicate live = slot -> !slots.isLive(slot) || internships.get(slot) == null || action.test(slot);
+        switch (plan.strategy) {
+        case COMPANY_LOOKUP:
+            visit(index.findByCompany(plan.key), live);
+            break;
+        case STATUS_LOOKUP:
+            visit(index.findByStatus(plan.key), live);
+            break;
+        case DEADLINE_RANGE:
+            index.forEachByDeadline(plan.from, plan.isFromInclusive, plan.to, plan.isToInclusive, isDescending,
+                    live);
+            break;
+        default:
+            for (int slot = 0; slot < internships.size(); slot++) {
+                if (!live.test(slot)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static void visit(int[] candidates, IntPredicate action) {
+        for (int slot : candidates) {
+            if (!action.test(slot)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns a lookup of the smallest index entry named by an equality condition of {@code clause},
+     * or {@code null} if there is none.
+     */
+    private Plan planLookup(List<Condition> clause) {
+        Plan best = null;
+        int bestCount = Integer.MAX_VALUE;
+        for (Condition condition : clause) {
+            if (condition.operator != Operator.EQUAL) {
+                continue;
+            }
+            int count;
+            Strategy strategy;
+            if (condition.field == Field.COMPANY) {
+                count = index.countByCompany(condition.text);
+                strategy = Strategy.COMPANY_LOOKUP;
+            } else if (condition.field == Field.STATUS) {
+                count = index.countByStatus(condition.text);
+                strategy = Strategy.STATUS_LOOKUP;
+            } else {
+                continue;
+            }
+            if (count < bestCount) {
+                best = new Plan(strategy, condition.text, null, false, null, false);
+                bestCount = count;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the narrowest deadline range allowed by the deadline conditions of {@code clause},
+     * or {@code null} if there are none.
+     */
+    private static Plan planDeadlineRange(List<Condition> clause) {
+        Date from = null;
+        boolean isFromInclusive = false;
+        Date to = null;
+        boolean isToInclusive = false;
+        for (Condition condition : clause) {
+            if (condition.field != Field.DEADLINE || condition.operator == Operator.NOT_EQUAL) {
+                continue;
+            }
+            Operator operator = condition.operator;
+            if (operator != Operator.LESS && operator != Operator.AT_MOST
+                    && isTighterLowerBound(condition.date, operator != Operator.GREATER, from, isFromInclusive)) {
+                from = condition.date;
+                isFromInclusive = operator != Operator.GREATER;
+            }
+            if (operator != Operator.GREATER && operator != Operator.AT_LEAST
+                    && isTighterUpperBound(condition.date, operator != Operator.LESS, to, isToInclusive)) {
+                to = condition.date;
+                isToInclusive = operator != Operator.LESS;
+            }
+        }
+        if (from == null && to == null) {
+            return null;
+        }
+        return new Plan(Strategy.DEADLINE_RANGE, null, from, isFromInclusive, to, isToInclusive);
+    }
+
+    private static boolean isTighterLowerBound(Date date, boolean isInclusive, Date from, boolean isFromInclusive) {
+        if (from == null) {
+            return true;
+        }
+        int comparison = date.compareTo(from);
+        return comparison > 0 || comparison == 0 && isFromInclusive && !isInclusive;
+    }
+
+    private static boolean isTighterUpperBound(Date date, boolean isInclusive, Date to, boolean isToInclusive) {
+        if (to == null) {
+            return true;
+        }
+        int comparison = date.compareTo(to);
+        return comparison < 0 || comparison == 0 && isToInclusive && !isInclusive;
+    }
+
+    private static boolean isOrderedByDeadlineOnly(FilterQuery query) {
+        return query.getOrderField() == Field.DEADLINE && query.hasSingleSortKey();
+    }
+}
@@ -0,0 +1,99 @@
+package internity.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A parsed keyword query for the {@code search} command.
+ *
+ * <p>
+ * A query is a list of keywords that must all match, and alternatives can be separated by {@code OR}.
+ * {@code AND} may be written between keywords but is implied. {@code AND} binds tighter than {@code OR},
+ * so {@code google intern OR meta} finds internships matching both {@code google} and {@code intern},
+ * as well as those matching {@code meta}. The operators are only recognised in upper case.
+ * </p>
+ *
+ * <p>
+ * Keywords are split into tokens the same way company names and roles are: on every character that is
+ * not a letter or a digit, ignoring case. A keyword such as {@code full-stack} therefore needs both the
+ * {@code full} and {@code stack} tokens to match.
+ * </p>
+ */
+public final class SearchQuery {
+    private final List<List<String>> clauses;
+
+    private SearchQuery(List<List<String>> clauses) {
+        this.clauses = clauses;
+    }
+
+    /**
+     * Parses a query such as {@code google intern OR meta}.
+     *
+     * @param query the text after the command word
+     * @return the parsed query
+     * @throws InternityException if the query is empty or an operator has no keyword on one side
+     */
+    public static SearchQuery parse(String query) throws InternityException {
+        if (query == null || query.isBlank()) {
+            throw InternityException.invalidSearchCommand();
+        }
+        List<List<String>> clauses = new ArrayList<>();
+        List<String> clause = new ArrayList<>();
+        boolean isOperatorPending = true;
+        for (String word : query.trim().split("\\s+")) {
+            if (word.equals("OR") || word.equals("AND")) {
+                if (isOperatorPending) {
+                    throw InternityException.invalidSearchCommand();
+                }
+                if (word.equals("OR")) {
+                    clauses.add(clause);
+                    clause = new ArrayList<>();
+                }
+                isOperatorPending = true;
+                continue;
+            }
+            List<String> tokens = tokenize(word);
+            if (!tokens.isEmpty()) {
+                clause.addAll(tokens);
+                isOperatorPending = false;
+            }
+        }
+        if (isOperatorPending) {
+            throw InternityException.invalidSearchCommand();
+        }
+        clauses.add(clause);
+        return new SearchQuery(Collections.unmodifiableList(clauses));
+    }
+
+    /**
+     * Returns the alternatives of this query. Each alternative is a list of tokens that must all match.
+     *
+     * @return the alternatives, each holding at least one token
+     */
+    public List<List<String>> getClauses() {
+        return clauses;
+    }
+
+    /**
+     * Splits {@code text} into lower-case tokens made of letters and digits.
+     *
+     * @param text the text to split
+     * @return the tokens in order of appearance, possibly repeated
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isTokenChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isTokenChar && start < 0) {
+                start = i;
+            } else if (!isTokenChar && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,332 @@
+package internity.core;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntPredicate;
+
+import internity.utils.IntList;
+
+/**
+ * Keeps track of which slots of the {@link InternshipList}'s backing list are still in use, and of the
+ * stable id of the internship in each slot.
+ *
+ * <p>
+ * Deleting an internship only marks its slot as a tombstone, so the later internships keep their slots.
+ * The positions shown to the user skip the tombstones. A Fenwick tree over the live slots converts a
+ * position to a slot and back in O(log n). While there are no tombstones, positions and slots are the
+ * same and no conversion is done. {@link #compact()} drops the tombstones and renumbers the slots.
+ * A tombstone can also be {@linkplain #revive(int) revived}, which puts its internship back at its old place.
+ * One that has been compacted away can be {@linkplain #insertDeleted(int[]) inserted} again first, in O(n).
+ * </p>
+ *
+ * <p>
+ * Ids are handed out in ascending order and are never reused, so they stay in ascending slot order
+ * and the slot of an id is found by a binary search.
+ * </p>
+ */
+final class SlotTable {
+    private static final int FIRST_ID = 1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private IntList ids = new IntList();
+    private final BitSet tombstones = new BitSet();
+    /** One-based Fenwick tree counting the live slots. */
+    private int[] tree = new int[INITIAL_CAPACITY + 1];
+    private int slotCount;
+    private int tombstoneCount;
+    private int nextId = FIRST_ID;
+
+    /**
+     * Forgets every slot and gives {@code count} live slots the ids starting from the first id.
+     *
+     * @param count number of live slots
+     */
+    void reset(int count) {
+        ids = new IntList();
+        for (int i = 0; i < count; i++) {
+            ids.add(FIRST_ID + i);
+        }
+        nextId = FIRST_ID + count;
+        fill(count, new BitSet());
+    }
+
+    /**
+     * Forgets every slot and gives live slots the given ids.
+     *
+     * @param restoredIds the id of each slot, in ascending order
+     * @param restoredNextId the id to give the next appended slot, which is above every restored id
+     */
+    void reset(int[] restoredIds, int restoredNextId) {
+        ids = new IntList();
+        for (int id : restoredIds) {
+            ids.add(id);
+        }
+        nextId = restoredNextId;
+        fill(restoredIds.length, new BitSet());
+    }
+
+    /**
+     * Adds a live slot after the existing ones.
+     *
+     * @return the id given to the new slot
+     */
+    int append() {
+        return append(nextId);
+    }
+
+    /**
+     * Adds a live slot with the given id after the existing ones. The ids skipped over are never handed out.
+     *
+     * @param id the id of the new slot, which must not be below {@link #getNextId()}
+     * @return the id of the new slot
+     */
+    int append(int id) {
+        assert id >= nextId : "Ids must be appended in ascending order: " + id;
+        nextId = id + 1;
+        ids.add(id);
+        slotCount++;
+        if (slotCount == tree.length) {
+            tree = Arrays.copyOf(tree, tree.length * 2);
+        }
+        // Node i covers the slots (i - lowbit(i), i], all of which exist already except the new one.
+        tree[slotCount] = 1 + prefix(slotCount - 1) - prefix(slotCount - Integer.lowestOneBit(slotCount));
+        return id;
+    }
+
+    /**
+     * Marks {@code slot} as a tombstone.
+     *
+     * @param slot a live slot
+     */
+    void delete(int slot) {
+        assert isLive(slot) : "Slot is already deleted: " + slot;
+        tombstones.set(slot);
+        tombstoneCount++;
+        for (int i = slot + 1; i <= slotCount; i += Integer.lowestOneBit(i)) {
+            tree[i]--;
+        }
+    }
+
+    /**
+     * Makes the tombstone {@code slot} live again.
+     *
+     * @param slot a tombstoned slot
+     */
+    void revive(int slot) {
+        assert !isLive(slot) : "Slot is not deleted: " + slot;
+        tombstones.clear(slot);
+        tombstoneCount--;
+        for (int i = slot + 1; i <= slotCount; i += Integer.lowestOneBit(i)) {
+            tree[i]++;
+        }
+    }
+
+    int size() {
+        return slotCount - tombstoneCount;
+    }
+
+    int getNextId() {
+        return nextId;
+    }
+
+    int getTombstoneCount() {
+        return tombstoneCount;
+    }
+
+    boolean isLive(int slot) {
+        return !tombstones.get(slot);
+    }
+
+    int getId(int slot) {
+        return ids.get(slot);
+    }
+
+    /**
+     * Returns the slot holding the internship with the given id.
+     *
+     * @param id the id to look up
+     * @return the slot, or {@code -1} if no live internship has that id
+     */
+    int slotOfId(int id) {
+        int slot = ids.indexOf(id);
+        return slot < 0 || tombstones.get(slot) ? -1 : slot;
+    }
+
+    /**
+     * Returns the tombstoned slot that held the internship with the given id.
+     *
+     * @param id the id to look up
+     * @return the slot, or {@code -1} if no deleted internship still has a slot with that id
+     */
+    int slotOfDeletedId(int id) {
+        int slot = ids.indexOf(id);
+        return slot < 0 || !tombstones.get(slot) ? -1 : slot;
+    }
+
+    /**
+     * Returns the number of live slots whose id is below {@code id}, which is the position an internship
+     * with that id has once it is live.
+     *
+     * @param id any id
+     * @return the number of live internships with a smaller id
+     */
+    int countLiveBelow(int id) {
+        int slot = ids.indexOf(id);
+        if (slot < 0) {
+            slot = -slot - 1;
+        }
+        return tombstoneCount == 0 ? slot : prefix(slot);
+    }
+
+    /**
+     * Returns the slot of the live internship at {@code position}.
+     *
+     * @param position zero-based position among the live slots, which must exist
+     * @return the slot
+     */
+    int slotOf(int position) {
+        if (tombstoneCount == 0) {
+            return position;
+        }
+        int slot = 0;
+        int remaining = position + 1;
+        for (int step = Integer.highestOneBit(slotCount); step > 0; step >>= 1) {
+            if (slot + step <= slotCount && tree[slot + step] < remaining) {
+                slot += step;
+                remaining -= tree[slot];
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the position of the live internship in {@code slot}.
+     *
+     * @param slot a live slot
+     * @return the zero-based position among the live slots
+     */
+    int positionOf(int slot) {
+        return tombstoneCount == 0 ? slot : prefix(slot);
+    }
+
+    /**
+     * Converts slots to the positions of the internships in them, leaving out the tombstones.
+     *
+     * @param slots slots in any order
+     * @return the positions of the live slots, in the same order, which is {@code slots} itself if there
+     *     are no tombstones
+     */
+    int[] toPositions(int[] slots) {
+        if (tombstoneCount == 0) {
+            return slots;
+        }
+        int[] positions = new int[slots.length];
+        int count = 0;
+        for (int slot : slots) {
+            if (!tombstones.get(slot)) {
+                positions[count++] = prefix(slot);
+            }
+        }
+        return count == positions.length ? positions : Arrays.copyOf(positions, count);
+    }
+
+    /**
+     * Drops the tombstones, moving every live slot down so the slots are numbered from zero again.
+     *
+     * @return the new slot of each old slot, or {@code -1} for the tombstones
+     */
+    int[] compact() {
+        return compact(id -> false);
+    }
+
+    /**
+     * Drops the tombstones except those whose id {@code isKept} accepts, moving every other slot down so
+     * the slots are numbered from zero again. The kept tombstones can still be revived afterwards.
+     *
+     * @param isKept accepts the ids of the tombstones to keep
+     * @return the new slot of each old slot, or {@code -1} for the dropped tombstones
+     */
+    int[] compact(IntPredicate isKept) {
+        int[] newSlots = new int[slotCount];
+        IntList keptIds = new IntList();
+        BitSet keptTombstones = new BitSet();
+        for (int slot = 0; slot < slotCount; slot++) {
+            boolean isTombstone = tombstones.get(slot);
+            if (isTombstone && !isKept.test(ids.get(slot))) {
+                newSlots[slot] = -1;
+                continue;
+            }
+            if (isTombstone) {
+                keptTombstones.set(keptIds.size());
+            }
+            newSlots[slot] = keptIds.size();
+            keptIds.add(ids.get(slot));
+        }
+        ids = keptIds;
+        fill(keptIds.size(), keptTombstones);
+        return newSlots;
+    }
+
+    /**
+     * Adds tombstones with the given ids at the slots their ids belong, moving every later slot up, so that
+     * internships whose slots have been compacted away can be revived again.
+     *
+     * @param newIds ids in ascending order, none of which any slot has
+     * @return the new slot of each old slot
+     */
+    int[] insertDeleted(int[] newIds) {
+        int[] newSlots = new int[slotCount];
+        IntList mergedIds = new IntList();
+        BitSet mergedTombstones = new BitSet();
+        int next = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            int id = ids.get(slot);
+            while (next < newIds.length && newIds[next] < id) {
+                mergedTombstones.set(mergedIds.size());
+                mergedIds.add(newIds[next++]);
+            }
+            assert next == newIds.length || newIds[next] != id : "Slot already exists for ID #" + id;
+            if (tombstones.get(slot)) {
+                mergedTombstones.set(mergedIds.size());
+            }
+            newSlots[slot] = mergedIds.size();
+            mergedIds.add(id);
+        }
+        while (next < newIds.length) {
+            mergedTombstones.set(mergedIds.size());
+            mergedIds.add(newIds[next++]);
+        }
+        ids = mergedIds;
+        fill(mergedIds.size(), mergedTombstones);
+        return newSlots;
+    }
+
+    /**
+     * Returns the number of live slots before {@code slot}.
+     */
+    private int prefix(int slot) {
+        int count = 0;
+        for (int i = slot; i > 0; i -= Integer.lowestOneBit(i)) {
+            count += tree[i];
+        }
+        return count;
+    }
+
+    private void fill(int count, BitSet tombstoneSlots) {
+        tombstones.clear();
+        tombstones.or(tombstoneSlots);
+        tombstoneCount = tombstoneSlots.cardinality();
+        slotCount = count;
+        tree = new int[Math.max(INITIAL_CAPACITY, Integer.highestOneBit(count) * 2) + 1];
+        // Each node passes its total on to the next node covering it, which builds the tree in O(n).
+        for (int i = 1; i <= count; i++) {
+            if (!tombstones.get(i - 1)) {
+                tree[i]++;
+            }
+            int parent = i + Integer.lowestOneBit(i);
+            if (parent <= count) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package internity.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import internity.utils.QuantileSketch;
+
+/**
+ * Aggregates over the {@link InternshipList}, kept up to date as the list changes so that
+ * {@link #snapshot()} never scans the list.
+ *
+ * <p>
+ * Status and month counts are kept in maps, the pay total in a running sum, and the exact minimum and
+ * maximum pay in a sorted multiset of pays. Pay percentiles come from a {@link QuantileSketch}; a batch of
+ * added internships is sketched on its own and merged in. Like the {@link InternshipIndex}, the aggregates
+ * are discarded by {@link #invalidate(List)} and rebuilt from the list when they are next read.
+ * </p>
+ */
+class StatsTracker {
+    private static final int MONTHS_PER_YEAR = 12;
+
+    /**
+     * The number of internships with one status, under the spelling seen first.
+     */
+    private static final class StatusCount {
+        final String label;
+        int count;
+
+        StatusCount(String label) {
+            this.label = label;
+        }
+    }
+
+    private final Map<String, StatusCount> byStatus = new HashMap<>();
+    private final NavigableMap<Integer, Integer> byMonth = new TreeMap<>();
+    private final NavigableMap<Integer, Integer> pays = new TreeMap<>();
+    private final QuantileSketch paySketch = new QuantileSketch();
+    private final SlotTable slots;
+    private List<Internship> internships;
+    private long paySum;
+    private int count;
+    private volatile boolean isValid = true;
+
+    /**
+     * Creates aggregates over the slots of {@code internships}, which must be empty.
+     */
+    StatsTracker(List<Internship> internships, SlotTable slots) {
+        this.internships = internships;
+        this.slots = slots;
+    }
+
+    /**
+     * Discards the aggregates so they are rebuilt from {@code internships} on the next read.
+     *
+     * @param internships the list the aggregates describe from now on
+     */
+    void invalidate(List<Internship> internships) {
+        this.internships = internships;
+        isValid = false;
+        reset();
+    }
+
+    void add(Internship internship) {
+        if (isValid && internship != null) {
+            count(internship, 1);
+            paySketch.add(internship.getPay());
+        }
+    }
+
+    /**
+     * Counts a batch of added internships, sketching their pays separately and merging the sketch in.
+     */
+    void addAll(List<Internship> added) {
+        if (!isValid) {
+            return;
+        }
+        QuantileSketch batch = new QuantileSketch();
+        for (Internship internship : added) {
+            if (internship != null) {
+                count(internship, 1);
+                batch.add(internship.getPay());
+            }
+        }
+        paySketch.merge(batch);
+    }
+
+    void remove(Internship internship) {
+        if (isValid && internship != null) {
+            count(internship, -1);
+            paySketch.remove(internship.getPay());
+        }
+    }
+
+    void updateStatus(String oldStatus, String newStatus) {
+        if (isValid) {
+            countStatus(oldStatus, -1);
+            countStatus(newStatus, 1);
+        }
+    }
+
+    void clear() {
+        reset();
+        isValid = true;
+    }
+
+    /**
+     * Returns the current aggregates. The cost depends only on the number of distinct statuses and months.
+     */
+    InternshipStats snapshot() {
+        ensureValid();
+        List<StatusCount> statuses = new ArrayList<>(byStatus.values());
+        statuses.sort((first, second) -> first.count != second.count
+                ? Integer.compare(second.count, first.count)
+                : first.label.compareTo(second.label));
+        Map<String, Integer> statusCounts = new LinkedHashMap<>();
+        for (StatusCount status : statuses) {
+            statusCounts.put(status.label, status.count);
+        }
+
+        Map<String, Integer> deadlinesPerMonth = new LinkedHashMap<>();
+        for (Map.Entry<Integer, Integer> entry : byMonth.entrySet()) {
+            int month = entry.getKey() % MONTHS_PER_YEAR + 1;
+            int year = entry.getKey() / MONTHS_PER_YEAR;
+            deadlinesPerMonth.put(String.format("%02d-%04d", month, year), entry.getValue());
+        }
+
+        Map<Integer, Integer> payPercentiles = new LinkedHashMap<>();
+        int minPay = count == 0 ? 0 : pays.firstKey();
+        int maxPay = count == 0 ? 0 : pays.lastKey();
+        for (int percentile : InternshipStats.PERCENTILES) {
+            long estimate = paySketch.quantile(percentile / 100.0);
+            // The estimate may overshoot the true extremes by the sketch's relative error.
+            payPercentiles.put(percentile, (int) Math.max(minPay, Math.min(maxPay, estimate)));
+        }
+        double meanPay = count == 0 ? 0 : (double) paySum / count;
+        return new InternshipStats(count, statusCounts, minPay, maxPay, meanPay, payPercentiles,
+                deadlinesPerMonth);
+    }
+
+    /**
+     * Rebuilds the aggregates if they were invalidated. Reads run concurrently under the list's read lock,
+     * so the first of them rebuilds the aggregates while the others wait.
+     */
+    private void ensureValid() {
+        if (isValid) {
+            return;
+        }
+        synchronized (this) {
+            if (isValid) {
+                return;
+            }
+            for (int slot = 0; slot < internships.size(); slot++) {
+                Internship internship = internships.get(slot);
+                if (slots.isLive(slot) && internship != null) {
+                    count(internship, 1);
+                    paySketch.add(internship.getPay());
+                }
+            }
+            isValid = true;
+        }
+    }
+
+    private void reset() {
+        byStatus.clear();
+        byMonth.clear();
+        pays.clear();
+        paySketch.clear();
+        paySum = 0;
+        count = 0;
+    }
+
+    /**
+     * Adds {@code delta} to every count {@code internship} contributes to, except the pay sketch.
+     */
+    private void count(Internship internship, int delta) {
+        count += delta;
+        paySum += (long) delta * internship.getPay();
+        countStatus(internship.getStatus(), delta);
+        Date deadline = internship.getDeadline();
+        adjust(byMonth, deadline.getYear() * MONTHS_PER_YEAR + deadline.getMonth() - 1, delta);
+        adjust(pays, internship.getPay(), delta);
+    }
+
+    private void countStatus(String status, int delta) {
+        String key = status.trim().toLowerCase(Locale.ROOT);
+        StatusCount statusCount = byStatus.computeIfAbsent(key, ignored -> new StatusCount(status.trim()));
+        statusCount.count += delta;
+        if (statusCount.count == 0) {
+            byStatus.remove(key);
+        }
+    }
+
+    private static void adjust(Map<Integer, Integer> counts, int key, int delta) {
+        counts.merge(key, delta, (current, change) -> current + change == 0 ? null : current + change);
+    }
+}
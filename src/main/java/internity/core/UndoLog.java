@@ -0,0 +1,220 @@
+package internity.core;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+
+/**
+ * The most recent changes to the {@link InternshipList}, each kept as the inverse information needed to undo
+ * and redo it.
+ *
+ * <p>
+ * A step records only the ids of the internships it touched, plus their old statuses for a status update.
+ * Deleted internships stay in the backing list as tombstones that compaction keeps for as long as a step
+ * {@linkplain #getRetainedIds() may bring them back}, so a step never copies an internship and undoing a bulk
+ * change of k internships takes a single step of O(k log n).
+ * </p>
+ *
+ * <p>
+ * The undo steps are held in a ring buffer. Once it is full, recording a step forgets the oldest one.
+ * Recording a step also forgets every step that could be redone. The log is not thread-safe; the list only
+ * uses it under its write lock.
+ * </p>
+ */
+final class UndoLog {
+    /** The number of steps kept by default. */
+    static final int DEFAULT_CAPACITY = 100;
+
+    /**
+     * The kind of change a step records.
+     */
+    enum Kind {
+        ADD,
+        DELETE,
+        UPDATE_STATUS
+    }
+
+    /**
+     * One change to the list, affecting the internships with the given ids.
+     */
+    static final class Step {
+        final Kind kind;
+        /** The ids of the affected internships, in ascending order. */
+        final int[] ids;
+        /** The status of each affected internship before an update, in the same order as the ids. */
+        final String[] oldStatuses;
+        final String newStatus;
+
+        private Step(Kind kind, int[] ids, String[] oldStatuses, String newStatus) {
+            this.kind = kind;
+            this.ids = ids;
+            this.oldStatuses = oldStatuses;
+            this.newStatus = newStatus;
+        }
+
+        static Step add(int[] ids) {
+            return new Step(Kind.ADD, ids, null, null);
+        }
+
+        static Step delete(int[] ids) {
+            return new Step(Kind.DELETE, ids, null, null);
+        }
+
+        static Step updateStatus(int[] ids, String[] oldStatuses, String newStatus) {
+            return new Step(Kind.UPDATE_STATUS, ids, oldStatuses, newStatus);
+        }
+
+        int size() {
+            return ids.length;
+        }
+    }
+
+    private final Step[] undoSteps;
+    /** The index of the oldest undo step in the ring. */
+    private int first;
+    private int undoCount;
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    /** The number of tombstones that undoing or redoing a kept step would revive. */
+    private int retainedCount;
+
+    UndoLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty log.
+     *
+     * @param capacity the number of steps that can be undone, which must be positive
+     */
+    UndoLog(int capacity) {
+        assert capacity > 0 : "Capacity should be positive";
+        undoSteps = new Step[capacity];
+    }
+
+    /**
+     * Records a change that has just been made, forgetting the steps that could be redone.
+     *
+     * @param step the change
+     */
+    void record(Step step) {
+        for (Step redone : redoSteps) {
+            release(redone, false);
+        }
+        redoSteps.clear();
+        if (undoCount == undoSteps.length) {
+            release(undoSteps[first], true);
+            undoSteps[first] = null;
+            first = (first + 1) % undoSteps.length;
+            undoCount--;
+        }
+        undoSteps[(first + undoCount) % undoSteps.length] = step;
+        undoCount++;
+        retain(step, true);
+    }
+
+    /**
+     * Removes the latest step that can be undone, which can then be redone.
+     *
+     * @return the step to undo, or {@code null} if there is none
+     */
+    Step popUndo() {
+        if (undoCount == 0) {
+            return null;
+        }
+        undoCount--;
+        int last = (first + undoCount) % undoSteps.length;
+        Step step = undoSteps[last];
+        undoSteps[last] = null;
+        release(step, true);
+        redoSteps.push(step);
+        retain(step, false);
+        return step;
+    }
+
+    /**
+     * Removes the latest step that was undone, which can then be undone again.
+     *
+     * @return the step to redo, or {@code null} if there is none
+     */
+    Step popRedo() {
+        Step step = redoSteps.poll();
+        if (step == null) {
+            return null;
+        }
+        release(step, false);
+        // Redo steps were undone from this ring, so there is always room for them.
+        undoSteps[(first + undoCount) % undoSteps.length] = step;
+        undoCount++;
+        retain(step, true);
+        return step;
+    }
+
+    /**
+     * Forgets every step.
+     */
+    void clear() {
+        Arrays.fill(undoSteps, null);
+        first = 0;
+        undoCount = 0;
+        redoSteps.clear();
+        retainedCount = 0;
+    }
+
+    int getUndoCount() {
+        return undoCount;
+    }
+
+    int getRedoCount() {
+        return redoSteps.size();
+    }
+
+    /**
+     * Returns the number of tombstones the kept steps may revive, which compaction must not drop.
+     */
+    int getRetainedCount() {
+        return retainedCount;
+    }
+
+    /**
+     * Returns the ids of the tombstones the kept steps may revive, in O(number of such tombstones).
+     */
+    BitSet getRetainedIds() {
+        BitSet retained = new BitSet();
+        for (int i = 0; i < undoCount; i++) {
+            addRetainedIds(undoSteps[(first + i) % undoSteps.length], true, retained);
+        }
+        for (Step step : redoSteps) {
+            addRetainedIds(step, false, retained);
+        }
+        return retained;
+    }
+
+    /**
+     * Returns whether undoing (or, for a redo step, redoing) {@code step} revives tombstones: the internships
+     * deleted by a delete, or added by an add that was undone.
+     */
+    private static boolean revivesTombstones(Step step, boolean isUndoStep) {
+        return step.kind == (isUndoStep ? Kind.DELETE : Kind.ADD);
+    }
+
+    private static void addRetainedIds(Step step, boolean isUndoStep, BitSet retained) {
+        if (revivesTombstones(step, isUndoStep)) {
+            for (int id : step.ids) {
+                retained.set(id);
+            }
+        }
+    }
+
+    private void retain(Step step, boolean isUndoStep) {
+        if (revivesTombstones(step, isUndoStep)) {
+            retainedCount += step.size();
+        }
+    }
+
+    private void release(Step step, boolean isUndoStep) {
+        if (revivesTombstones(step, isUndoStep)) {
+            retainedCount -= step.size();
+        }
+    }
+}
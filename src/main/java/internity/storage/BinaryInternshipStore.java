@@ -0,0 +1,266 @@
+package internity.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntUnaryOperator;
+
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+
+/**
+ * Reads and writes internships in a fixed-layout binary file that can be memory-mapped.
+ *
+ * <p>
+ * The file consists of a 32-byte header, one 32-byte record per internship, the id of each internship and a
+ * string heap:
+ * </p>
+ * <pre>
+ *     header: magic(4) version(4) generation(8) count(4) nextId(4) heapStart(8)
+ *     record: company(4+4) role(4+4) status(4+4) deadline(4) pay(4)
+ *     ids:    id(4) per record
+ * </pre>
+ * <p>
+ * Each string is stored as an offset into the heap plus a length in UTF-8 bytes. Identical strings,
+ * such as repeated statuses, are written to the heap only once. Because every record has the same
+ * size, record {@code i} can be located without reading any of the records before it.
+ * </p>
+ * <p>
+ * Files of version 1 have neither the ids nor the next id. Their internships are given the ids 1 to
+ * {@code count} in record order, as they were before ids were saved.
+ * </p>
+ * <p>
+ * This class cannot be instantiated.
+ * </p>
+ */
+public final class BinaryInternshipStore {
+    static final int MAGIC = 0x494E5459; // "INTY"
+    static final int VERSION = 2;
+    static final int HEADER_BYTES = 32;
+    static final int RECORD_BYTES = 32;
+    static final int ID_BYTES = 4;
+
+    private static final int VERSION_WITHOUT_IDS = 1;
+    private static final int FIRST_ID = 1;
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+    private static final int GENERATION_OFFSET = 8;
+    private static final int COUNT_OFFSET = 16;
+    private static final int NEXT_ID_OFFSET = 20;
+    private static final int HEAP_START_OFFSET = 24;
+
+    private BinaryInternshipStore() {
+    } // prevent instantiation
+
+    /**
+     * Writes the given internships to {@code path}, replacing any existing file, with the ids 1 to
+     * {@code internships.size()} in list order.
+     *
+     * @param path file to write
+     * @param generation generation number stored in the header
+     * @param internships internships to write, in list order
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path path, long generation, List<Internship> internships) throws IOException {
+        write(path, generation, internships, index -> FIRST_ID + index, FIRST_ID + internships.size());
+    }
+
+    /**
+     * Writes the given internships and their ids to {@code path}, replacing any existing file.
+     *
+     * @param path file to write
+     * @param generation generation number stored in the header
+     * @param internships internships to write, in list order
+     * @param ids returns the id of the internship at a given index
+     * @param nextId the id the next internship added will get
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path path, long generation, List<Internship> internships, IntUnaryOperator ids,
+            int nextId) throws IOException {
+        int count = internships.size();
+        long idsStart = HEADER_BYTES + (long) count * RECORD_BYTES;
+        long heapStart = idsStart + (long) count * ID_BYTES;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            HeapWriter heap = new HeapWriter(channel, heapStart);
+            ByteBuffer records = ByteBuffer.allocate(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            long recordPosition = HEADER_BYTES;
+
+            for (Internship internship : internships) {
+                if (records.remaining() < RECORD_BYTES) {
+                    recordPosition = flush(channel, records, recordPosition);
+                }
+                heap.putReference(records, internship.getCompany());
+                heap.putReference(records, internship.getRole());
+                heap.putReference(records, internship.getStatus());
+                records.putInt(internship.getDeadline().getPacked());
+                records.putInt(internship.getPay());
+            }
+            recordPosition = flush(channel, records, recordPosition);
+            for (int i = 0; i < count; i++) {
+                if (records.remaining() < ID_BYTES) {
+                    recordPosition = flush(channel, records, recordPosition);
+                }
+                records.putInt(ids.applyAsInt(i));
+            }
+            flush(channel, records, recordPosition);
+            heap.finish();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putLong(generation).putInt(count).putInt(nextId)
+                    .putLong(heapStart);
+            header.flip();
+            channel.write(header, 0);
+            // The file must be on disk before it replaces the previous snapshot.
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Memory-maps the file at {@code path} and validates its header.
+     *
+     * @param path file to map
+     * @return a read-only little-endian view of the whole file
+     * @throws IOException if the file cannot be read
+     * @throws InternityException if the file is not a valid internship store
+     */
+    public static MappedByteBuffer map(Path path) throws IOException, InternityException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw InternityException.corruptedStorage(path.getFileName().toString());
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            int version = buffer.getInt(4);
+            long idBytes = version == VERSION_WITHOUT_IDS ? 0 : ID_BYTES;
+            if (buffer.getInt(0) != MAGIC || (version != VERSION && version != VERSION_WITHOUT_IDS)
+                    || getHeapStart(buffer) != HEADER_BYTES + (long) getCount(buffer) * (RECORD_BYTES + idBytes)
+                    || getHeapStart(buffer) > size) {
+                throw InternityException.corruptedStorage(path.getFileName().toString());
+            }
+            return buffer;
+        }
+    }
+
+    static long getGeneration(ByteBuffer buffer) {
+        return buffer.getLong(GENERATION_OFFSET);
+    }
+
+    static int getCount(ByteBuffer buffer) {
+        return buffer.getInt(COUNT_OFFSET);
+    }
+
+    static long getHeapStart(ByteBuffer buffer) {
+        return buffer.getLong(HEAP_START_OFFSET);
+    }
+
+    static int getNextId(ByteBuffer buffer) {
+        return hasIds(buffer) ? buffer.getInt(NEXT_ID_OFFSET) : FIRST_ID + getCount(buffer);
+    }
+
+    /**
+     * Returns the id of record {@code record} of a buffer returned by {@link #map(Path)}.
+     */
+    static int readId(ByteBuffer buffer, int record) {
+        if (!hasIds(buffer)) {
+            return FIRST_ID + record;
+        }
+        return buffer.getInt(HEADER_BYTES + getCount(buffer) * RECORD_BYTES + record * ID_BYTES);
+    }
+
+    private static boolean hasIds(ByteBuffer buffer) {
+        return buffer.getInt(4) != VERSION_WITHOUT_IDS;
+    }
+
+    /**
+     * Decodes record {@code record} of a buffer returned by {@link #map(Path)}.
+     */
+    static Internship readRecord(ByteBuffer buffer, int record) {
+        int position = HEADER_BYTES + record * RECORD_BYTES;
+        int heapStart = (int) getHeapStart(buffer);
+        String company = readString(buffer, heapStart, position);
+        String role = readString(buffer, heapStart, position + 8);
+        String status = readString(buffer, heapStart, position + 16);
+        Internship internship = new Internship(company, role, Date.fromPacked(buffer.getInt(position + 24)),
+                buffer.getInt(position + 28));
+        internship.setStatus(status);
+        return internship;
+    }
+
+    private static String readString(ByteBuffer buffer, int heapStart, int referencePosition) {
+        int offset = buffer.getInt(referencePosition);
+        int length = buffer.getInt(referencePosition + 4);
+        byte[] bytes = new byte[length];
+        buffer.get(heapStart + offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long flush(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        buffer.clear();
+        return position;
+    }
+
+    /**
+     * Appends strings to the heap region, writing each distinct string once.
+     */
+    private static class HeapWriter {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+        private final Map<String, Integer> offsets = new HashMap<>();
+        private long position;
+        private int length;
+
+        HeapWriter(FileChannel channel, long heapStart) {
+            this.channel = channel;
+            this.position = heapStart;
+        }
+
+        void putReference(ByteBuffer records, String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            Integer offset = offsets.get(value);
+            if (offset == null) {
+                offset = append(bytes);
+                offsets.put(value, offset);
+            }
+            records.putInt(offset);
+            records.putInt(bytes.length);
+        }
+
+        private int append(byte[] bytes) throws IOException {
+            if ((long) length + bytes.length > Integer.MAX_VALUE - HEADER_BYTES) {
+                throw new IOException("Too much text to store in one snapshot");
+            }
+            int offset = length;
+            int written = 0;
+            while (written < bytes.length) {
+                if (!buffer.hasRemaining()) {
+                    position = flush(channel, buffer, position);
+                }
+                int chunk = Math.min(buffer.remaining(), bytes.length - written);
+                buffer.put(bytes, written, chunk);
+                written += chunk;
+            }
+            length += bytes.length;
+            return offset;
+        }
+
+        void finish() throws IOException {
+            position = flush(channel, buffer, position);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package internity.storage;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import internity.core.Date;
+import internity.core.Internship;
+
+/**
+ * A list of internships stored column by column instead of as one object per internship.
+ *
+ * <p>
+ * Pay and deadlines are held in primitive {@code int} arrays, deadlines as {@link Date#getPacked()} values.
+ * Companies, roles and statuses are dictionary-encoded: each distinct string is stored once and every row
+ * holds an {@code int} code for it. A row therefore costs five {@code int}s however many times its strings
+ * repeat, and a scan over a column is a loop over a primitive array, see {@link #getPay(int)},
+ * {@link #getPackedDeadline(int)} and {@link #getStatusCode(int)}.
+ * </p>
+ *
+ * <p>
+ * {@link #get(int)} builds a new {@link Internship} from the row on every call, so changes made to the
+ * returned object only take effect once it is written back with {@link #set(int, Internship)}.
+ * {@code null} elements are supported and are returned as {@code null}.
+ * </p>
+ */
+public class ColumnarInternshipList extends AbstractList<Internship> implements RandomAccess {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int NULL_ROW = -1;
+
+    private final Dictionary companies = new Dictionary();
+    private final Dictionary roles = new Dictionary();
+    private final Dictionary statuses = new Dictionary();
+    private int[] companyCodes = new int[INITIAL_CAPACITY];
+    private int[] roleCodes = new int[INITIAL_CAPACITY];
+    private int[] statusCodes = new int[INITIAL_CAPACITY];
+    private int[] deadlines = new int[INITIAL_CAPACITY];
+    private int[] pays = new int[INITIAL_CAPACITY];
+    private int size;
+
+    public ColumnarInternshipList() {
+    }
+
+    /**
+     * Returns a columnar copy of {@code internships}.
+     *
+     * @param internships internships to copy, in list order
+     * @return a new list holding the same internships
+     */
+    public static ColumnarInternshipList copyOf(List<Internship> internships) {
+        ColumnarInternshipList copy = new ColumnarInternshipList();
+        copy.addAll(internships);
+        return copy;
+    }
+
+    @Override
+    public Internship get(int index) {
+        checkIndex(index);
+        if (companyCodes[index] == NULL_ROW) {
+            return null;
+        }
+        Internship internship = new Internship(companies.valueOf(companyCodes[index]),
+                roles.valueOf(roleCodes[index]), Date.fromPacked(deadlines[index]), pays[index]);
+        internship.setStatus(statuses.valueOf(statusCodes[index]));
+        return internship;
+    }
+
+    @Override
+    public Internship set(int index, Internship internship) {
+        Internship previous = get(index);
+        store(index, internship);
+        return previous;
+    }
+
+    @Override
+    public boolean add(Internship internship) {
+        ensureCapacity(size + 1);
+        store(size++, internship);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Internship> internships) {
+        ensureCapacity(size + internships.size());
+        for (Internship internship : internships) {
+            add(internship);
+        }
+        return !internships.isEmpty();
+    }
+
+    @Override
+    public Internship remove(int index) {
+        Internship removed = get(index);
+        int moved = size - index - 1;
+        System.arraycopy(companyCodes, index + 1, companyCodes, index, moved);
+        System.arraycopy(roleCodes, index + 1, roleCodes, index, moved);
+        System.arraycopy(statusCodes, index + 1, statusCodes, index, moved);
+        System.arraycopy(deadlines, index + 1, deadlines, index, moved);
+        System.arraycopy(pays, index + 1, pays, index, moved);
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        companies.clear();
+        roles.clear();
+        statuses.clear();
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the pay of the internship at {@code index} without building an {@link Internship}.
+     *
+     * @param index position of a non-{@code null} internship
+     * @return the pay
+     */
+    public int getPay(int index) {
+        checkIndex(index);
+        return pays[index];
+    }
+
+    /**
+     * Returns the deadline of the internship at {@code index} in {@link Date#getPacked()} form.
+     *
+     * @param index position of a non-{@code null} internship
+     * @return the packed deadline
+     */
+    public int getPackedDeadline(int index) {
+        checkIndex(index);
+        return deadlines[index];
+    }
+
+    /**
+     * Returns the dictionary code of the status of the internship at {@code index}.
+     * Equal statuses have equal codes, so rows can be grouped or filtered by status without comparing strings.
+     *
+     * @param index position of a non-{@code null} internship
+     * @return the status code
+     */
+    public int getStatusCode(int index) {
+        checkIndex(index);
+        return statusCodes[index];
+    }
+
+    /**
+     * Returns the code used for {@code status}, or {@code -1} if no internship has ever had that status.
+     * The comparison is case-sensitive.
+     *
+     * @param status the status to look up
+     * @return the status code, or {@code -1}
+     */
+    public int findStatusCode(String status) {
+        return statuses.codeOf(status);
+    }
+
+    /**
+     * Returns the status encoded by {@code code}.
+     *
+     * @param code a code returned by {@link #getStatusCode(int)}
+     * @return the status
+     */
+    public String getStatus(int code) {
+        return statuses.valueOf(code);
+    }
+
+    private void store(int index, Internship internship) {
+        if (internship == null) {
+            companyCodes[index] = NULL_ROW;
+            return;
+        }
+        companyCodes[index] = companies.encode(internship.getCompany());
+        roleCodes[index] = roles.encode(internship.getRole());
+        statusCodes[index] = statuses.encode(internship.getStatus());
+        deadlines[index] = internship.getDeadline().getPacked();
+        pays[index] = internship.getPay();
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= pays.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, pays.length * 2);
+        companyCodes = Arrays.copyOf(companyCodes, newCapacity);
+        roleCodes = Arrays.copyOf(roleCodes, newCapacity);
+        statusCodes = Arrays.copyOf(statusCodes, newCapacity);
+        deadlines = Arrays.copyOf(deadlines, newCapacity);
+        pays = Arrays.copyOf(pays, newCapacity);
+    }
+
+    /**
+     * Maps each distinct string of a column to a small {@code int} code and back.
+     * Codes are never reused while the list holds rows, so removing a row leaves its strings in place.
+     */
+    private static class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final ArrayList<String> values = new ArrayList<>();
+
+        int encode(String value) {
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = values.size();
+                codes.put(value, code);
+                values.add(value);
+            }
+            return code;
+        }
+
+        int codeOf(String value) {
+            return codes.getOrDefault(value, -1);
+        }
+
+        String valueOf(int code) {
+            return values.get(code);
+        }
+
+        void clear() {
+            codes.clear();
+            values.clear();
+        }
+    }
+}
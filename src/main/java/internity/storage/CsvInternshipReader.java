@@ -0,0 +1,260 @@
+package internity.storage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.utils.DateFormatter;
+
+/**
+ * Reads internships from a CSV file with the columns {@code company,role,deadline,pay} and an optional
+ * fifth {@code status} column.
+ *
+ * <p>
+ * The file is read line by line and handed out in chunks of {@value #CHUNK_LINES} lines, which are parsed
+ * in parallel on the common {@link ForkJoinPool} while the next chunks are being read. At most a few chunks
+ * per worker are in flight, so unparsed text never piles up in memory. Results are collected in file order.
+ * </p>
+ *
+ * <p>
+ * Fields may be quoted with {@code "}, in which case they may contain commas and doubled quotes, but not line
+ * breaks. A first line whose first field is {@code company} is treated as a header and skipped. Blank lines are
+ * ignored. The whole import fails on the first invalid row, so a file is either read completely or not at all.
+ * </p>
+ *
+ * <p>
+ * This class cannot be instantiated.
+ * </p>
+ */
+public final class CsvInternshipReader {
+    private static final int CHUNK_LINES = 4096;
+    private static final int MAX_CHUNKS_IN_FLIGHT = 4 * ForkJoinPool.getCommonPoolParallelism();
+    private static final int REQUIRED_COLUMNS = 4;
+    private static final int MAX_COLUMNS = 5;
+
+    private CsvInternshipReader() {
+    } // prevent instantiation
+
+    /**
+     * Reads every internship in the CSV file at {@code path}.
+     *
+     * @param path the file to read
+     * @return the internships in file order
+     * @throws InternityException if the file cannot be read or a row is invalid
+     */
+    public static List<Internship> read(Path path) throws InternityException {
+        List<Internship> internships = new ArrayList<>();
+        ArrayDeque<ChunkParser> inFlight = new ArrayDeque<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            int lineNumber = 1;
+            if (line != null && isHeader(line)) {
+                line = reader.readLine();
+                lineNumber++;
+            }
+            while (line != null) {
+                String[] chunk = new String[CHUNK_LINES];
+                int firstLine = lineNumber;
+                int count = 0;
+                while (line != null && count < CHUNK_LINES) {
+                    chunk[count++] = line;
+                    line = reader.readLine();
+                    lineNumber++;
+                }
+                ChunkParser parser = new ChunkParser(Arrays.copyOf(chunk, count), firstLine);
+                ForkJoinPool.commonPool().execute(parser);
+                inFlight.add(parser);
+                if (inFlight.size() >= MAX_CHUNKS_IN_FLIGHT) {
+                    collect(inFlight.remove(), internships);
+                }
+            }
+        } catch (NoSuchFileException e) {
+            throw InternityException.importError(path.toString(), "file not found");
+        } catch (IOException e) {
+            cancel(inFlight);
+            throw InternityException.importError(path.toString(), e.getMessage());
+        } catch (InternityException e) {
+            cancel(inFlight);
+            throw e;
+        }
+        while (!inFlight.isEmpty()) {
+            try {
+                collect(inFlight.remove(), internships);
+            } catch (InternityException e) {
+                cancel(inFlight);
+                throw e;
+            }
+        }
+        return internships;
+    }
+
+    private static boolean isHeader(String line) {
+        try {
+            return splitRow(line).get(0).equalsIgnoreCase("company");
+        } catch (InternityException e) {
+            return false;
+        }
+    }
+
+    private static void collect(ChunkParser parser, List<Internship> internships) throws InternityException {
+        ChunkResult result = parser.join();
+        if (result.error != null) {
+            throw result.error;
+        }
+        internships.addAll(result.internships);
+    }
+
+    private static void cancel(ArrayDeque<ChunkParser> inFlight) {
+        for (ChunkParser parser : inFlight) {
+            parser.cancel(false);
+        }
+    }
+
+    /**
+     * Parses one CSV row.
+     *
+     * @param line the row, without its line break
+     * @return the internship described by the row
+     * @throws InternityException if the row does not have valid fields
+     */
+    static Internship parseRow(String line) throws InternityException {
+        List<String> fields = splitRow(line);
+        if (fields.size() < REQUIRED_COLUMNS || fields.size() > MAX_COLUMNS) {
+            throw new InternityException("expected 4 or 5 columns but found " + fields.size());
+        }
+        String company = requireField(fields, 0, "company");
+        String role = requireField(fields, 1, "role");
+        Date deadline = DateFormatter.parse(requireField(fields, 2, "deadline"));
+        int pay = parsePay(requireField(fields, 3, "pay"));
+        Internship internship = new Internship(company, role, deadline, pay);
+        if (fields.size() == MAX_COLUMNS && !fields.get(4).isEmpty()) {
+            internship.setStatus(fields.get(4));
+        }
+        return internship;
+    }
+
+    private static List<String> splitRow(String line) throws InternityException {
+        List<String> fields = new ArrayList<>(MAX_COLUMNS);
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (true) {
+            field.setLength(0);
+            while (i < line.length() && line.charAt(i) == ' ') {
+                i++;
+            }
+            if (i < line.length() && line.charAt(i) == '"') {
+                i = readQuoted(line, i + 1, field);
+                while (i < line.length() && line.charAt(i) == ' ') {
+                    i++;
+                }
+                if (i < line.length() && line.charAt(i) != ',') {
+                    throw new InternityException("unexpected text after a quoted field");
+                }
+            } else {
+                int end = line.indexOf(',', i);
+                end = end < 0 ? line.length() : end;
+                field.append(line, i, end);
+                i = end;
+            }
+            fields.add(field.toString().strip());
+            if (i >= line.length()) {
+                return fields;
+            }
+            i++; // skip the comma
+        }
+    }
+
+    /**
+     * Appends the quoted field starting after the opening quote at {@code start} and returns the index
+     * after its closing quote.
+     */
+    private static int readQuoted(String line, int start, StringBuilder field) throws InternityException {
+        int i = start;
+        while (i < line.length()) {
+            char c = line.charAt(i);
+            if (c != '"') {
+                field.append(c);
+                i++;
+            } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                field.append('"');
+                i += 2;
+            } else {
+                return i + 1;
+            }
+        }
+        throw new InternityException("unterminated quoted field");
+    }
+
+    private static String requireField(List<String> fields, int column, String name) throws InternityException {
+        String value = fields.get(column);
+        if (value.isEmpty()) {
+            throw new InternityException(name + " cannot be empty");
+        }
+        return value;
+    }
+
+    private static int parsePay(String value) throws InternityException {
+        int pay = 0;
+        for (int i = 0; i < value.length(); i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || pay > (Integer.MAX_VALUE - digit) / 10) {
+                throw new InternityException("pay must be a whole number, got \"" + value + "\"");
+            }
+            pay = pay * 10 + digit;
+        }
+        return pay;
+    }
+
+    /**
+     * The internships parsed from one chunk, or the error for its first invalid row.
+     */
+    private static class ChunkResult {
+        private final List<Internship> internships;
+        private final InternityException error;
+
+        ChunkResult(List<Internship> internships, InternityException error) {
+            this.internships = internships;
+            this.error = error;
+        }
+    }
+
+    private static class ChunkParser extends RecursiveTask<ChunkResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final String[] lines;
+        private final int firstLine;
+
+        ChunkParser(String[] lines, int firstLine) {
+            this.lines = lines;
+            this.firstLine = firstLine;
+        }
+
+        @Override
+        protected ChunkResult compute() {
+            List<Internship> internships = new ArrayList<>(lines.length);
+            for (int i = 0; i < lines.length; i++) {
+                if (lines[i].isBlank()) {
+                    continue;
+                }
+                try {
+                    internships.add(parseRow(lines[i]));
+                } catch (InternityException e) {
+                    return new ChunkResult(null, InternityException.invalidCsvRow(firstLine + i, e.getMessage()));
+                }
+            }
+            return new ChunkResult(internships, null);
+        }
+    }
+}
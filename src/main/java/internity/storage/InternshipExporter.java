@@ -0,0 +1,247 @@
+package internity.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import internity.core.Date;
+import internity.core.Internship;
+
+/**
+ * Writes internships to a CSV or JSON file.
+ *
+ * <p>
+ * Records are encoded as UTF-8 straight into one direct {@link ByteBuffer} of {@value #BUFFER_BYTES} bytes,
+ * which is written to a {@link FileChannel} whenever it fills up. No intermediate strings are built, so the
+ * memory used does not depend on the number of internships.
+ * </p>
+ *
+ * <p>
+ * The CSV file starts with a {@code company,role,deadline,pay,status} header and quotes fields that contain
+ * commas, quotes or line breaks, so it can be read back by {@link CsvInternshipReader} as long as no field
+ * contains a line break. The JSON file holds one array of objects with the same five keys.
+ * </p>
+ */
+public class InternshipExporter {
+    private static final int BUFFER_BYTES = 64 * 1024;
+    /** Bytes needed for the longest UTF-8 character encoding and for a six-character JSON unicode escape. */
+    private static final int MAX_CHAR_BYTES = 6;
+    private static final int MAX_INT_BYTES = 11;
+    private static final String CSV_HEADER = "company,role,deadline,pay,status\n";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * The supported file formats.
+     */
+    public enum Format {
+        CSV, JSON
+    }
+
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    private final byte[] digits = new byte[MAX_INT_BYTES];
+    private FileChannel channel;
+
+    /**
+     * Writes {@code internships} to {@code path} in the given format, replacing any existing file.
+     * {@code null} elements are skipped.
+     *
+     * @param internships the internships to write, in order
+     * @param format the file format
+     * @param path the file to write
+     * @return the number of internships written
+     * @throws IOException if the file cannot be written
+     */
+    public int export(List<Internship> internships, Format format, Path path) throws IOException {
+        buffer.clear();
+        try (FileChannel output = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel = output;
+            int count = format == Format.CSV ? writeCsv(internships) : writeJson(internships);
+            flush();
+            return count;
+        } finally {
+            channel = null;
+        }
+    }
+
+    private int writeCsv(List<Internship> internships) throws IOException {
+        putAscii(CSV_HEADER);
+        int count = 0;
+        for (Internship internship : internships) {
+            if (internship == null) {
+                continue;
+            }
+            putCsvField(internship.getCompany());
+            putByte(',');
+            putCsvField(internship.getRole());
+            putByte(',');
+            putDate(internship.getDeadline());
+            putByte(',');
+            putInt(internship.getPay());
+            putByte(',');
+            putCsvField(internship.getStatus());
+            putByte('\n');
+            count++;
+        }
+        return count;
+    }
+
+    private int writeJson(List<Internship> internships) throws IOException {
+        putByte('[');
+        int count = 0;
+        for (Internship internship : internships) {
+            if (internship == null) {
+                continue;
+            }
+            putAscii(count == 0 ? "\n  {\"company\": " : ",\n  {\"company\": ");
+            putJsonString(internship.getCompany());
+            putAscii(", \"role\": ");
+            putJsonString(internship.getRole());
+            putAscii(", \"deadline\": \"");
+            putDate(internship.getDeadline());
+            putAscii("\", \"pay\": ");
+            putInt(internship.getPay());
+            putAscii(", \"status\": ");
+            putJsonString(internship.getStatus());
+            putByte('}');
+            count++;
+        }
+        putAscii(count == 0 ? "]\n" : "\n]\n");
+        return count;
+    }
+
+    private void putCsvField(String value) throws IOException {
+        if (!needsQuotes(value)) {
+            putUtf8(value);
+            return;
+        }
+        putByte('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                putByte('"');
+            }
+            i = putChar(value, i);
+        }
+        putByte('"');
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void putJsonString(String value) throws IOException {
+        putByte('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                putByte('\\');
+                putByte(c);
+            } else if (c == '\n') {
+                putAscii("\\n");
+            } else if (c == '\t') {
+                putAscii("\\t");
+            } else if (c < 0x20) {
+                ensureRemaining(MAX_CHAR_BYTES);
+                buffer.put((byte) '\\').put((byte) 'u').put((byte) '0').put((byte) '0')
+                        .put((byte) HEX_DIGITS[c >> 4]).put((byte) HEX_DIGITS[c & 0xF]);
+            } else {
+                i = putChar(value, i);
+            }
+        }
+        putByte('"');
+    }
+
+    private void putDate(Date date) throws IOException {
+        putAscii(date.toString());
+    }
+
+    private void putInt(int value) throws IOException {
+        ensureRemaining(MAX_INT_BYTES);
+        long remaining = value;
+        if (remaining < 0) {
+            buffer.put((byte) '-');
+            remaining = -remaining;
+        }
+        int start = digits.length;
+        do {
+            digits[--start] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining > 0);
+        buffer.put(digits, start, digits.length - start);
+    }
+
+    private void putAscii(String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            putByte(value.charAt(i));
+        }
+    }
+
+    private void putUtf8(String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            i = putChar(value, i);
+        }
+    }
+
+    /**
+     * Encodes the character at {@code index} as UTF-8, together with the following low surrogate if it
+     * starts a surrogate pair.
+     *
+     * @return the index of the last character consumed
+     */
+    private int putChar(String value, int index) throws IOException {
+        char c = value.charAt(index);
+        if (c < 0x80) {
+            putByte(c);
+            return index;
+        }
+        ensureRemaining(MAX_CHAR_BYTES);
+        if (c < 0x800) {
+            buffer.put((byte) (0xC0 | c >> 6)).put((byte) (0x80 | c & 0x3F));
+            return index;
+        }
+        if (Character.isHighSurrogate(c) && index + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(index + 1))) {
+            int codePoint = Character.toCodePoint(c, value.charAt(index + 1));
+            buffer.put((byte) (0xF0 | codePoint >> 18)).put((byte) (0x80 | codePoint >> 12 & 0x3F))
+                    .put((byte) (0x80 | codePoint >> 6 & 0x3F)).put((byte) (0x80 | codePoint & 0x3F));
+            return index + 1;
+        }
+        if (Character.isSurrogate(c)) {
+            buffer.put((byte) '?'); // an unpaired surrogate cannot be encoded
+            return index;
+        }
+        buffer.put((byte) (0xE0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3F)).put((byte) (0x80 | c & 0x3F));
+        return index;
+    }
+
+    private void putByte(char c) throws IOException {
+        if (!buffer.hasRemaining()) {
+            flush();
+        }
+        buffer.put((byte) c);
+    }
+
+    private void ensureRemaining(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,812 @@
+package internity.storage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+import internity.core.InternshipSnapshot;
+import internity.core.ListMutationListener;
+import internity.utils.DateFormatter;
+
+/**
+ * Persists the {@link InternshipList} as an append-only journal of mutations plus a periodic snapshot.
+ *
+ * <p>
+ * Every {@code add}, {@code delete}, {@code update} and {@code clear} is appended to the journal as a
+ * single line per internship, as is each internship that {@code undo} or {@code redo} puts back, so the cost
+ * of saving a command does not depend on the size of the list. Once the journal holds at least as many
+ * entries as the list holds internships, the whole list is written to a fresh snapshot and the journal is
+ * emptied. This keeps both replay time and the amortised cost of
+ * snapshotting proportional to the work actually done.
+ * </p>
+ *
+ * <p>
+ * Both the journal and the snapshot keep the id of every internship, and the snapshot also keeps the id the
+ * next internship will get, so {@code #ID} refers to the same internship after a restart.
+ * </p>
+ *
+ * <p>
+ * Snapshots use the {@link BinaryInternshipStore} format and are memory-mapped on startup, so records are
+ * only decoded once they are accessed. Each snapshot is written to a new file named after its generation
+ * and older ones are deleted afterwards, because a file that is still mapped cannot be replaced on every
+ * platform.
+ * </p>
+ *
+ * <p>
+ * The journal starts with a generation header. A journal whose generation is older than the snapshot has
+ * already been folded into it and is ignored on replay, which keeps a crash between writing the snapshot
+ * and truncating the journal from applying the same mutations twice.
+ * </p>
+ *
+ * <p>
+ * Each entry starts with the CRC-32 of the rest of its line. A crash can only tear the last entry, which is
+ * dropped if it does not end with a line break or its checksum does not match, rather than applied as a
+ * different change. A mismatch anywhere else means the journal is corrupted.
+ * </p>
+ *
+ * <p>
+ * Entries are not forced to disk one by one. The first entry after a commit schedules the next commit one
+ * commit window later, and every entry written in the meantime is flushed and forced with it, so a burst of
+ * commands costs a single {@code force()}. {@link #syncOpenJournals()} commits straight away; it runs on
+ * {@code exit} and when the JVM shuts down. A crash of the whole machine can lose at most the entries of the
+ * last window.
+ * </p>
+ */
+public class InternshipJournal implements ListMutationListener {
+    static final String JOURNAL_FILE = "internity.journal";
+    static final String SNAPSHOT_PREFIX = "internity-";
+    static final String SNAPSHOT_SUFFIX = ".snapshot";
+
+    private static final Logger logger = Logger.getLogger(InternshipJournal.class.getName());
+    private static final String SNAPSHOT_GLOB = SNAPSHOT_PREFIX + "*" + SNAPSHOT_SUFFIX + "*";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final String GENERATION_HEADER = "#generation ";
+    private static final int DEFAULT_MIN_ENTRIES_BEFORE_SNAPSHOT = 1024;
+    /** The default time entries wait for others to be committed with. */
+    public static final Duration DEFAULT_COMMIT_WINDOW = Duration.ofMillis(50);
+    private static final int WRITER_BUFFER_CHARS = 64 * 1024;
+    private static final Set<InternshipJournal> openJournals = ConcurrentHashMap.newKeySet();
+    private static final AtomicBoolean isShutdownHookAdded = new AtomicBoolean();
+    private static final char SEPARATOR = '\t';
+    private static final char ESCAPE = '\\';
+    private static final int CHECKSUM_DIGITS = 8;
+
+    private final Path dataDirectory;
+    private final Path journalPath;
+    private final int minEntriesBeforeSnapshot;
+    private final long commitWindowNanos;
+    private FileChannel channel;
+    private BufferedWriter writer;
+    private long generation;
+    private int entriesSinceSnapshot;
+    private ScheduledExecutorService committer;
+    private boolean isDirty;
+    private boolean isCommitScheduled;
+    private long commitCount;
+
+    /**
+     * Creates a journal that stores its files in the given directory.
+     *
+     * @param dataDirectory directory holding the journal and snapshot files
+     */
+    public InternshipJournal(Path dataDirectory) {
+        this(dataDirectory, DEFAULT_COMMIT_WINDOW);
+    }
+
+    /**
+     * Creates a journal that stores its files in the given directory and commits entries together if they
+     * are written within {@code commitWindow} of each other.
+     *
+     * @param dataDirectory directory holding the journal and snapshot files
+     * @param commitWindow the longest time an entry waits before it is forced to disk
+     */
+    public InternshipJournal(Path dataDirectory, Duration commitWindow) {
+        this(dataDirectory, DEFAULT_MIN_ENTRIES_BEFORE_SNAPSHOT, commitWindow);
+    }
+
+    InternshipJournal(Path dataDirectory, int minEntriesBeforeSnapshot) {
+        this(dataDirectory, minEntriesBeforeSnapshot, DEFAULT_COMMIT_WINDOW);
+    }
+
+    InternshipJournal(Path dataDirectory, int minEntriesBeforeSnapshot, Duration commitWindow) {
+        assert minEntriesBeforeSnapshot > 0 : "Snapshot threshold must be positive";
+        assert !commitWindow.isNegative() : "Commit window must not be negative";
+        this.dataDirectory = dataDirectory;
+        this.journalPath = dataDirectory.resolve(JOURNAL_FILE);
+        this.minEntriesBeforeSnapshot = minEntriesBeforeSnapshot;
+        this.commitWindowNanos = commitWindow.toNanos();
+    }
+
+    /**
+     * Loads the latest snapshot, replays the journal on top of it and starts recording
+     * further mutations of the {@link InternshipList}.
+     *
+     * @throws InternityException if the files cannot be read or written, or are corrupted
+     */
+    public void open() throws InternityException {
+        try {
+            Files.createDirectories(dataDirectory);
+            long snapshotGeneration = loadSnapshot();
+            JournalState state = replayJournal(snapshotGeneration);
+            generation = snapshotGeneration;
+            switch (state) {
+            case REUSABLE:
+                openWriter(StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                break;
+            case TORN:
+                // Fold the entries that did survive into a snapshot before the journal is emptied.
+                compact();
+                break;
+            default:
+                startJournal();
+                break;
+            }
+        } catch (IOException e) {
+            InternshipList.clear();
+            throw InternityException.storageError(e.getMessage(), e);
+        } catch (InternityException e) {
+            InternshipList.clear();
+            throw e;
+        }
+        committer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "internity-autosave");
+            thread.setDaemon(true);
+            return thread;
+        });
+        openJournals.add(this);
+        if (isShutdownHookAdded.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(InternshipJournal::syncOpenJournals,
+                    "internity-shutdown-sync"));
+        }
+        // Changes replayed from earlier sessions cannot be undone.
+        InternshipList.clearUndoHistory();
+        InternshipList.addListener(this);
+        logger.fine(() -> "Opened journal at generation " + generation + " with "
+                + entriesSinceSnapshot + " pending entries");
+    }
+
+    /**
+     * Stops recording mutations, commits the pending entries and releases the journal file.
+     *
+     * @throws InternityException if buffered entries cannot be written
+     */
+    public void close() throws InternityException {
+        InternshipList.removeListener(this);
+        openJournals.remove(this);
+        synchronized (this) {
+            if (committer != null) {
+                committer.shutdownNow();
+                committer = null;
+            }
+            if (writer == null) {
+                return;
+            }
+            try {
+                commit();
+                writer.close();
+            } catch (IOException e) {
+                throw InternityException.storageError(e.getMessage(), e);
+            } finally {
+                writer = null;
+                channel = null;
+            }
+        }
+    }
+
+    /**
+     * Forces every entry written so far to disk, without waiting for the commit window to end.
+     *
+     * @throws InternityException if the entries cannot be written
+     */
+    public synchronized void sync() throws InternityException {
+        try {
+            commit();
+        } catch (IOException e) {
+            throw InternityException.storageError(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Forces the entries of every open journal to disk, logging those that cannot be written.
+     * This runs when the user exits and when the JVM shuts down.
+     */
+    public static void syncOpenJournals() {
+        for (InternshipJournal journal : openJournals) {
+            try {
+                journal.sync();
+            } catch (InternityException e) {
+                logger.warning(() -> "Failed to save changes to journal: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the number of times entries have been forced to disk since the journal was opened.
+     */
+    synchronized long getCommitCount() {
+        return commitCount;
+    }
+
+    /**
+     * Writes the current list to a new snapshot and empties the journal.
+     *
+     * @throws InternityException if the snapshot cannot be written
+     */
+    public void compact() throws InternityException {
+        // Locks the list before the journal, in the same order as the listener callbacks.
+        InternshipList.read(this::compactLocked);
+    }
+
+    private synchronized void compactLocked() throws InternityException {
+        try {
+            long nextGeneration = generation + 1;
+            writeSnapshot(nextGeneration);
+            generation = nextGeneration;
+            if (writer != null) {
+                writer.close();
+            }
+            startJournal();
+            deleteSnapshotsExcept(generation);
+        } catch (IOException e) {
+            throw InternityException.storageError(e.getMessage(), e);
+        }
+        logger.fine(() -> "Compacted journal into snapshot generation " + generation);
+    }
+
+    @Override
+    public void onAdd(int index, Internship internship) {
+        append(encodeAdd(internship, InternshipList.getId(index)));
+    }
+
+    @Override
+    public synchronized void onAddAll(int fromIndex, List<Internship> added) {
+        if (writer == null) {
+            return;
+        }
+        try {
+            if (entriesSinceSnapshot + added.size() >= Math.max(minEntriesBeforeSnapshot, InternshipList.size())) {
+                // The list already holds the added internships, so the snapshot covers them.
+                compact();
+                return;
+            }
+            for (int i = 0; i < added.size(); i++) {
+                writer.write(seal(encodeAdd(added.get(i), InternshipList.getId(fromIndex + i))));
+                writer.write('\n');
+            }
+            entriesSinceSnapshot += added.size();
+            scheduleCommit();
+        } catch (IOException | InternityException e) {
+            logger.warning("Failed to save changes to journal: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void onDelete(int index, Internship removed) {
+        append(encodeDelete(index));
+    }
+
+    @Override
+    public void onDeleteAll(int[] indexes, List<Internship> removed) {
+        // Deleting from the last index first keeps the earlier indexes valid when the journal is replayed.
+        appendAll(indexes.length, i -> encodeDelete(indexes[indexes.length - 1 - i]));
+    }
+
+    @Override
+    public void onReinstateAll(int[] indexes, List<Internship> reinstated) {
+        appendAll(indexes.length, i -> encodeReinstate(indexes.length, indexes[i], reinstated.get(i),
+                InternshipList.getId(indexes[i])));
+    }
+
+    @Override
+    public void onStatusUpdate(int index, Internship internship, String oldStatus) {
+        append(encodeStatusUpdate(index, internship));
+    }
+
+    @Override
+    public void onStatusUpdateAll(int[] indexes, List<Internship> updated, List<String> oldStatuses) {
+        appendAll(indexes.length, i -> encodeStatusUpdate(indexes[i], updated.get(i)));
+    }
+
+    @Override
+    public void onClear() {
+        append("C");
+    }
+
+    private void append(String entry) {
+        appendAll(1, ignored -> entry);
+    }
+
+    /**
+     * Writes {@code count} entries, to be committed together with any others written in the same window.
+     */
+    private synchronized void appendAll(int count, IntFunction<String> entries) {
+        if (writer == null) {
+            return;
+        }
+        try {
+            for (int i = 0; i < count; i++) {
+                writer.write(seal(entries.apply(i)));
+                writer.write('\n');
+            }
+            entriesSinceSnapshot += count;
+            if (entriesSinceSnapshot >= Math.max(minEntriesBeforeSnapshot, InternshipList.size())) {
+                compact();
+            } else {
+                scheduleCommit();
+            }
+        } catch (IOException | InternityException e) {
+            logger.warning("Failed to save change to journal: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Marks the journal as holding uncommitted entries and schedules a commit if none is pending.
+     */
+    private void scheduleCommit() {
+        isDirty = true;
+        if (!isCommitScheduled && committer != null) {
+            isCommitScheduled = true;
+            committer.schedule(this::commitQuietly, commitWindowNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private synchronized void commitQuietly() {
+        isCommitScheduled = false;
+        try {
+            commit();
+        } catch (IOException e) {
+            logger.warning(() -> "Failed to save changes to journal: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Flushes the entries written since the last commit and forces them to disk with a single {@code force()}.
+     */
+    private void commit() throws IOException {
+        if (!isDirty || writer == null) {
+            return;
+        }
+        writer.flush();
+        channel.force(false);
+        isDirty = false;
+        commitCount++;
+    }
+
+    private void startJournal() throws IOException {
+        openWriter(StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        writer.write(GENERATION_HEADER + generation);
+        writer.write('\n');
+        writer.flush();
+        channel.force(false);
+        entriesSinceSnapshot = 0;
+        isDirty = false;
+    }
+
+    private void openWriter(StandardOpenOption... options) throws IOException {
+        channel = FileChannel.open(journalPath, options);
+        writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), WRITER_BUFFER_CHARS);
+    }
+
+    private void writeSnapshot(long snapshotGeneration) throws IOException {
+        Path target = snapshotPath(dataDirectory, snapshotGeneration);
+        Path temporary = target.resolveSibling(target.getFileName() + TEMPORARY_SUFFIX);
+        InternshipList.read(() -> {
+            InternshipSnapshot current = InternshipList.snapshot();
+            int[] ids = current.getIds();
+            BinaryInternshipStore.write(temporary, snapshotGeneration, current.asList(), i -> ids[i],
+                    InternshipList.getNextId());
+        });
+        try {
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        // The rename must be on disk before the journal is emptied and the older snapshots are deleted.
+        syncDirectory(dataDirectory);
+    }
+
+    /**
+     * Forces the entries of {@code directory} to disk. Platforms that cannot open a directory, such as Windows,
+     * make renames durable by themselves, so failing to open it is ignored.
+     */
+    private static void syncDirectory(Path directory) throws IOException {
+        FileChannel directoryChannel;
+        try {
+            directoryChannel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException e) {
+            logger.fine(() -> "Cannot open " + directory + " to sync it: " + e.getMessage());
+            return;
+        }
+        try (directoryChannel) {
+            directoryChannel.force(true);
+        }
+    }
+
+    /**
+     * Maps the newest snapshot as the backing list of the {@link InternshipList}.
+     *
+     * @return the generation of the loaded snapshot, or {@code 0} if there is none
+     */
+    private long loadSnapshot() throws IOException, InternityException {
+        long newest = -1;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dataDirectory, SNAPSHOT_GLOB)) {
+            for (Path file : files) {
+                newest = Math.max(newest, parseSnapshotGeneration(file));
+            }
+        }
+        if (newest < 0) {
+            return 0;
+        }
+        MappedInternshipList snapshot = MappedInternshipList.open(snapshotPath(dataDirectory, newest));
+        if (snapshot.getGeneration() != newest) {
+            throw InternityException.corruptedStorage(snapshotPath(dataDirectory, newest).getFileName().toString());
+        }
+        try {
+            InternshipList.restore(snapshot, snapshot.getIds(), snapshot.getNextId());
+        } catch (IllegalArgumentException e) {
+            throw InternityException.corruptedStorage(snapshotPath(dataDirectory, newest).getFileName().toString());
+        }
+        deleteSnapshotsExcept(newest);
+        return newest;
+    }
+
+    /**
+     * Removes snapshots other than the current one.
+     * A snapshot that is still mapped may not be deletable on some platforms; it is retried on the next run.
+     */
+    private void deleteSnapshotsExcept(long keptGeneration) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dataDirectory, SNAPSHOT_GLOB)) {
+            for (Path file : files) {
+                if (parseSnapshotGeneration(file) == keptGeneration) {
+                    continue;
+                }
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    logger.fine(() -> "Could not delete old snapshot " + file + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    static Path snapshotPath(Path dataDirectory, long snapshotGeneration) {
+        return dataDirectory.resolve(SNAPSHOT_PREFIX + snapshotGeneration + SNAPSHOT_SUFFIX);
+    }
+
+    /**
+     * Returns the generation encoded in a snapshot file name, or {@code -1} for unfinished snapshots.
+     */
+    private static long parseSnapshotGeneration(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.endsWith(SNAPSHOT_SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(SNAPSHOT_PREFIX.length(), name.length() - SNAPSHOT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Replays the journal if it belongs to the loaded snapshot.
+     *
+     * @return whether new entries can be appended to the existing journal file
+     */
+    private JournalState replayJournal(long snapshotGeneration) throws IOException, InternityException {
+        if (!Files.exists(journalPath)) {
+            return JournalState.STALE;
+        }
+        boolean isTerminated = endsWithNewline(journalPath);
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null || readGeneration(header, JOURNAL_FILE) < snapshotGeneration) {
+                logger.fine("Ignoring journal that is already part of the snapshot");
+                return JournalState.STALE;
+            }
+            List<List<String>> reinstated = new ArrayList<>();
+            String line = reader.readLine();
+            while (line != null) {
+                String next = reader.readLine();
+                if (next == null && !isTerminated) {
+                    // Every committed entry ends with a line break, so this one was cut short by a crash.
+                    logger.warning("Discarding incomplete journal entry: " + line);
+                    return JournalState.TORN;
+                }
+                try {
+                    List<String> fields = decode(unseal(line));
+                    if (fields.get(0).equals("R")) {
+                        // The entries of one reinstatement are put back together, once all of them are read.
+                        reinstated.add(fields);
+                        if (reinstated.size() == parseBatchSize(reinstated.get(0))) {
+                            applyReinstateAll(reinstated);
+                            reinstated.clear();
+                        } else if (next == null) {
+                            throw InternityException.corruptedStorage("incomplete entry R");
+                        }
+                    } else if (!reinstated.isEmpty()) {
+                        throw InternityException.corruptedStorage("incomplete entry R");
+                    } else {
+                        apply(fields);
+                    }
+                } catch (InternityException e) {
+                    if (next != null) {
+                        throw InternityException.corruptedStorage(JOURNAL_FILE);
+                    }
+                    // Only the final entry can be torn by a crash mid-write; drop it and start over.
+                    logger.warning("Discarding incomplete journal entry: " + line);
+                    return JournalState.TORN;
+                }
+                entriesSinceSnapshot++;
+                line = next;
+            }
+        }
+        return JournalState.REUSABLE;
+    }
+
+    /**
+     * Returns whether the file is empty or ends with a line break.
+     */
+    private static boolean endsWithNewline(Path file) throws IOException {
+        try (FileChannel reader = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = reader.size();
+            if (size == 0) {
+                return true;
+            }
+            ByteBuffer last = ByteBuffer.allocate(1);
+            reader.read(last, size - 1);
+            return last.get(0) == '\n';
+        }
+    }
+
+    private static long readGeneration(String header, String fileName) throws InternityException {
+        if (header == null || !header.startsWith(GENERATION_HEADER)) {
+            throw InternityException.corruptedStorage(fileName);
+        }
+        try {
+            return Long.parseLong(header.substring(GENERATION_HEADER.length()));
+        } catch (NumberFormatException e) {
+            throw InternityException.corruptedStorage(fileName);
+        }
+    }
+
+    private static void apply(List<String> fields) throws InternityException {
+        try {
+            applyEntry(fields);
+        } catch (NumberFormatException e) {
+            throw InternityException.corruptedStorage("malformed entry " + fields.get(0));
+        }
+    }
+
+    private static void applyEntry(List<String> fields) throws InternityException {
+        switch (fields.get(0)) {
+        case "A":
+            // Entries written before ids were saved have no id, and take the next one as they did then.
+            if (fields.size() != 6) {
+                requireFieldCount(fields, 7);
+            }
+            Internship internship = parseInternship(fields, 1);
+            if (fields.size() == 7) {
+                InternshipList.addWithId(internship, Integer.parseInt(fields.get(6)));
+            } else {
+                InternshipList.add(internship);
+            }
+            break;
+        case "D":
+            requireFieldCount(fields, 2);
+            InternshipList.delete(Integer.parseInt(fields.get(1)));
+            break;
+        case "U":
+            requireFieldCount(fields, 3);
+            InternshipList.updateStatus(Integer.parseInt(fields.get(1)), fields.get(2));
+            break;
+        case "C":
+            InternshipList.clear();
+            break;
+        default:
+            throw InternityException.corruptedStorage("unknown entry " + fields.get(0));
+        }
+    }
+
+    /**
+     * Puts back the internships of one reinstatement, given as its {@code R} entries.
+     */
+    private static void applyReinstateAll(List<List<String>> entries) throws InternityException {
+        int[] indexes = new int[entries.size()];
+        int[] ids = new int[entries.size()];
+        List<Internship> internships = new ArrayList<>(entries.size());
+        try {
+            for (int i = 0; i < indexes.length; i++) {
+                List<String> fields = entries.get(i);
+                requireFieldCount(fields, 9);
+                if (parseBatchSize(fields) != indexes.length) {
+                    throw InternityException.corruptedStorage("malformed entry R");
+                }
+                indexes[i] = Integer.parseInt(fields.get(2));
+                internships.add(parseInternship(fields, 3));
+                ids[i] = Integer.parseInt(fields.get(8));
+            }
+        } catch (NumberFormatException e) {
+            throw InternityException.corruptedStorage("malformed entry R");
+        }
+        InternshipList.reinstateAll(indexes, ids, internships);
+    }
+
+    /**
+     * Returns the number of internships put back by the reinstatement an {@code R} entry belongs to.
+     */
+    private static int parseBatchSize(List<String> fields) throws InternityException {
+        try {
+            int size = fields.size() > 1 ? Integer.parseInt(fields.get(1)) : 0;
+            if (size > 0) {
+                return size;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below, like any other malformed entry.
+        }
+        throw InternityException.corruptedStorage("malformed entry R");
+    }
+
+    /**
+     * Reads an internship from the five fields starting at {@code from}: company, role, deadline, pay and status.
+     */
+    private static Internship parseInternship(List<String> fields, int from) throws InternityException {
+        Date deadline = DateFormatter.parse(fields.get(from + 2));
+        Internship internship = new Internship(fields.get(from), fields.get(from + 1), deadline,
+                Integer.parseInt(fields.get(from + 3)));
+        internship.setStatus(fields.get(from + 4));
+        return internship;
+    }
+
+    private static void requireFieldCount(List<String> fields, int expected) throws InternityException {
+        if (fields.size() != expected) {
+            throw InternityException.corruptedStorage("malformed entry " + fields.get(0));
+        }
+    }
+
+    /**
+     * Prefixes an entry with the CRC-32 of its UTF-8 bytes, as eight hexadecimal digits.
+     */
+    private static String seal(String entry) {
+        CRC32 crc = new CRC32();
+        crc.update(entry.getBytes(StandardCharsets.UTF_8));
+        String checksum = Long.toHexString(crc.getValue());
+        return "0".repeat(CHECKSUM_DIGITS - checksum.length()) + checksum + SEPARATOR + entry;
+    }
+
+    /**
+     * Returns the entry in a journal line after checking its checksum. Entries written before checksums were
+     * added start with their one-letter kind instead, and are returned as they are.
+     *
+     * @throws InternityException if the checksum does not match the entry
+     */
+    private static String unseal(String line) throws InternityException {
+        if (!isSealed(line)) {
+            return line;
+        }
+        String entry = line.substring(CHECKSUM_DIGITS + 1);
+        CRC32 crc = new CRC32();
+        crc.update(entry.getBytes(StandardCharsets.UTF_8));
+        if (Long.parseLong(line, 0, CHECKSUM_DIGITS, 16) == crc.getValue()) {
+            return entry;
+        }
+        throw InternityException.corruptedStorage("checksum mismatch");
+    }
+
+    private static boolean isSealed(String line) {
+        if (line.length() <= CHECKSUM_DIGITS || line.charAt(CHECKSUM_DIGITS) != SEPARATOR) {
+            return false;
+        }
+        for (int i = 0; i < CHECKSUM_DIGITS; i++) {
+            if (Character.digit(line.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String encodeDelete(int index) {
+        return "D" + SEPARATOR + index;
+    }
+
+    private static String encodeStatusUpdate(int index, Internship internship) {
+        return "U" + SEPARATOR + index + SEPARATOR + escape(internship.getStatus());
+    }
+
+    private static String encodeAdd(Internship internship, int id) {
+        return "A" + SEPARATOR + encodeRecord(internship, id);
+    }
+
+    /**
+     * Encodes one of the {@code count} internships put back together, which is at {@code index} afterwards.
+     */
+    private static String encodeReinstate(int count, int index, Internship internship, int id) {
+        return "R" + SEPARATOR + count + SEPARATOR + index + SEPARATOR + encodeRecord(internship, id);
+    }
+
+    private static String encodeRecord(Internship internship, int id) {
+        return escape(internship.getCompany())
+                + SEPARATOR + escape(internship.getRole())
+                + SEPARATOR + internship.getDeadline()
+                + SEPARATOR + internship.getPay()
+                + SEPARATOR + escape(internship.getStatus())
+                + SEPARATOR + id;
+    }
+
+    private static String escape(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case ESCAPE -> sb.append(ESCAPE).append(ESCAPE);
+            case SEPARATOR -> sb.append(ESCAPE).append('t');
+            case '\n' -> sb.append(ESCAPE).append('n');
+            case '\r' -> sb.append(ESCAPE).append('r');
+            default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static List<String> decode(String line) {
+        List<String> fields = new ArrayList<>(9);
+        StringBuilder field = new StringBuilder();
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == ESCAPE && i + 1 < line.length()) {
+                char escaped = line.charAt(++i);
+                field.append(switch (escaped) {
+                case 't' -> SEPARATOR;
+                case 'n' -> '\n';
+                case 'r' -> '\r';
+                default -> escaped;
+                });
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Outcome of replaying the journal file on startup.
+     */
+    private enum JournalState {
+        /** Every entry was replayed and new entries can be appended. */
+        REUSABLE,
+        /** The journal is missing or already contained in the snapshot. */
+        STALE,
+        /** The final entry was incomplete and has been discarded. */
+        TORN
+    }
+}
@@ -0,0 +1,170 @@
+package internity.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import internity.core.InternityException;
+import internity.core.Internship;
+
+/**
+ * A list of internships backed by a memory-mapped {@link BinaryInternshipStore} file.
+ *
+ * <p>
+ * Opening the list only maps the file and reads its header. A record is decoded into an
+ * {@link Internship} the first time it is accessed and the same object is returned afterwards, so
+ * changes made to it are kept. Internships added after opening are held in memory after the mapped
+ * records. Removing a mapped record only updates an array of record numbers and never decodes it.
+ * </p>
+ * <p>
+ * Like other lists, it must not be modified while it is being read, but several threads may read it at once.
+ * </p>
+ */
+public class MappedInternshipList extends AbstractList<Internship> implements RandomAccess {
+    private final ByteBuffer buffer;
+    private final long generation;
+    private final AtomicReferenceArray<Internship> decoded;
+    private final ArrayList<Internship> appended = new ArrayList<>();
+    /** Record numbers of the mapped records still in the list, or {@code null} while none were removed. */
+    private int[] recordOrder;
+    private int mappedSize;
+
+    private MappedInternshipList(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.generation = BinaryInternshipStore.getGeneration(buffer);
+        this.mappedSize = BinaryInternshipStore.getCount(buffer);
+        this.decoded = new AtomicReferenceArray<>(mappedSize);
+    }
+
+    /**
+     * Maps the store at {@code path} without decoding any of its records.
+     *
+     * @param path file written by {@link BinaryInternshipStore#write}
+     * @return a list view of the file
+     * @throws IOException if the file cannot be read
+     * @throws InternityException if the file is not a valid internship store
+     */
+    public static MappedInternshipList open(Path path) throws IOException, InternityException {
+        return new MappedInternshipList(BinaryInternshipStore.map(path));
+    }
+
+    /**
+     * Returns the generation number recorded in the file header.
+     *
+     * @return the snapshot generation
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the id the next internship added will get, as recorded in the file header.
+     *
+     * @return the next id
+     */
+    public int getNextId() {
+        return BinaryInternshipStore.getNextId(buffer);
+    }
+
+    /**
+     * Returns the ids recorded in the file for the internships in the list, in list order. This reads only
+     * the ids, without decoding any record.
+     *
+     * @return the id of each internship
+     */
+    public int[] getIds() {
+        if (!appended.isEmpty()) {
+            throw new IllegalStateException("Internships added after opening have no recorded ids");
+        }
+        int[] ids = new int[mappedSize];
+        for (int i = 0; i < mappedSize; i++) {
+            ids[i] = BinaryInternshipStore.readId(buffer, recordAt(i));
+        }
+        return ids;
+    }
+
+    @Override
+    public Internship get(int index) {
+        if (index < mappedSize) {
+            if (index < 0) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return decode(recordAt(index));
+        }
+        return appended.get(index - mappedSize);
+    }
+
+    @Override
+    public Internship set(int index, Internship internship) {
+        if (index < mappedSize) {
+            Internship previous = get(index);
+            decoded.set(recordAt(index), internship);
+            return previous;
+        }
+        return appended.set(index - mappedSize, internship);
+    }
+
+    @Override
+    public boolean add(Internship internship) {
+        modCount++;
+        return appended.add(internship);
+    }
+
+    @Override
+    public Internship remove(int index) {
+        if (index >= mappedSize) {
+            modCount++;
+            return appended.remove(index - mappedSize);
+        }
+        Internship removed = get(index);
+        if (recordOrder == null) {
+            recordOrder = new int[mappedSize];
+            for (int i = 0; i < mappedSize; i++) {
+                recordOrder[i] = i;
+            }
+        }
+        int record = recordOrder[index];
+        System.arraycopy(recordOrder, index + 1, recordOrder, index, mappedSize - index - 1);
+        decoded.set(record, null);
+        mappedSize--;
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        mappedSize = 0;
+        recordOrder = null;
+        appended.clear();
+    }
+
+    @Override
+    public int size() {
+        return mappedSize + appended.size();
+    }
+
+    private int recordAt(int index) {
+        return recordOrder == null ? index : recordOrder[index];
+    }
+
+    /**
+     * Returns the decoded record, decoding it first if needed. Concurrent readers that decode the same record
+     * agree on a single instance.
+     */
+    private Internship decode(int record) {
+        Internship internship = decoded.get(record);
+        if (internship == null) {
+            Internship fresh = BinaryInternshipStore.readRecord(buffer, record);
+            internship = decoded.compareAndExchange(record, null, fresh);
+            if (internship == null) {
+                internship = fresh;
+            }
+        }
+        return internship;
+    }
+}
@@ -0,0 +1,99 @@
+package internity.storage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import internity.commands.CommandMetrics;
+
+/**
+ * Periodically writes the {@link CommandMetrics} to a file in the Prometheus text format, for example to be
+ * picked up by the node exporter's textfile collector.
+ *
+ * <p>
+ * Each dump is written to a temporary file next to the target and moved over it, so readers never see a
+ * partly written file. Dumps run on a daemon thread, and a final dump is written by {@link #stop()}.
+ * </p>
+ */
+public class MetricsFileWriter {
+    /** The default time between dumps. */
+    public static final long DEFAULT_INTERVAL_SECONDS = 10;
+    private static final Logger logger = Logger.getLogger(MetricsFileWriter.class.getName());
+
+    private final Path file;
+    private final long intervalSeconds;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a writer that dumps to {@code file} every {@value #DEFAULT_INTERVAL_SECONDS} seconds.
+     *
+     * @param file the file to write
+     */
+    public MetricsFileWriter(Path file) {
+        this(file, DEFAULT_INTERVAL_SECONDS);
+    }
+
+    /**
+     * Creates a writer that dumps to {@code file} every {@code intervalSeconds} seconds.
+     *
+     * @param file the file to write
+     * @param intervalSeconds the time between dumps
+     */
+    public MetricsFileWriter(Path file, long intervalSeconds) {
+        this.file = file.toAbsolutePath();
+        this.intervalSeconds = intervalSeconds;
+    }
+
+    /**
+     * Starts dumping the metrics periodically, beginning straight away.
+     */
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "internity-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::writeQuietly, 0, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the periodic dumps and writes the metrics one last time.
+     */
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler = null;
+        }
+        writeQuietly();
+    }
+
+    /**
+     * Writes the current metrics to the file.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public void write() throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(temporary, CommandMetrics.toPrometheusText(), StandardCharsets.UTF_8);
+        try {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private synchronized void writeQuietly() {
+        try {
+            write();
+        } catch (IOException e) {
+            logger.warning("Failed to write metrics to " + file + ": " + e.getMessage());
+        }
+    }
+}
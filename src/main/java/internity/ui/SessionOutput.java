@@ -0,0 +1,245 @@
+package internity.ui;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.util.Locale;
+
+/**
+ * Routes {@code System.out} to a different stream for each thread.
+ *
+ * <p>
+ * Commands print their results with {@code System.out}. When several sessions run commands at the same time,
+ * {@link #install(Charset)} replaces {@code System.out} with a stream that forwards every call to the
+ * {@link PrintStream} of the current thread, set with {@link #setForCurrentThread(OutputStream)}, or to the
+ * original {@code System.out} for threads without one. Each session prints through its own stream and only
+ * takes that stream's lock, so a client that stops reading only holds up its own session.
+ * </p>
+ */
+public final class SessionOutput {
+    private static final ThreadLocal<PrintStream> targets = new ThreadLocal<>();
+    private static volatile Charset charset = Charset.defaultCharset();
+
+    private SessionOutput() {
+    } // prevent instantiation
+
+    /**
+     * Replaces {@code System.out} with a stream that writes to the current thread's target.
+     *
+     * @param sessionCharset the encoding used for text printed by threads with a target
+     * @return the previous {@code System.out}, used by threads without a target
+     */
+    public static PrintStream install(Charset sessionCharset) {
+        charset = sessionCharset;
+        PrintStream original = System.out;
+        System.setOut(new RoutingPrintStream(original));
+        return original;
+    }
+
+    /**
+     * Sends everything the current thread prints to {@code System.out} to {@code target}, through a
+     * {@link PrintStream} of its own.
+     *
+     * @param target the stream receiving this thread's output
+     */
+    public static void setForCurrentThread(OutputStream target) {
+        targets.set(new PrintStream(target, false, charset));
+    }
+
+    /**
+     * Sends the current thread's output back to the original {@code System.out}.
+     */
+    public static void clearForCurrentThread() {
+        targets.remove();
+    }
+
+    /**
+     * Forwards every call to the current thread's stream. None of the methods lock this stream itself, which is
+     * shared by every thread.
+     */
+    private static class RoutingPrintStream extends PrintStream {
+        private final PrintStream fallback;
+
+        RoutingPrintStream(PrintStream fallback) {
+            super(OutputStream.nullOutputStream());
+            this.fallback = fallback;
+        }
+
+        private PrintStream target() {
+            PrintStream target = targets.get();
+            return target == null ? fallback : target;
+        }
+
+        @Override
+        public void write(int b) {
+            target().write(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            target().write(bytes, offset, length);
+        }
+
+        @Override
+        public void write(byte[] bytes) {
+            target().write(bytes, 0, bytes.length);
+        }
+
+        @Override
+        public void writeBytes(byte[] bytes) {
+            target().write(bytes, 0, bytes.length);
+        }
+
+        @Override
+        public void flush() {
+            target().flush();
+        }
+
+        @Override
+        public void close() {
+            target().close();
+        }
+
+        @Override
+        public boolean checkError() {
+            return target().checkError();
+        }
+
+        @Override
+        public void print(boolean b) {
+            target().print(b);
+        }
+
+        @Override
+        public void print(char c) {
+            target().print(c);
+        }
+
+        @Override
+        public void print(int i) {
+            target().print(i);
+        }
+
+        @Override
+        public void print(long l) {
+            target().print(l);
+        }
+
+        @Override
+        public void print(float f) {
+            target().print(f);
+        }
+
+        @Override
+        public void print(double d) {
+            target().print(d);
+        }
+
+        @Override
+        public void print(char[] s) {
+            target().print(s);
+        }
+
+        @Override
+        public void print(String s) {
+            target().print(s);
+        }
+
+        @Override
+        public void print(Object obj) {
+            target().print(obj);
+        }
+
+        @Override
+        public void println() {
+            target().println();
+        }
+
+        @Override
+        public void println(boolean x) {
+            target().println(x);
+        }
+
+        @Override
+        public void println(char x) {
+            target().println(x);
+        }
+
+        @Override
+        public void println(int x) {
+            target().println(x);
+        }
+
+        @Override
+        public void println(long x) {
+            target().println(x);
+        }
+
+        @Override
+        public void println(float x) {
+            target().println(x);
+        }
+
+        @Override
+        public void println(double x) {
+            target().println(x);
+        }
+
+        @Override
+        public void println(char[] x) {
+            target().println(x);
+        }
+
+        @Override
+        public void println(String x) {
+            target().println(x);
+        }
+
+        @Override
+        public void println(Object x) {
+            target().println(x);
+        }
+
+        @Override
+        public PrintStream printf(String format, Object... args) {
+            target().printf(format, args);
+            return this;
+        }
+
+        @Override
+        public PrintStream printf(Locale locale, String format, Object... args) {
+            target().printf(locale, format, args);
+            return this;
+        }
+
+        @Override
+        public PrintStream format(String format, Object... args) {
+            target().format(format, args);
+            return this;
+        }
+
+        @Override
+        public PrintStream format(Locale locale, String format, Object... args) {
+            target().format(locale, format, args);
+            return this;
+        }
+
+        @Override
+        public PrintStream append(CharSequence csq) {
+            target().append(csq);
+            return this;
+        }
+
+        @Override
+        public PrintStream append(CharSequence csq, int start, int end) {
+            target().append(csq, start, end);
+            return this;
+        }
+
+        @Override
+        public PrintStream append(char c) {
+            target().append(c);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package internity.ui;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event covering one table written by the {@link TableRenderer}.
+ */
+@Name("internity.TableRender")
+@Label("Table Render")
+@Category({"Internity", "Output"})
+@Description("Rendering internships as a table")
+class TableRenderEvent extends Event {
+    @Label("Rows")
+    int rows;
+
+    @Label("Characters Written")
+    @Description("Number of characters written, including the header")
+    long charactersWritten;
+}
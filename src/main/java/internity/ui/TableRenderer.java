@@ -0,0 +1,181 @@
+package internity.ui;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+import internity.core.Internship;
+
+/**
+ * Renders internships as the fixed-width table shown by the {@code list} command.
+ *
+ * <p>
+ * Rows are formatted straight into a per-thread {@link StringBuilder} that is reused across calls.
+ * The builder is written out in one call whenever it grows past {@value #CHUNK_CHARS} characters and
+ * once more at the end, so a long list costs a handful of writes instead of one {@code printf} per row.
+ * The layout matches {@code "%-5d %-5s %-15s %-15s %-15s %-10d %-10s%n"}, where the second column is the
+ * internship's id prefixed with {@code #}: values are left-aligned and padded
+ * to the column width, and longer values are printed in full.
+ * </p>
+ *
+ * <p>
+ * Every table is reported to Flight Recorder as a {@link TableRenderEvent}.
+ * </p>
+ */
+public final class TableRenderer {
+    private static final int CHUNK_CHARS = 64 * 1024;
+    private static final int NUMBER_WIDTH = 5;
+    private static final int ID_WIDTH = 5;
+    private static final int COMPANY_WIDTH = 15;
+    private static final int ROLE_WIDTH = 15;
+    private static final int DEADLINE_WIDTH = 15;
+    private static final int PAY_WIDTH = 10;
+    private static final int STATUS_WIDTH = 10;
+    private static final String NEWLINE = System.lineSeparator();
+    private static final String HEADER = buildHeader();
+    private static final ThreadLocal<StringBuilder> buffers =
+            ThreadLocal.withInitial(() -> new StringBuilder(CHUNK_CHARS + 256));
+
+    private TableRenderer() {
+    } // prevent instantiation
+
+    /**
+     * Writes the table header followed by the rows {@code fromIndex} (inclusive) to {@code toIndex}
+     * (exclusive) of {@code internships}. Rows are numbered from {@code fromIndex + 1}.
+     *
+     * @param internships internships to render
+     * @param ids returns the id of the internship at a given index
+     * @param fromIndex index of the first row to render
+     * @param toIndex index after the last row to render
+     * @param out stream the table is written to
+     */
+    public static void render(List<Internship> internships, IntUnaryOperator ids, int fromIndex, int toIndex,
+            PrintStream out) {
+        assert 0 <= fromIndex && fromIndex <= toIndex && toIndex <= internships.size() : "Invalid row range";
+
+        TableRenderEvent event = new TableRenderEvent();
+        event.begin();
+        StringBuilder buffer = startTable();
+        long written = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            appendRow(buffer, i + 1, ids.applyAsInt(i), internships.get(i));
+            written += flushIfFull(buffer, out);
+        }
+        written += finishTable(buffer, out);
+        commit(event, toIndex - fromIndex, written);
+    }
+
+    /**
+     * Writes the table header followed by the rows at the given {@code positions} of {@code internships},
+     * in the order given. Each row is numbered with its position in the list plus one.
+     *
+     * @param internships internships to render
+     * @param ids returns the id of the internship at a given position
+     * @param positions zero-based positions of the rows to render
+     * @param out stream the table is written to
+     */
+    public static void render(List<Internship> internships, IntUnaryOperator ids, int[] positions,
+            PrintStream out) {
+        TableRenderEvent event = new TableRenderEvent();
+        event.begin();
+        StringBuilder buffer = startTable();
+        long written = 0;
+        for (int position : positions) {
+            appendRow(buffer, position + 1, ids.applyAsInt(position), internships.get(position));
+            written += flushIfFull(buffer, out);
+        }
+        written += finishTable(buffer, out);
+        commit(event, positions.length, written);
+    }
+
+    private static StringBuilder startTable() {
+        StringBuilder buffer = buffers.get();
+        buffer.setLength(0);
+        return buffer.append(HEADER);
+    }
+
+    /**
+     * Writes out the buffer if it is full.
+     *
+     * @return the number of characters written
+     */
+    private static int flushIfFull(StringBuilder buffer, PrintStream out) {
+        if (buffer.length() < CHUNK_CHARS) {
+            return 0;
+        }
+        int written = buffer.length();
+        out.append(buffer);
+        buffer.setLength(0);
+        return written;
+    }
+
+    private static int finishTable(StringBuilder buffer, PrintStream out) {
+        int written = buffer.length();
+        out.append(buffer);
+        buffer.setLength(0);
+        out.flush();
+        return written;
+    }
+
+    private static void commit(TableRenderEvent event, int rows, long written) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.rows = rows;
+            event.charactersWritten = written;
+            event.commit();
+        }
+    }
+
+    private static String buildHeader() {
+        StringBuilder header = new StringBuilder();
+        appendColumn(header, "No.", NUMBER_WIDTH);
+        appendColumn(header, "ID", ID_WIDTH);
+        appendColumn(header, "Company", COMPANY_WIDTH);
+        appendColumn(header, "Role", ROLE_WIDTH);
+        appendColumn(header, "Deadline", DEADLINE_WIDTH);
+        appendColumn(header, "Pay", PAY_WIDTH);
+        int start = header.length();
+        header.append("Status");
+        pad(header, start, STATUS_WIDTH);
+        return header.append(NEWLINE).append(Ui.LINE).toString();
+    }
+
+    private static void appendRow(StringBuilder buffer, int number, int id, Internship internship) {
+        int start = buffer.length();
+        buffer.append(number);
+        endColumn(buffer, start, NUMBER_WIDTH);
+        start = buffer.length();
+        buffer.append('#').append(id);
+        endColumn(buffer, start, ID_WIDTH);
+        appendColumn(buffer, internship.getCompany(), COMPANY_WIDTH);
+        appendColumn(buffer, internship.getRole(), ROLE_WIDTH);
+        appendColumn(buffer, internship.getDeadline().toString(), DEADLINE_WIDTH);
+        start = buffer.length();
+        buffer.append(internship.getPay());
+        endColumn(buffer, start, PAY_WIDTH);
+        start = buffer.length();
+        buffer.append(internship.getStatus());
+        pad(buffer, start, STATUS_WIDTH);
+        buffer.append(NEWLINE);
+    }
+
+    private static void appendColumn(StringBuilder buffer, String value, int width) {
+        int start = buffer.length();
+        buffer.append(value);
+        endColumn(buffer, start, width);
+    }
+
+    /**
+     * Pads the value starting at {@code start} to {@code width} and appends the column separator.
+     */
+    private static void endColumn(StringBuilder buffer, int start, int width) {
+        pad(buffer, start, width);
+        buffer.append(' ');
+    }
+
+    private static void pad(StringBuilder buffer, int start, int width) {
+        for (int written = buffer.length() - start; written < width; written++) {
+            buffer.append(' ');
+        }
+    }
+}
@@ -1,6 +1,14 @@
 package internity.ui;
 
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import internity.commands.CommandMetrics.CommandStats;
 import internity.core.Internship;
+import internity.core.InternshipList;
+import internity.core.InternshipSnapshot;
+import internity.core.InternshipStats;
 
 /**
  * The Ui Class provides user interface methods for the Internity chatbot.
@@ -29,6 +37,10 @@ public class Ui {
         System.out.println("Hello, " + input + "!");
     }
 
+    public static void printLaunchUsage() {
+        System.out.println("Usage: internity [--columnar] [--metrics FILE] [--script FILE | --batch | --serve PORT]");
+    }
+
     public static void printExit() {
         System.out.println("Thank you for using Internity! Goodbye!");
     }
@@ -48,7 +60,127 @@ public class Ui {
         System.out.println("Now you have " + totalItems + " internship(s) in the list.");
     }
 
-    public static void printUpdateInternship() {
+    public static void printDeleteWhere(int deletedItems, int totalItems) {
+        System.out.println("Deleted " + deletedItems + " matching internship(s). Now you have " + totalItems
+                + " internship(s) in the list.");
+    }
+
+    public static void printUpdateWhere(int updatedItems, String newStatus) {
+        System.out.println("Updated the status of " + updatedItems + " matching internship(s) to: " + newStatus);
+    }
+
+    public static void printUndo(int affectedItems, int totalItems) {
+        System.out.println("Undid the last change to " + affectedItems + " internship(s). Now you have "
+                + totalItems + " internship(s) in the list.");
+    }
+
+    public static void printRedo(int affectedItems, int totalItems) {
+        System.out.println("Redid the last undone change to " + affectedItems + " internship(s). Now you have "
+                + totalItems + " internship(s) in the list.");
+    }
+
+    public static void printImport(int importedItems, int totalItems) {
+        System.out.println("Imported " + importedItems + " internship(s).");
+        System.out.println("Now you have " + totalItems + " internship(s) in the list.");
+    }
+
+    public static void printExport(int exportedItems, String file) {
+        System.out.println("Exported " + exportedItems + " internship(s) to " + file);
+    }
+
+    /**
+     * Prints the aggregates reported by the {@code stats} command.
+     *
+     * @param stats the aggregates to print
+     */
+    public static void printStats(InternshipStats stats) {
+        if (stats.getCount() == 0) {
+            System.out.println("No internships found. Please add an internship first.");
+            return;
+        }
+        StringBuilder out = new StringBuilder();
+        out.append("Internships: ").append(stats.getCount()).append('\n');
+        out.append("By status:\n");
+        appendCounts(out, stats.getStatusCounts());
+        out.append(String.format(Locale.ROOT, "Pay: min %d | max %d | mean %.2f%n",
+                stats.getMinPay(), stats.getMaxPay(), stats.getMeanPay()));
+        out.append("Pay percentiles (approximate):");
+        String separator = " ";
+        for (Map.Entry<Integer, Integer> percentile : stats.getPayPercentiles().entrySet()) {
+            out.append(separator).append('p').append(percentile.getKey()).append(' ').append(percentile.getValue());
+            separator = " | ";
+        }
+        out.append('\n');
+        out.append("Deadlines per month:\n");
+        appendCounts(out, stats.getDeadlinesPerMonth());
+        System.out.print(out);
+    }
+
+    /**
+     * Prints the run count, error count and latencies of every command type that has run.
+     *
+     * @param stats the figures of each command type
+     * @param parseFailures the number of inputs that were not a valid command
+     */
+    public static void printMetrics(List<CommandStats> stats, long parseFailures) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%-15s %8s %8s %10s %10s %10s %10s%n",
+                "Command", "Runs", "Errors", "Parse p50", "Exec p50", "Exec p99", "Exec max"));
+        for (CommandStats command : stats) {
+            out.append(String.format("%-15s %8d %8d %10s %10s %10s %10s%n", command.getName(),
+                    command.getExecute().getCount(), command.getErrors(),
+                    formatNanos(command.getParse().quantile(0.5)), formatNanos(command.getExecute().quantile(0.5)),
+                    formatNanos(command.getExecute().quantile(0.99)), formatNanos(command.getExecute().getMax())));
+        }
+        out.append("Invalid commands: ").append(parseFailures).append('\n');
+        System.out.print(out);
+    }
+
+    /**
+     * Formats a duration with a unit that keeps it short, such as {@code 850ns}, {@code 12.5us} or {@code 3.2s}.
+     */
+    static String formatNanos(long nanos) {
+        if (nanos < 1_000) {
+            return nanos + "ns";
+        }
+        if (nanos < 1_000_000) {
+            return String.format(Locale.ROOT, "%.1fus", nanos / 1e3);
+        }
+        if (nanos < 1_000_000_000) {
+            return String.format(Locale.ROOT, "%.1fms", nanos / 1e6);
+        }
+        return String.format(Locale.ROOT, "%.1fs", nanos / 1e9);
+    }
+
+    private static void appendCounts(StringBuilder out, Map<String, Integer> counts) {
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            out.append(String.format("  %-15s %d%n", entry.getKey(), entry.getValue()));
+        }
+    }
+
+    public static void printPageFooter(int page, int pageCount, int totalItems) {
+        System.out.println("Page " + page + " of " + pageCount + " (" + totalItems + " internship(s) in total)");
+    }
+
+    /**
+     * Prints the matching internships as a table, or a message if there are none. The rows are read from the
+     * snapshot the matches refer to, so no lock is held while printing.
+     *
+     * @param matches the positions of the matching internships and the snapshot they refer to
+     */
+    public static void printMatches(InternshipList.Matches matches) {
+        int[] positions = matches.getPositions();
+        if (positions.length == 0) {
+            System.out.println("No matching internships found.");
+            return;
+        }
+        InternshipSnapshot snapshot = matches.getSnapshot();
+        TableRenderer.render(snapshot.asList(), snapshot::getId, positions, System.out);
+        System.out.println(positions.length + " matching internship(s) found.");
+    }
+
+    public static void printUpdateInternship(int index, String newStatus) {
+        System.out.println("Updated internship " + (index + 1) + " status to: " + newStatus);
         System.out.println("Internship status updated successfully!");
     }
 
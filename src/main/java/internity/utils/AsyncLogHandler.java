@@ -0,0 +1,207 @@
+package internity.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * A logging handler that hands records to a background thread, which publishes them to another handler.
+ *
+ * <p>
+ * Logging threads only claim a slot in a fixed-size ring buffer with one compare-and-set and store the
+ * record in it; they never wait for I/O or for each other. If the buffer is more than half full, records
+ * below {@link Level#WARNING} are sampled, keeping one in {@value #SAMPLE_RATE}. If it is full, records are
+ * dropped. The number of dropped records is logged as a warning once the background thread catches up.
+ * </p>
+ *
+ * <p>
+ * Records do not carry the class and method that logged them, because finding those means walking the
+ * stack of the logging thread. The logger name is shown instead, which is the class name for every logger
+ * in Internity.
+ * </p>
+ */
+public class AsyncLogHandler extends Handler {
+    /** The default number of records the buffer holds. */
+    public static final int DEFAULT_CAPACITY = 1024;
+    private static final int SAMPLE_RATE = 16;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long FLUSH_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long CLOSE_TIMEOUT_MILLIS = 1000;
+
+    private final Handler target;
+    private final AtomicReferenceArray<LogRecord> buffer;
+    private final int mask;
+    /** The number of slots claimed by logging threads. */
+    private final AtomicLong tail = new AtomicLong();
+    /** The number of slots published by the background thread. Only that thread writes it. */
+    private volatile long head;
+    private final AtomicLong sampled = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private long reportedDropped;
+    private final Thread drainer;
+    private volatile boolean isWaiting;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a handler that publishes to {@code target} through a buffer of {@value #DEFAULT_CAPACITY}
+     * records.
+     *
+     * @param target the handler records are published to
+     */
+    public AsyncLogHandler(Handler target) {
+        this(target, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a handler that publishes to {@code target} and starts its background thread.
+     *
+     * @param target the handler records are published to
+     * @param capacity the number of records the buffer holds, a power of two
+     */
+    public AsyncLogHandler(Handler target, int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.target = target;
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.drainer = new Thread(this::drain, "internity-logging");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    /**
+     * Replaces the handlers of the logger named {@code name} with an {@code AsyncLogHandler} publishing to a
+     * {@link ConsoleHandler}, so that every logger below it logs asynchronously.
+     *
+     * @param name the name of the parent logger, such as {@code internity}
+     * @return the installed handler, to be closed before the program ends
+     */
+    public static AsyncLogHandler install(String name) {
+        Logger logger = Logger.getLogger(name);
+        AsyncLogHandler handler = new AsyncLogHandler(new ConsoleHandler());
+        for (Handler existing : logger.getHandlers()) {
+            logger.removeHandler(existing);
+        }
+        logger.addHandler(handler);
+        logger.setUseParentHandlers(false);
+        return handler;
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        boolean isUrgent = record.getLevel().intValue() >= Level.WARNING.intValue();
+        while (true) {
+            long claimed = tail.get();
+            long queued = claimed - head;
+            if (queued >= buffer.length()
+                    || (!isUrgent && queued > mask / 2 && sampled.incrementAndGet() % SAMPLE_RATE != 0)) {
+                dropped.increment();
+                return;
+            }
+            if (tail.compareAndSet(claimed, claimed + 1)) {
+                // Skips the stack walk that would otherwise find the caller on the background thread.
+                record.setSourceClassName(record.getLoggerName());
+                record.setSourceMethodName(null);
+                buffer.set((int) claimed & mask, record);
+                break;
+            }
+        }
+        if (isWaiting) {
+            LockSupport.unpark(drainer);
+        }
+    }
+
+    /**
+     * Waits until every record logged so far has been published, then flushes the target.
+     */
+    @Override
+    public void flush() {
+        long until = tail.get();
+        while (head < until && drainer.isAlive()) {
+            LockSupport.parkNanos(FLUSH_PARK_NANOS);
+        }
+        target.flush();
+    }
+
+    /**
+     * Publishes the records still in the buffer, stops the background thread and closes the target.
+     */
+    @Override
+    public void close() {
+        isClosed = true;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        target.close();
+    }
+
+    /**
+     * Returns the number of records dropped because the buffer was too full.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    private void drain() {
+        while (true) {
+            long next = head;
+            if (next == tail.get()) {
+                reportDropped();
+                if (isClosed) {
+                    target.flush();
+                    return;
+                }
+                isWaiting = true;
+                if (next == tail.get() && !isClosed) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                isWaiting = false;
+                continue;
+            }
+            int slot = (int) next & mask;
+            LogRecord record = buffer.get(slot);
+            if (record == null) {
+                // The slot is claimed but the record is not stored yet.
+                Thread.onSpinWait();
+                continue;
+            }
+            buffer.set(slot, null);
+            head = next + 1;
+            publishQuietly(record);
+        }
+    }
+
+    private void reportDropped() {
+        long total = dropped.sum();
+        if (total > reportedDropped) {
+            LogRecord record = new LogRecord(Level.WARNING,
+                    "Dropped " + (total - reportedDropped) + " log record(s) while logging was falling behind");
+            record.setLoggerName(AsyncLogHandler.class.getName());
+            record.setSourceClassName(AsyncLogHandler.class.getName());
+            reportedDropped = total;
+            publishQuietly(record);
+        }
+    }
+
+    private void publishQuietly(LogRecord record) {
+        try {
+            target.publish(record);
+        } catch (RuntimeException e) {
+            reportError("Failed to publish log record", e, 0);
+        }
+    }
+}
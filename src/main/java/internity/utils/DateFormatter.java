@@ -11,10 +11,24 @@ import internity.core.InternityException;
  *     the provided date values correspond to actual valid calendar dates, including leap year cases.
  * </p>
  * <p>
+ *     Parsing reads the characters directly instead of using regular expressions, and the most recently
+ *     parsed strings are remembered in a small fixed-size cache, because imported data tends to repeat
+ *     the same deadlines many times.
+ * </p>
+ * <p>
  *     This class cannot be instantiated.
  * </p>
  */
 public class DateFormatter {
+    private static final int DATE_LENGTH = "dd-MM-yyyy".length();
+    /** Number of cache slots, a power of two. */
+    private static final int CACHE_SIZE = 1024;
+    /**
+     * Recently parsed dates, indexed by the hash of their text. A slot is simply overwritten when another
+     * date maps to it. Entries are immutable, so threads racing on a slot can at worst miss the cache.
+     */
+    private static final CachedDate[] cache = new CachedDate[CACHE_SIZE];
+
     /**
      * Private constructor to prevent instantiation.
      */
@@ -49,31 +63,53 @@ public class DateFormatter {
             throw InternityException.invalidInput();
         }
 
-        String trimmed = dateString.trim();
-
-        // Check for an absolute dd-MM-yyyy format
-        if (!trimmed.matches("\\d{2}-\\d{2}-\\d{4}")) {
-            throw InternityException.invalidDateFormat();
+        int slot = dateString.hashCode() & (CACHE_SIZE - 1);
+        CachedDate cached = cache[slot];
+        if (cached != null && cached.text.equals(dateString)) {
+            return cached.date;
         }
 
-        String[] parts = trimmed.split("-");
+        Date date = decode(dateString);
+        cache[slot] = new CachedDate(dateString, date);
+        return date;
+    }
 
-        if (parts.length != 3) {
+    /**
+     * Decodes a {@code dd-MM-yyyy} date, ignoring surrounding whitespace, in a single pass over its characters.
+     */
+    private static Date decode(String dateString) throws InternityException {
+        int start = 0;
+        int end = dateString.length();
+        while (start < end && dateString.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && dateString.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (end - start != DATE_LENGTH
+                || dateString.charAt(start + 2) != '-' || dateString.charAt(start + 5) != '-') {
             throw InternityException.invalidDateFormat();
         }
-        try {
-            int day = Integer.parseInt(parts[0]);
-            int month = Integer.parseInt(parts[1]);
-            int year = Integer.parseInt(parts[2]);
 
-            if (!isValidDate(day, month, year)) {
-                throw new InternityException("Invalid date: " + trimmed);
-            }
+        int day = digits(dateString, start, 2);
+        int month = digits(dateString, start + 3, 2);
+        int year = digits(dateString, start + 6, 4);
+        if (!isValidDate(day, month, year)) {
+            throw new InternityException("Invalid date: " + dateString.substring(start, end));
+        }
+        return Date.of(day, month, year);
+    }
 
-            return new Date(day, month, year);
-        } catch (NumberFormatException e) {
-            throw new InternityException("Date must contain only numbers (expected dd-MM-yyyy)");
+    private static int digits(String text, int from, int count) throws InternityException {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw InternityException.invalidDateFormat();
+            }
+            value = value * 10 + digit;
         }
+        return value;
     }
 
     /**
@@ -113,4 +149,14 @@ public class DateFormatter {
     private static boolean isLeapYear(int year) {
         return (year % 4 == 0) && (year % 100 != 0 || year % 400 == 0);
     }
+
+    private static class CachedDate {
+        private final String text;
+        private final Date date;
+
+        CachedDate(String text, Date date) {
+            this.text = text;
+            this.date = date;
+        }
+    }
 }
@@ -0,0 +1,188 @@
+package internity.utils;
+
+import java.util.Arrays;
+
+/**
+ * A growable list of primitive {@code int} values, kept in ascending order by its callers.
+ *
+ * <p>
+ * It is used for index postings, where storing boxed {@link Integer} objects would cost several
+ * times more memory and a pointer dereference per element.
+ * </p>
+ */
+public final class IntList {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] values;
+    private int size;
+
+    public IntList() {
+        values = new int[INITIAL_CAPACITY];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int get(int index) {
+        assert index >= 0 && index < size : "Index out of range: " + index;
+        return values[index];
+    }
+
+    /**
+     * Returns the index of {@code value}, found by binary search.
+     *
+     * @param value value to look up
+     * @return the index of the value, or a negative number if it is not in the list
+     */
+    public int indexOf(int value) {
+        return Arrays.binarySearch(values, 0, size, value);
+    }
+
+    /**
+     * Appends {@code value}, which must not be smaller than the last element.
+     *
+     * @param value value to append
+     */
+    public void add(int value) {
+        assert size == 0 || values[size - 1] <= value : "Values must be appended in ascending order";
+        ensureCapacity(size + 1);
+        values[size++] = value;
+    }
+
+    /**
+     * Inserts {@code value} at its sorted position.
+     *
+     * @param value value to insert
+     */
+    public void insert(int value) {
+        int position = Arrays.binarySearch(values, 0, size, value);
+        if (position < 0) {
+            position = -position - 1;
+        }
+        ensureCapacity(size + 1);
+        System.arraycopy(values, position, values, position + 1, size - position);
+        values[position] = value;
+        size++;
+    }
+
+    /**
+     * Removes one occurrence of {@code value}.
+     *
+     * @param value value to remove
+     * @return {@code true} if the value was present
+     */
+    public boolean remove(int value) {
+        int position = Arrays.binarySearch(values, 0, size, value);
+        if (position < 0) {
+            return false;
+        }
+        System.arraycopy(values, position + 1, values, position, size - position - 1);
+        size--;
+        return true;
+    }
+
+    /**
+     * Removes every element that also occurs in {@code sorted}, in one merge pass over both lists.
+     *
+     * @param sorted ascending values to remove
+     */
+    public void removeAll(IntList sorted) {
+        int kept = 0;
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            int value = values[i];
+            while (j < sorted.size && sorted.values[j] < value) {
+                j++;
+            }
+            if (j == sorted.size || sorted.values[j] != value) {
+                values[kept++] = value;
+            }
+        }
+        size = kept;
+    }
+
+    /**
+     * Replaces every element {@code v} with {@code mapping[v]}, dropping the elements mapped to a negative value.
+     * The mapping must preserve the order of the elements it keeps.
+     *
+     * @param mapping new value for each old value
+     */
+    public void remap(int[] mapping) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int value = mapping[values[i]];
+            if (value >= 0) {
+                values[kept++] = value;
+            }
+        }
+        size = kept;
+    }
+
+    /**
+     * Returns the values present in both ascending lists, in ascending order.
+     * The cost is proportional to the combined length of the lists.
+     *
+     * @param first ascending values without duplicates
+     * @param second ascending values without duplicates
+     * @return a new list holding the common values
+     */
+    public static IntList intersect(IntList first, IntList second) {
+        IntList result = new IntList();
+        int i = 0;
+        int j = 0;
+        while (i < first.size && j < second.size) {
+            int a = first.values[i];
+            int b = second.values[j];
+            if (a == b) {
+                result.add(a);
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the values present in either ascending list, in ascending order and without duplicates.
+     *
+     * @param first ascending values without duplicates
+     * @param second ascending values without duplicates
+     * @return a new list holding every value of both lists
+     */
+    public static IntList union(IntList first, IntList second) {
+        IntList result = new IntList();
+        result.ensureCapacity(first.size + second.size);
+        int i = 0;
+        int j = 0;
+        while (i < first.size || j < second.size) {
+            if (j == second.size || i < first.size && first.values[i] < second.values[j]) {
+                result.values[result.size++] = first.values[i++];
+            } else if (i == first.size || second.values[j] < first.values[i]) {
+                result.values[result.size++] = second.values[j++];
+            } else {
+                result.values[result.size++] = first.values[i++];
+                j++;
+            }
+        }
+        return result;
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, Math.max(capacity, values.length * 2));
+        }
+    }
+}
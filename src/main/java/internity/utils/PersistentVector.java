@@ -0,0 +1,286 @@
+package internity.utils;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable sequence whose updates return a new sequence sharing most of its structure with the old one.
+ *
+ * <p>
+ * The values are held in a balanced binary tree in which every node knows the size of its subtree, so
+ * {@link #get(int)}, {@link #set(int, Object)}, {@link #insert(int, Object)}, {@link #append(Object)} and
+ * {@link #remove(int)} all take O(log n). An update copies only the O(log n) nodes on the path to the changed
+ * position, which makes keeping every old version cheap. {@link #appendAll(List)} builds the new values into a
+ * tree of their own and joins it on in O(k + log n).
+ * </p>
+ *
+ * <p>
+ * Instances are safe to share between threads without locking.
+ * </p>
+ *
+ * @param <T> the type of the values, which may be {@code null}
+ */
+public final class PersistentVector<T> implements Iterable<T> {
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(null);
+
+    private final Node<T> root;
+
+    private static final class Node<T> {
+        final Node<T> left;
+        final T value;
+        final Node<T> right;
+        final int size;
+        final int height;
+
+        Node(Node<T> left, T value, Node<T> right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    private PersistentVector(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty vector.
+     *
+     * @param <T> the type of the values
+     * @return a vector without values
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    /**
+     * Returns a vector holding {@code values}, in order, in O(n).
+     *
+     * @param values the values, which are not modified
+     * @param <T> the type of the values
+     * @return a vector holding the values
+     */
+    public static <T> PersistentVector<T> of(List<? extends T> values) {
+        return values.isEmpty() ? empty() : new PersistentVector<>(build(values, 0, values.size()));
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the value at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if there is no value at that index
+     */
+    public T get(int index) {
+        Objects.checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns a vector with the value at {@code index} replaced by {@code value}.
+     *
+     * @throws IndexOutOfBoundsException if there is no value at that index
+     */
+    public PersistentVector<T> set(int index, T value) {
+        Objects.checkIndex(index, size());
+        return new PersistentVector<>(set(root, index, value));
+    }
+
+    /**
+     * Returns a vector with {@code value} inserted at {@code index}, with the later values moved down by one.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is negative or greater than the size
+     */
+    public PersistentVector<T> insert(int index, T value) {
+        Objects.checkIndex(index, size() + 1);
+        return new PersistentVector<>(insert(root, index, value));
+    }
+
+    /**
+     * Returns a vector with {@code value} added at the end.
+     */
+    public PersistentVector<T> append(T value) {
+        return new PersistentVector<>(insert(root, size(), value));
+    }
+
+    /**
+     * Returns a vector with {@code values} added at the end, in order.
+     *
+     * @param values the values to add, which are not modified
+     */
+    public PersistentVector<T> appendAll(List<? extends T> values) {
+        if (values.isEmpty()) {
+            return this;
+        }
+        if (root == null) {
+            return of(values);
+        }
+        Node<T> added = build(values, 1, values.size());
+        return new PersistentVector<>(join(root, values.get(0), added));
+    }
+
+    /**
+     * Returns a vector without the value at {@code index}, with the later values moved up by one.
+     *
+     * @throws IndexOutOfBoundsException if there is no value at that index
+     */
+    public PersistentVector<T> remove(int index) {
+        Objects.checkIndex(index, size());
+        Node<T> removed = remove(root, index);
+        return removed == null ? empty() : new PersistentVector<>(removed);
+    }
+
+    /**
+     * Returns an iterator over the values in order. Iterating over the whole vector takes O(n).
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node<T>> path = new ArrayDeque<>();
+
+            {
+                pushLeftSpine(root);
+            }
+
+            private void pushLeftSpine(Node<T> node) {
+                for (Node<T> current = node; current != null; current = current.left) {
+                    path.push(current);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<T> node = path.pop();
+                pushLeftSpine(node.right);
+                return node.value;
+            }
+        };
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static <T> Node<T> build(List<? extends T> values, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(build(values, from, middle), values.get(middle), build(values, middle + 1, to));
+    }
+
+    private static <T> Node<T> set(Node<T> node, int index, T value) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(set(node.left, index, value), node.value, node.right);
+        } else if (index == leftSize) {
+            return new Node<>(node.left, value, node.right);
+        } else {
+            return new Node<>(node.left, node.value, set(node.right, index - leftSize - 1, value));
+        }
+    }
+
+    private static <T> Node<T> insert(Node<T> node, int index, T value) {
+        if (node == null) {
+            return new Node<>(null, value, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, value), node.value, node.right);
+        }
+        return balance(node.left, node.value, insert(node.right, index - leftSize - 1, value));
+    }
+
+    private static <T> Node<T> remove(Node<T> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.value, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.value, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node<T> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(node.left, successor.value, remove(node.right, 0));
+    }
+
+    /**
+     * Returns a tree holding the values of {@code left}, then {@code value}, then the values of {@code right},
+     * in O(|height(left) - height(right)|).
+     */
+    private static <T> Node<T> join(Node<T> left, T value, Node<T> right) {
+        if (heightOf(left) > heightOf(right) + 1) {
+            return balance(left.left, left.value, join(left.right, value, right));
+        }
+        if (heightOf(right) > heightOf(left) + 1) {
+            return balance(join(left, value, right.left), right.value, right.right);
+        }
+        return new Node<>(left, value, right);
+    }
+
+    /**
+     * Returns a node joining subtrees whose heights differ by at most two, rotating if they differ by two.
+     */
+    private static <T> Node<T> balance(Node<T> left, T value, Node<T> right) {
+        int leftHeight = heightOf(left);
+        int rightHeight = heightOf(right);
+        if (leftHeight > rightHeight + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.left, left.value, new Node<>(left.right, value, right));
+            }
+            Node<T> middle = left.right;
+            return new Node<>(new Node<>(left.left, left.value, middle.left), middle.value,
+                    new Node<>(middle.right, value, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(new Node<>(left, value, right.left), right.value, right.right);
+            }
+            Node<T> middle = right.left;
+            return new Node<>(new Node<>(left, value, middle.left), middle.value,
+                    new Node<>(middle.right, right.value, right.right));
+        }
+        return new Node<>(left, value, right);
+    }
+}
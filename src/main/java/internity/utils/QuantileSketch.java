@@ -0,0 +1,151 @@
+package internity.utils;
+
+import java.util.Arrays;
+
+/**
+ * A mergeable sketch of non-negative integers that answers quantile queries with a bounded relative error.
+ *
+ * <p>
+ * Values are counted in buckets whose bounds grow geometrically, so that every value in a bucket is within
+ * the relative accuracy of the bucket's representative value. This needs about a thousand buckets for the
+ * whole {@code int} range at 1% accuracy, however many values are added. Unlike sampling sketches, values
+ * can also be removed again, and two sketches with the same accuracy merge into the sketch of all their
+ * values by adding their bucket counts.
+ * </p>
+ */
+public final class QuantileSketch {
+    /** The default relative accuracy of quantile estimates. */
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+    private static final int INITIAL_BUCKETS = 64;
+
+    private final double relativeAccuracy;
+    private final double logGamma;
+    /** The count of each bucket. Bucket {@code i} holds the values in {@code (gamma^(i-1), gamma^i]}. */
+    private long[] counts = new long[INITIAL_BUCKETS];
+    private long zeroCount;
+    private long count;
+
+    /**
+     * Creates an empty sketch with the {@linkplain #DEFAULT_RELATIVE_ACCURACY default accuracy}.
+     */
+    public QuantileSketch() {
+        this(DEFAULT_RELATIVE_ACCURACY);
+    }
+
+    /**
+     * Creates an empty sketch.
+     *
+     * @param relativeAccuracy the maximum relative error of quantile estimates, between 0 and 1
+     */
+    public QuantileSketch(double relativeAccuracy) {
+        if (!(relativeAccuracy > 0 && relativeAccuracy < 1)) {
+            throw new IllegalArgumentException("Relative accuracy must be between 0 and 1: " + relativeAccuracy);
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.logGamma = Math.log((1 + relativeAccuracy) / (1 - relativeAccuracy));
+    }
+
+    /**
+     * Adds {@code value} to the sketch.
+     *
+     * @param value a non-negative value
+     */
+    public void add(int value) {
+        if (value == 0) {
+            zeroCount++;
+        } else {
+            int bucket = bucketOf(value);
+            if (bucket >= counts.length) {
+                counts = Arrays.copyOf(counts, Math.max(bucket + 1, counts.length * 2));
+            }
+            counts[bucket]++;
+        }
+        count++;
+    }
+
+    /**
+     * Removes one occurrence of {@code value}, which must have been added before.
+     *
+     * @param value a value in the sketch
+     */
+    public void remove(int value) {
+        if (value == 0) {
+            assert zeroCount > 0 : "Value was never added: " + value;
+            zeroCount--;
+        } else {
+            int bucket = bucketOf(value);
+            assert bucket < counts.length && counts[bucket] > 0 : "Value was never added: " + value;
+            counts[bucket]--;
+        }
+        count--;
+    }
+
+    /**
+     * Adds every value of {@code other} to this sketch.
+     *
+     * @param other a sketch with the same relative accuracy
+     * @throws IllegalArgumentException if the accuracies differ
+     */
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Cannot merge sketches of different accuracy");
+        }
+        if (other.counts.length > counts.length) {
+            counts = Arrays.copyOf(counts, other.counts.length);
+        }
+        for (int i = 0; i < other.counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+
+    /**
+     * Removes every value.
+     */
+    public void clear() {
+        Arrays.fill(counts, 0);
+        zeroCount = 0;
+        count = 0;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Estimates the value at {@code quantile}, within the relative accuracy of the true value.
+     *
+     * @param quantile the quantile, between 0 and 1
+     * @return the estimated value, or {@code 0} if the sketch is empty
+     */
+    public long quantile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) (quantile * (count - 1));
+        long seen = zeroCount;
+        if (rank < seen) {
+            return 0;
+        }
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (rank < seen) {
+                // The point between the bucket's bounds with the same relative distance to both.
+                double gamma = Math.exp(logGamma);
+                return Math.round(2 * Math.exp(bucket * logGamma) / (gamma + 1));
+            }
+        }
+        throw new AssertionError("Bucket counts do not add up to " + count);
+    }
+
+    private int bucketOf(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value must not be negative: " + value);
+        }
+        return (int) Math.ceil(Math.log(value) / logGamma);
+    }
+}
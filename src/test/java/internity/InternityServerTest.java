@@ -0,0 +1,99 @@
+package internity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import internity.core.InternshipList;
+import internity.ui.SessionOutput;
+
+class InternityServerTest {
+    private static final int CLIENTS = 4;
+    private static final int ADDS_PER_CLIENT = 50;
+
+    private PrintStream originalOut;
+    private InternityServer server;
+    private Thread serverThread;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        InternshipList.clear();
+        originalOut = SessionOutput.install(StandardCharsets.UTF_8);
+        server = new InternityServer(0);
+        serverThread = new Thread(server::serve);
+        serverThread.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        server.stop();
+        serverThread.join();
+        System.setOut(originalOut);
+        InternshipList.clear();
+    }
+
+    @Test
+    void serve_commandOverSocket_repliesToThatClient() throws IOException {
+        List<String> reply = runClient(List.of("add company/Google role/SWE deadline/01-12-2025 pay/100", "exit"));
+
+        assertTrue(reply.contains("Noted. I've added this internship:"));
+        assertTrue(reply.stream().anyMatch(line -> line.contains("Goodbye")));
+        assertEquals(1, InternshipList.size());
+    }
+
+    @Test
+    void serve_concurrentClients_allChangesApplied() throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        List<Future<List<String>>> replies = new ArrayList<>();
+        for (int client = 0; client < CLIENTS; client++) {
+            List<String> commands = new ArrayList<>();
+            for (int i = 0; i < ADDS_PER_CLIENT; i++) {
+                commands.add("add company/Client" + client + " role/SWE deadline/01-12-2025 pay/" + i);
+                commands.add("find company/Client" + client);
+            }
+            commands.add("exit");
+            replies.add(clients.submit(() -> runClient(commands)));
+        }
+
+        for (Future<List<String>> reply : replies) {
+            long added = reply.get().stream().filter(line -> line.startsWith("Noted. I've added")).count();
+            assertEquals(ADDS_PER_CLIENT, added);
+        }
+        clients.shutdown();
+        assertEquals(CLIENTS * ADDS_PER_CLIENT, InternshipList.size());
+    }
+
+    private List<String> runClient(List<String> commands) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+                PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+                BufferedReader in = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            for (String command : commands) {
+                out.println(command);
+            }
+            List<String> lines = new ArrayList<>();
+            String line;
+            while ((line = in.readLine()) != null) {
+                lines.add(line);
+            }
+            return lines;
+        }
+    }
+}
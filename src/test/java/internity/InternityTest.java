@@ -1,12 +1,67 @@
 package internity;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import internity.core.InternshipList;
+
 class InternityTest {
+    private final PrintStream originalOut = System.out;
+    private ByteArrayOutputStream outContent;
+
+    @BeforeEach
+    void setUp() {
+        outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        InternshipList.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+        InternshipList.clear();
+    }
+
     @Test
     public void sampleTest() {
         assertTrue(true);
     }
+
+    @Test
+    void runScript_commands_executesWithoutGreetingOrSeparators() throws IOException {
+        String script = "add company/Google role/SWE deadline/01-12-2025 pay/100\n"
+                + "\n"
+                + "bogus\n"
+                + "exit\n"
+                + "add company/Meta role/SWE deadline/01-12-2025 pay/100\n";
+
+        Internity.runScript(new BufferedReader(new StringReader(script)));
+
+        String output = outContent.toString();
+        assertEquals(1, InternshipList.size());
+        assertTrue(output.contains("Unknown command: bogus"));
+        assertTrue(output.contains("Goodbye!"));
+        assertFalse(output.contains("What is your name?"));
+        assertFalse(output.contains("_____"));
+    }
+
+    @Test
+    void parsePort_outOfRangeOrNotNumber_returnsMinusOne() {
+        assertEquals(8080, Internity.parsePort("8080"));
+        assertEquals(0, Internity.parsePort("0"));
+        assertEquals(-1, Internity.parsePort("65536"));
+        assertEquals(-1, Internity.parsePort("-1"));
+        assertEquals(-1, Internity.parsePort("port"));
+    }
 }
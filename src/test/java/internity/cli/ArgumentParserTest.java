@@ -0,0 +1,159 @@
+package internity.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+class ArgumentParserTest {
+    @BeforeEach
+    void setUp() {
+        InternshipList.clear();
+    }
+
+    @Test
+    void parseAddCommandArgs_fieldsInAnyOrder_addsInternship() throws InternityException {
+        ArgumentParser.parseAddCommandArgs("pay/3000 deadline/01-12-2025 role/UI/UX Intern company/Shopee Pte Ltd")
+                .execute();
+
+        Internship added = InternshipList.get(0);
+        assertEquals("Shopee Pte Ltd", added.getCompany());
+        assertEquals("UI/UX Intern", added.getRole());
+        assertEquals("01-12-2025", added.getDeadline().toString());
+        assertEquals(3000, added.getPay());
+    }
+
+    @Test
+    void parseAddCommandArgs_missingField_namesField() {
+        InternityException exception = assertThrows(InternityException.class,
+                () -> ArgumentParser.parseAddCommandArgs("company/Google deadline/01-12-2025 pay/10"));
+
+        assertTrue(exception.getMessage().startsWith("Invalid add command: missing role/."));
+    }
+
+    @Test
+    void parseAddCommandArgs_repeatedField_throwsException() {
+        InternityException exception = assertThrows(InternityException.class,
+                () -> ArgumentParser.parseAddCommandArgs("company/A company/B role/R deadline/01-12-2025 pay/1"));
+
+        assertTrue(exception.getMessage().startsWith("Invalid add command: company/ is given more than once."));
+    }
+
+    @Test
+    void parseAddCommandArgs_invalidPay_throwsException() {
+        String[] pays = {"-1", "12k", "99999999999"};
+        for (String pay : pays) {
+            assertThrows(InternityException.class, () -> ArgumentParser.parseAddCommandArgs(
+                    "company/A role/R deadline/01-12-2025 pay/" + pay), "Pay: " + pay);
+        }
+    }
+
+    @Test
+    void parseAddCommandArgs_textBeforeFirstField_throwsException() {
+        assertThrows(InternityException.class,
+                () -> ArgumentParser.parseAddCommandArgs("now company/A role/R deadline/01-12-2025 pay/1"));
+    }
+
+    @Test
+    void parseUpdateCommandArgs_indexAndStatus_updatesStatus() throws InternityException {
+        ArgumentParser.parseAddCommandArgs("company/A role/R deadline/01-12-2025 pay/1").execute();
+
+        ArgumentParser.parseUpdateCommandArgs("1 status/Offer / Signed").execute();
+
+        assertEquals("Offer / Signed", InternshipList.get(0).getStatus());
+    }
+
+    @Test
+    void parseUpdateCommandArgs_invalidArgs_throwsException() {
+        String[] inputs = {"", "status/Offer", "one status/Offer", "1", "1 status/", "1 status/A status/B"};
+        for (String input : inputs) {
+            assertThrows(InternityException.class, () -> ArgumentParser.parseUpdateCommandArgs(input),
+                    "Input: " + input);
+        }
+    }
+
+    @Test
+    void parseDeleteAndUpdateCommandArgs_id_targetsSameInternshipAfterDelete() throws InternityException {
+        ArgumentParser.parseAddCommandArgs("company/A role/R deadline/01-12-2025 pay/1").execute();
+        ArgumentParser.parseAddCommandArgs("company/B role/R deadline/01-12-2025 pay/1").execute();
+        ArgumentParser.parseAddCommandArgs("company/C role/R deadline/01-12-2025 pay/1").execute();
+        int idOfB = InternshipList.getId(1);
+        int idOfC = InternshipList.getId(2);
+
+        ArgumentParser.parseDeleteCommandArgs("#" + idOfB).execute();
+        ArgumentParser.parseUpdateCommandArgs("#" + idOfC + " status/Offer").execute();
+
+        assertEquals(2, InternshipList.size());
+        assertEquals("Offer", InternshipList.get(1).getStatus());
+    }
+
+    @Test
+    void parseDeleteCommandArgs_invalidId_throwsException() {
+        String[] inputs = {"#", "#abc", "#0", "#-1"};
+        for (String input : inputs) {
+            assertThrows(InternityException.class, () -> ArgumentParser.parseDeleteCommandArgs(input),
+                    "Input: " + input);
+            assertThrows(InternityException.class, () -> ArgumentParser.parseUpdateCommandArgs(input + " status/A"),
+                    "Input: " + input);
+        }
+    }
+
+    @Test
+    void parseUpdateCommandArgs_where_updatesOnlyMatches() throws InternityException {
+        ArgumentParser.parseAddCommandArgs("company/A role/R deadline/01-12-2025 pay/100").execute();
+        ArgumentParser.parseAddCommandArgs("company/B role/R deadline/01-12-2026 pay/100").execute();
+        ArgumentParser.parseAddCommandArgs("company/C role/R deadline/01-06-2025 pay/900").execute();
+
+        ArgumentParser.parseUpdateCommandArgs("where status/pending deadline</01-01-2026 pay</500 set status/Expired")
+                .execute();
+
+        assertEquals("Expired", InternshipList.get(0).getStatus());
+        assertEquals("Pending", InternshipList.get(1).getStatus());
+        assertEquals("Pending", InternshipList.get(2).getStatus());
+    }
+
+    @Test
+    void parseUpdateCommandArgs_whereValueContainsSet_usesLastSet() throws InternityException {
+        ArgumentParser.parseAddCommandArgs("company/Set Inc role/R deadline/01-12-2025 pay/1").execute();
+
+        ArgumentParser.parseUpdateCommandArgs("where company/Set Inc set status/Offer").execute();
+
+        assertEquals("Offer", InternshipList.get(0).getStatus());
+    }
+
+    @Test
+    void parseDeleteCommandArgs_where_deletesOnlyMatches() throws InternityException {
+        ArgumentParser.parseAddCommandArgs("company/A role/R deadline/01-12-2025 pay/100").execute();
+        ArgumentParser.parseAddCommandArgs("company/B role/R deadline/01-12-2026 pay/200").execute();
+        ArgumentParser.parseAddCommandArgs("company/a role/R deadline/01-12-2027 pay/300").execute();
+
+        ArgumentParser.parseDeleteCommandArgs("where company/A pay>/100").execute();
+
+        assertEquals(2, InternshipList.size());
+        assertEquals("A", InternshipList.get(0).getCompany());
+        assertEquals("B", InternshipList.get(1).getCompany());
+    }
+
+    @Test
+    void parseDeleteAndUpdateCommandArgs_invalidWhere_throwsException() {
+        String[] conditions = {"", "now status/A", "status/", "status/A status/B", "pay</ten", "deadline>/99-99-2025"};
+        for (String condition : conditions) {
+            assertThrows(InternityException.class, () -> ArgumentParser.parseDeleteCommandArgs("where " + condition),
+                    "Condition: " + condition);
+            assertThrows(InternityException.class,
+                    () -> ArgumentParser.parseUpdateCommandArgs("where " + condition + " set status/A"),
+                    "Condition: " + condition);
+        }
+        String[] updates = {"where status/A", "where status/A set", "where status/A set status/", "where set status/A"};
+        for (String update : updates) {
+            assertThrows(InternityException.class, () -> ArgumentParser.parseUpdateCommandArgs(update),
+                    "Input: " + update);
+        }
+    }
+}
@@ -1,8 +1,20 @@
 package internity.cli;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
 
 import internity.commands.Command;
@@ -26,4 +38,28 @@ class CommandParserTest {
         Command command = commandParser.parseInput("exit");
         assertInstanceOf(ExitCommand.class, command);
     }
+
+    @Test
+    void parseInput_recording_emitsParseEvents() throws IOException {
+        CommandParser commandParser = new CommandParser();
+        Path file = Files.createTempFile("internity-parse", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("internity.CommandParse").withoutThreshold();
+            recording.start();
+            assertDoesNotThrow(() -> commandParser.parseInput("  EXIT"));
+            assertThrows(InternityException.class, () -> commandParser.parseInput("Killer Queen"));
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertEquals(2, events.size());
+            assertEquals("exit", events.get(0).getString("commandWord"));
+            assertEquals(6, events.get(0).getInt("inputLength"));
+            assertFalse(events.get(0).getBoolean("isFailed"));
+            assertEquals("killer", events.get(1).getString("commandWord"));
+            assertTrue(events.get(1).getBoolean("isFailed"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
 }
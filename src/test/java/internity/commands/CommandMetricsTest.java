@@ -0,0 +1,73 @@
+package internity.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CommandMetricsTest {
+    private final PrintStream originalOut = System.out;
+    private ByteArrayOutputStream outContent;
+
+    @BeforeEach
+    void setUp() {
+        outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        CommandMetrics.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+        CommandMetrics.reset();
+    }
+
+    @Test
+    void record_groupsByCommandType() {
+        CommandMetrics.record(new StatsCommand(), 1_000, 20_000, false);
+        CommandMetrics.record(new StatsCommand(), 1_000, 2_000_000, true);
+        CommandMetrics.record(new DeleteWhereCommand(internship -> false), 500, 700, false);
+        CommandMetrics.recordParseFailure();
+
+        List<CommandMetrics.CommandStats> stats = CommandMetrics.getStats();
+        assertEquals(2, stats.size());
+        assertEquals("delete_where", stats.get(0).getName());
+        assertEquals("stats", stats.get(1).getName());
+        assertEquals(2, stats.get(1).getExecute().getCount());
+        assertEquals(1, stats.get(1).getErrors());
+        assertEquals(1, CommandMetrics.getParseFailures());
+    }
+
+    @Test
+    void toPrometheusText_writesCumulativeBuckets() {
+        CommandMetrics.record(new StatsCommand(), 1_000, 20_000, false);
+        CommandMetrics.record(new StatsCommand(), 1_000, 2_000_000, false);
+
+        String text = CommandMetrics.toPrometheusText();
+
+        assertTrue(text.contains("# TYPE internity_command_execute_seconds histogram\n"));
+        assertTrue(text.contains("internity_commands_total{command=\"stats\"} 2\n"));
+        assertTrue(text.contains("internity_command_execute_seconds_bucket{command=\"stats\",le=\"0.00001\"} 0\n"));
+        assertTrue(text.contains("internity_command_execute_seconds_bucket{command=\"stats\",le=\"0.0001\"} 1\n"));
+        assertTrue(text.contains("internity_command_execute_seconds_bucket{command=\"stats\",le=\"+Inf\"} 2\n"));
+        assertTrue(text.contains("internity_command_execute_seconds_sum{command=\"stats\"} 0.00202\n"));
+        assertTrue(text.contains("internity_parse_failures_total 0\n"));
+    }
+
+    @Test
+    void metricsCommand_printsEveryCommandType() {
+        CommandMetrics.record(new StatsCommand(), 1_000, 20_000, false);
+
+        new MetricsCommand().execute();
+
+        String output = outContent.toString();
+        assertTrue(output.contains("stats"));
+        assertTrue(output.contains("Invalid commands: 0"));
+    }
+}
@@ -0,0 +1,52 @@
+package internity.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import internity.core.InternityException;
+
+class CommandRegistryTest {
+    @Test
+    void create_unambiguousPrefix_resolvesCommand() throws InternityException {
+        CommandRegistry registry = CommandRegistry.getDefault();
+
+        assertInstanceOf(DeleteCommand.class, registry.create("del", "1"));
+        assertInstanceOf(SearchCommand.class, registry.create("sea", "google"));
+        assertInstanceOf(ExitCommand.class, registry.create("exi", ""));
+    }
+
+    @Test
+    void create_shortOrUnknownWord_throwsException() {
+        CommandRegistry registry = CommandRegistry.getDefault();
+
+        InternityException exception = assertThrows(InternityException.class, () -> registry.create("de", "1"));
+        assertEquals("Unknown command: de", exception.getMessage());
+        assertThrows(InternityException.class, () -> registry.create("deletes", "1"));
+    }
+
+    @Test
+    void create_exit_reusesSameCommand() throws InternityException {
+        CommandRegistry registry = CommandRegistry.getDefault();
+
+        assertSame(registry.create("exit", ""), registry.create("exit", ""));
+    }
+
+    @Test
+    void register_sharedPrefix_onlyExactWordsMatch() throws InternityException {
+        CommandRegistry registry = new CommandRegistry();
+        Command stats = new ExitCommand();
+        Command status = new ExitCommand();
+        registry.register("stats", args -> stats);
+        registry.register("status", args -> status, "st");
+
+        assertSame(stats, registry.create("stats", ""));
+        assertSame(status, registry.create("st", ""));
+        assertSame(status, registry.create("statu", ""));
+        assertThrows(InternityException.class, () -> registry.create("stat", ""));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("stats", args -> stats));
+    }
+}
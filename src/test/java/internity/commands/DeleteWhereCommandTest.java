@@ -0,0 +1,42 @@
+package internity.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+class DeleteWhereCommandTest {
+    @BeforeEach
+    void setUp() {
+        InternshipList.clear();
+        InternshipList.add(new Internship("Google", "SWE Intern", new Date(1, 1, 2025), 5000));
+        InternshipList.add(new Internship("Meta", "Backend Intern", new Date(15, 2, 2025), 6000));
+        InternshipList.add(new Internship("Amazon", "Frontend Intern", new Date(20, 3, 2025), 4500));
+    }
+
+    @Test
+    void execute_matchingCondition_deletesAllMatches() throws InternityException {
+        new DeleteWhereCommand(internship -> internship.getPay() < 5500).execute();
+
+        assertEquals(1, InternshipList.size());
+        assertEquals("Meta", InternshipList.get(0).getCompany());
+    }
+
+    @Test
+    void execute_noMatch_keepsList() throws InternityException {
+        new DeleteWhereCommand(internship -> false).execute();
+
+        assertEquals(3, InternshipList.size());
+    }
+
+    @Test
+    void isExit_returnsFalse() {
+        assertFalse(new DeleteWhereCommand(internship -> true).isExit());
+    }
+}
@@ -0,0 +1,60 @@
+package internity.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import internity.cli.ArgumentParser;
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+class DueCommandTest {
+    private final PrintStream originalOut = System.out;
+    private ByteArrayOutputStream outContent;
+
+    @BeforeEach
+    void setUp() {
+        outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        InternshipList.clear();
+        InternshipList.add(new Internship("Amazon", "Frontend Intern", new Date(20, 3, 2025), 4500));
+        InternshipList.add(new Internship("Google", "SWE Intern", new Date(1, 1, 2025), 5000));
+        InternshipList.add(new Internship("Meta", "Backend Intern", new Date(15, 2, 2025), 6000));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+        InternshipList.clear();
+    }
+
+    @Test
+    void execute_dateBetweenDeadlines_printsEarlierDeadlinesInOrder() throws InternityException {
+        ArgumentParser.parseDueCommandArgs("before/20-03-2025").execute();
+
+        String output = outContent.toString();
+        assertFalse(output.contains("Amazon"));
+        assertTrue(output.indexOf("Google") < output.indexOf("Meta"));
+        assertTrue(output.contains("2 matching internship(s) found."));
+    }
+
+    @Test
+    void parseDueCommandArgs_invalidArgs_throwsException() {
+        assertThrows(InternityException.class, () -> ArgumentParser.parseDueCommandArgs("after/01-01-2025"));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseDueCommandArgs("before/2025-01-01"));
+    }
+
+    @Test
+    void isExit_returnsFalse() {
+        assertFalse(new DueCommand(new Date(1, 1, 2025)).isExit());
+    }
+}
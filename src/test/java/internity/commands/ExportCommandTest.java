@@ -0,0 +1,97 @@
+package internity.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import internity.cli.ArgumentParser;
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+import internity.storage.InternshipExporter;
+
+class ExportCommandTest {
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        InternshipList.clear();
+        file = Files.createTempFile("internity", ".export");
+        Internship offer = new Internship("Shopee, \"SG\"", "Caf\u00e9 \ud83d\ude80 Intern",
+                new Date(1, 12, 2025), 4200);
+        offer.setStatus("Offer");
+        InternshipList.add(new Internship("Google", "SWE Intern", new Date(15, 1, 2026), 5000));
+        InternshipList.add(offer);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        InternshipList.clear();
+    }
+
+    @Test
+    void execute_csv_roundTripsThroughImport() throws IOException, InternityException {
+        new ExportCommand(InternshipExporter.Format.CSV, file).execute();
+
+        assertEquals("company,role,deadline,pay,status\n"
+                + "Google,SWE Intern,15-01-2026,5000,Pending\n"
+                + "\"Shopee, \"\"SG\"\"\",Caf\u00e9 \ud83d\ude80 Intern,01-12-2025,4200,Offer\n",
+                Files.readString(file, StandardCharsets.UTF_8));
+
+        InternshipList.clear();
+        new ImportCommand(file).execute();
+        assertEquals(2, InternshipList.size());
+        assertEquals("Shopee, \"SG\"", InternshipList.get(1).getCompany());
+        assertEquals("Caf\u00e9 \ud83d\ude80 Intern", InternshipList.get(1).getRole());
+        assertEquals("Offer", InternshipList.get(1).getStatus());
+    }
+
+    @Test
+    void execute_json_writesEscapedArray() throws IOException, InternityException {
+        InternshipList.add(new Internship("Tab\tCo\u0001", "Back\\slash", new Date(2, 2, 2026), 0));
+
+        ArgumentParser.parseExportCommandArgs("JSON " + file).execute();
+
+        assertEquals("[\n"
+                + "  {\"company\": \"Google\", \"role\": \"SWE Intern\", \"deadline\": \"15-01-2026\", \"pay\": 5000,"
+                + " \"status\": \"Pending\"},\n"
+                + "  {\"company\": \"Shopee, \\\"SG\\\"\", \"role\": \"Caf\u00e9 \ud83d\ude80 Intern\","
+                + " \"deadline\": \"01-12-2025\", \"pay\": 4200, \"status\": \"Offer\"},\n"
+                + "  {\"company\": \"Tab\\tCo\\u0001\", \"role\": \"Back\\\\slash\", \"deadline\": \"02-02-2026\","
+                + " \"pay\": 0, \"status\": \"Pending\"}\n"
+                + "]\n", Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void execute_largeList_flushesBufferRepeatedly() throws IOException, InternityException {
+        for (int i = 0; i < 5000; i++) {
+            InternshipList.add(new Internship("Company " + i, "Role \u00e9", new Date(1, 1, 2026), i));
+        }
+
+        new ExportCommand(InternshipExporter.Format.CSV, file).execute();
+
+        InternshipList.clear();
+        new ImportCommand(file).execute();
+        assertEquals(5002, InternshipList.size());
+        assertEquals(4999, InternshipList.get(5001).getPay());
+    }
+
+    @Test
+    void parseExportCommandArgs_invalidArgs_throwsException() {
+        String[] inputs = {"", "csv", "xml out.xml", "out.csv"};
+        for (String input : inputs) {
+            assertThrows(InternityException.class, () -> ArgumentParser.parseExportCommandArgs(input),
+                    "Input: " + input);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package internity.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import internity.cli.ArgumentParser;
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+class FindCommandTest {
+    private final PrintStream originalOut = System.out;
+    private ByteArrayOutputStream outContent;
+
+    @BeforeEach
+    void setUp() {
+        outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        InternshipList.clear();
+        InternshipList.add(new Internship("Google", "SWE Intern", new Date(1, 1, 2025), 5000));
+        InternshipList.add(new Internship("Meta", "Backend Intern", new Date(15, 2, 2025), 6000));
+        InternshipList.add(new Internship("Google", "Data Intern", new Date(20, 3, 2025), 4500));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+        InternshipList.clear();
+    }
+
+    @Test
+    void execute_matchingCompany_printsMatchesWithListNumbers() throws InternityException {
+        ArgumentParser.parseFindCommandArgs("company/google").execute();
+
+        String output = outContent.toString();
+        assertTrue(output.contains("1     #1    Google          SWE Intern"));
+        assertTrue(output.contains("3     #3    Google          Data Intern"));
+        assertFalse(output.contains("Meta"));
+        assertTrue(output.contains("2 matching internship(s) found."));
+    }
+
+    @Test
+    void execute_noMatchingStatus_printsNoMatches() throws InternityException {
+        ArgumentParser.parseFindCommandArgs("status/Offer").execute();
+
+        assertTrue(outContent.toString().contains("No matching internships found."));
+    }
+
+    @Test
+    void parseFindCommandArgs_invalidArgs_throwsException() {
+        assertThrows(InternityException.class, () -> ArgumentParser.parseFindCommandArgs(""));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseFindCommandArgs("company/ "));
+        InternityException exception = assertThrows(InternityException.class,
+                () -> ArgumentParser.parseFindCommandArgs("role/SWE"));
+        assertEquals(InternityException.invalidFindCommand().getMessage(), exception.getMessage());
+    }
+
+    @Test
+    void isExit_returnsFalse() {
+        assertFalse(new FindCommand(FindCommand.Field.COMPANY, "Google").isExit());
+    }
+}
@@ -0,0 +1,96 @@
+package internity.commands;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import internity.cli.ArgumentParser;
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+class ImportCommandTest {
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        InternshipList.clear();
+        file = Files.createTempFile("internity", ".csv");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        InternshipList.clear();
+    }
+
+    @Test
+    void execute_validFile_appendsRowsInOrder() throws IOException, InternityException {
+        InternshipList.add(new Internship("Existing", "Role", new Date(1, 1, 2025), 1));
+        Files.writeString(file, "Company,Role,Deadline,Pay,Status\n"
+                + "Google,SWE Intern,01-12-2025,5000\n"
+                + "\n"
+                + "\"Shopee, Pte \"\"Ltd\"\"\", Data Intern ,15-01-2026,4200,Applied\n");
+
+        new ImportCommand(file).execute();
+
+        assertEquals(3, InternshipList.size());
+        assertEquals("Google", InternshipList.get(1).getCompany());
+        assertEquals("Pending", InternshipList.get(1).getStatus());
+        assertEquals("Shopee, Pte \"Ltd\"", InternshipList.get(2).getCompany());
+        assertEquals("Data Intern", InternshipList.get(2).getRole());
+        assertEquals("Applied", InternshipList.get(2).getStatus());
+        assertArrayEquals(new int[] {2}, InternshipList.findByStatus("applied"));
+    }
+
+    @Test
+    void execute_manyChunks_keepsFileOrder() throws IOException, InternityException {
+        int rows = 20_000;
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for (int i = 0; i < rows; i++) {
+                writer.write("Company" + i + ",Role," + String.format("%02d", i % 28 + 1) + "-01-2026," + i + "\n");
+            }
+        }
+
+        new ImportCommand(file).execute();
+
+        assertEquals(rows, InternshipList.size());
+        for (int i = 0; i < rows; i += 997) {
+            assertEquals(i, InternshipList.get(i).getPay());
+        }
+    }
+
+    @Test
+    void execute_invalidRow_importsNothing() throws IOException {
+        Files.writeString(file, "Google,SWE Intern,01-12-2025,5000\nMeta,Backend Intern,31-02-2025,6000\n");
+
+        InternityException exception = assertThrows(InternityException.class,
+                () -> new ImportCommand(file).execute());
+
+        assertTrue(exception.getMessage().contains("Line 2"));
+        assertEquals(0, InternshipList.size());
+    }
+
+    @Test
+    void execute_missingFile_throwsException() throws IOException {
+        Files.delete(file);
+
+        assertThrows(InternityException.class, () -> new ImportCommand(file).execute());
+    }
+
+    @Test
+    void parseImportCommandArgs_blank_throwsException() {
+        assertThrows(InternityException.class, () -> ArgumentParser.parseImportCommandArgs("  "));
+    }
+}
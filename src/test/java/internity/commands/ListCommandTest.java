@@ -3,6 +3,7 @@ package internity.commands;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 
+import internity.cli.ArgumentParser;
 import internity.core.Date;
 import internity.core.Internship;
 import internity.core.InternshipList;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
@@ -52,6 +54,39 @@ class ListCommandTest {
         assertFalse(outContent.toString().contains("No internships found. Please add an internship first."));
     }
 
+    @Test
+    void execute_secondPage_printsOnlyThatPage() throws InternityException {
+        for (int i = 1; i <= 5; i++) {
+            InternshipList.add(new Internship("Company" + i, "Developer", new Date(1, 1, 2025), 5000));
+        }
+        ListCommand listCommand = new ListCommand(2, 2);
+        listCommand.execute();
+
+        String output = outContent.toString();
+        assertFalse(output.contains("Company2"));
+        assertTrue(output.contains("Company3"));
+        assertTrue(output.contains("Company4"));
+        assertFalse(output.contains("Company5"));
+        assertTrue(output.contains("Page 2 of 3"));
+    }
+
+    @Test
+    void execute_pageOutOfRange_throwsException() {
+        InternshipList.add(new Internship("Company A", "Developer", new Date(1, 1, 2025), 5000));
+        ListCommand listCommand = new ListCommand(2, 20);
+
+        assertThrows(InternityException.class, listCommand::execute);
+    }
+
+    @Test
+    void parseListCommandArgs_invalidOptions_throwsException() {
+        assertThrows(InternityException.class, () -> ArgumentParser.parseListCommandArgs("--page"));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseListCommandArgs("--page 0"));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseListCommandArgs("--page 1 --page 2"));
+        assertThrows(InternityException.class, () -> ArgumentParser.parseListCommandArgs("--sort asc"));
+        assertDoesNotThrow(() -> ArgumentParser.parseListCommandArgs("--size 5 --page 2"));
+    }
+
     @Test
     void execute_doesNotThrow() {
         ListCommand listCommand = new ListCommand();
@@ -0,0 +1,69 @@
+package internity.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import internity.cli.ArgumentParser;
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+class QueryCommandTest {
+    private final PrintStream originalOut = System.out;
+    private ByteArrayOutputStream outContent;
+
+    @BeforeEach
+    void setUp() {
+        outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        InternshipList.clear();
+        InternshipList.add(new Internship("Google", "SWE Intern", new Date(1, 3, 2025), 5000));
+        InternshipList.add(new Internship("Meta", "Backend Intern", new Date(15, 2, 2025), 6000));
+        InternshipList.add(new Internship("Google Cloud", "Data Analyst", new Date(20, 1, 2025), 4500));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+        InternshipList.clear();
+    }
+
+    @Test
+    void execute_orderAndLimit_printsTopMatchesInOrder() throws InternityException {
+        ArgumentParser.parseQueryCommandArgs("company~goo ORDER BY deadline LIMIT 1").execute();
+
+        String output = outContent.toString();
+        assertTrue(output.contains("Data Analyst"));
+        assertFalse(output.contains("SWE Intern"));
+        assertTrue(output.contains("1 matching internship(s) found."));
+    }
+
+    @Test
+    void execute_orderByPayDescending_printsHighestPayFirst() throws InternityException {
+        ArgumentParser.parseQueryCommandArgs("pay>=5000 ORDER BY pay DESC").execute();
+
+        String output = outContent.toString();
+        assertTrue(output.indexOf("Backend Intern") < output.indexOf("SWE Intern"));
+        assertFalse(output.contains("Data Analyst"));
+    }
+
+    @Test
+    void execute_noMatch_printsNoMatches() throws InternityException {
+        ArgumentParser.parseQueryCommandArgs("status=Offer").execute();
+
+        assertTrue(outContent.toString().contains("No matching internships found."));
+    }
+
+    @Test
+    void isExit_returnsFalse() throws InternityException {
+        assertFalse(ArgumentParser.parseQueryCommandArgs("LIMIT 1").isExit());
+    }
+}
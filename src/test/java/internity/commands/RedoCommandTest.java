@@ -0,0 +1,62 @@
+package internity.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import internity.cli.ArgumentParser;
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+class RedoCommandTest {
+    private final PrintStream originalOut = System.out;
+    private ByteArrayOutputStream outContent;
+
+    @BeforeEach
+    void setUp() {
+        outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        InternshipList.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+        InternshipList.clear();
+    }
+
+    @Test
+    void execute_afterUndoneUpdateWhere_appliesStatusAgain() throws InternityException {
+        InternshipList.add(new Internship("Google", "SWE Intern", new Date(1, 11, 2025), 5000));
+        InternshipList.add(new Internship("Meta", "Backend Intern", new Date(15, 11, 2025), 3000));
+        new UpdateWhereCommand(internship -> true, "Rejected").execute();
+        new UndoCommand().execute();
+
+        new RedoCommand().execute();
+
+        assertEquals("Rejected", InternshipList.get(0).getStatus());
+        assertEquals("Rejected", InternshipList.get(1).getStatus());
+        assertTrue(outContent.toString().contains("Redid the last undone change to 2 internship(s)."));
+    }
+
+    @Test
+    void execute_afterNewChange_throwsException() throws InternityException {
+        InternshipList.add(new Internship("Google", "SWE Intern", new Date(1, 11, 2025), 5000));
+        new UndoCommand().execute();
+        InternshipList.add(new Internship("Meta", "Backend Intern", new Date(15, 11, 2025), 3000));
+
+        assertThrows(InternityException.class, () -> new RedoCommand().execute());
+        assertThrows(InternityException.class, () -> ArgumentParser.parseRedoCommandArgs("all"));
+        assertFalse(new RedoCommand().isExit());
+    }
+}
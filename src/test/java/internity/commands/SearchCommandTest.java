@@ -0,0 +1,71 @@
+package internity.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import internity.cli.ArgumentParser;
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+import internity.core.SearchQuery;
+
+class SearchCommandTest {
+    private final PrintStream originalOut = System.out;
+    private ByteArrayOutputStream outContent;
+
+    @BeforeEach
+    void setUp() {
+        outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        InternshipList.clear();
+        InternshipList.add(new Internship("Google", "SWE Intern", new Date(1, 1, 2025), 5000));
+        InternshipList.add(new Internship("Meta", "Backend Intern", new Date(15, 2, 2025), 6000));
+        InternshipList.add(new Internship("Google Cloud", "Data Analyst", new Date(20, 3, 2025), 4500));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+        InternshipList.clear();
+    }
+
+    @Test
+    void execute_allKeywordsMustMatch() throws InternityException {
+        ArgumentParser.parseSearchCommandArgs("google intern").execute();
+
+        String output = outContent.toString();
+        assertTrue(output.contains("SWE Intern"));
+        assertFalse(output.contains("Data Analyst"));
+        assertFalse(output.contains("Backend Intern"));
+    }
+
+    @Test
+    void execute_orQuery_printsEitherMatch() throws InternityException {
+        ArgumentParser.parseSearchCommandArgs("analyst OR backend").execute();
+
+        String output = outContent.toString();
+        assertTrue(output.contains("2 matching internship(s) found."));
+        assertFalse(output.contains("SWE Intern"));
+    }
+
+    @Test
+    void execute_afterDelete_findsShiftedInternshipWithSameId() throws InternityException {
+        InternshipList.delete(0);
+        ArgumentParser.parseSearchCommandArgs("cloud").execute();
+
+        assertTrue(outContent.toString().contains("2     #3    Google Cloud"));
+    }
+
+    @Test
+    void isExit_returnsFalse() throws InternityException {
+        assertFalse(new SearchCommand(SearchQuery.parse("google")).isExit());
+    }
+}
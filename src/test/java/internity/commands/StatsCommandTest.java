@@ -0,0 +1,67 @@
+package internity.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import internity.cli.ArgumentParser;
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+class StatsCommandTest {
+    private final PrintStream originalOut = System.out;
+    private ByteArrayOutputStream outContent;
+
+    @BeforeEach
+    void setUp() {
+        outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        InternshipList.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+        InternshipList.clear();
+    }
+
+    @Test
+    void execute_withInternships_printsAggregates() throws InternityException {
+        InternshipList.add(new Internship("Google", "SWE Intern", new Date(1, 11, 2025), 5000));
+        InternshipList.add(new Internship("Meta", "Backend Intern", new Date(15, 11, 2025), 3000));
+        InternshipList.add(new Internship("Grab", "Data Intern", new Date(2, 1, 2026), 1000));
+        InternshipList.updateStatus(0, "Offer");
+
+        new StatsCommand().execute();
+
+        String output = outContent.toString();
+        assertTrue(output.contains("Internships: 3"));
+        assertTrue(output.contains("Pending         2"));
+        assertTrue(output.contains("Offer           1"));
+        assertTrue(output.contains("Pay: min 1000 | max 5000 | mean 3000.00"));
+        assertTrue(output.contains("11-2025         2"));
+        assertTrue(output.indexOf("11-2025") < output.indexOf("01-2026"));
+    }
+
+    @Test
+    void execute_emptyList_printsNoInternships() {
+        new StatsCommand().execute();
+
+        assertTrue(outContent.toString().contains("No internships found."));
+    }
+
+    @Test
+    void parseStatsCommandArgs_withArguments_throwsException() {
+        assertThrows(InternityException.class, () -> ArgumentParser.parseStatsCommandArgs("pay"));
+        assertFalse(new StatsCommand().isExit());
+    }
+}
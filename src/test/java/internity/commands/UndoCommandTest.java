@@ -0,0 +1,67 @@
+package internity.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import internity.cli.ArgumentParser;
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+class UndoCommandTest {
+    private final PrintStream originalOut = System.out;
+    private ByteArrayOutputStream outContent;
+
+    @BeforeEach
+    void setUp() {
+        outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        InternshipList.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+        InternshipList.clear();
+    }
+
+    @Test
+    void execute_afterDelete_restoresInternshipAtSamePosition() throws InternityException {
+        InternshipList.add(new Internship("Google", "SWE Intern", new Date(1, 11, 2025), 5000));
+        InternshipList.add(new Internship("Meta", "Backend Intern", new Date(15, 11, 2025), 3000));
+        new DeleteCommand(0).execute();
+
+        new UndoCommand().execute();
+
+        assertEquals(2, InternshipList.size());
+        assertEquals("Google", InternshipList.get(0).getCompany());
+        assertTrue(outContent.toString().contains("Undid the last change to 1 internship(s). Now you have 2"));
+    }
+
+    @Test
+    void execute_afterUpdate_restoresOldStatus() throws InternityException {
+        InternshipList.add(new Internship("Google", "SWE Intern", new Date(1, 11, 2025), 5000));
+        new UpdateCommand(0, "Offer").execute();
+
+        new UndoCommand().execute();
+
+        assertEquals("Pending", InternshipList.get(0).getStatus());
+    }
+
+    @Test
+    void execute_nothingToUndo_throwsException() {
+        assertThrows(InternityException.class, () -> new UndoCommand().execute());
+        assertThrows(InternityException.class, () -> ArgumentParser.parseUndoCommandArgs("2"));
+        assertFalse(new UndoCommand().isExit());
+    }
+}
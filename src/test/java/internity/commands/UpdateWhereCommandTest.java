@@ -0,0 +1,38 @@
+package internity.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+class UpdateWhereCommandTest {
+    @BeforeEach
+    void setUp() {
+        InternshipList.clear();
+        InternshipList.add(new Internship("Google", "SWE Intern", new Date(1, 1, 2025), 5000));
+        InternshipList.add(new Internship("Meta", "Backend Intern", new Date(15, 2, 2025), 6000));
+        InternshipList.add(new Internship("Amazon", "Frontend Intern", new Date(20, 3, 2025), 4500));
+    }
+
+    @Test
+    void execute_matchingCondition_updatesAllMatches() throws InternityException {
+        new UpdateWhereCommand(internship -> internship.getDeadline().compareTo(new Date(1, 3, 2025)) < 0,
+                "Expired").execute();
+
+        assertEquals("Expired", InternshipList.get(0).getStatus());
+        assertEquals("Expired", InternshipList.get(1).getStatus());
+        assertEquals("Pending", InternshipList.get(2).getStatus());
+        assertEquals(2, InternshipList.findByStatus("expired").length);
+    }
+
+    @Test
+    void isExit_returnsFalse() {
+        assertFalse(new UpdateWhereCommand(internship -> true, "Offer").isExit());
+    }
+}
@@ -0,0 +1,43 @@
+package internity.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class DateTest {
+    @Test
+    void of_sameDate_returnsSharedInstance() {
+        assertSame(Date.of(5, 3, 2025), Date.of(5, 3, 2025));
+        assertSame(Date.of(5, 3, 2025), Date.fromPacked(20250305));
+    }
+
+    @Test
+    void of_outsideCachedYears_returnsEqualDate() {
+        assertEquals(new Date(1, 1, 1850), Date.of(1, 1, 1850));
+    }
+
+    @Test
+    void getPacked_roundTripsThroughFromPacked() {
+        Date date = new Date(31, 12, 2024);
+
+        assertEquals(20241231, date.getPacked());
+        assertEquals(date, Date.fromPacked(date.getPacked()));
+        assertEquals(31, date.getDay());
+        assertEquals(12, date.getMonth());
+        assertEquals(2024, date.getYear());
+    }
+
+    @Test
+    void compareTo_ordersByYearThenMonthThenDay() {
+        assertTrue(new Date(31, 12, 2024).compareTo(new Date(1, 1, 2025)) < 0);
+        assertTrue(new Date(1, 2, 2025).compareTo(new Date(31, 1, 2025)) > 0);
+        assertEquals(0, new Date(9, 9, 2025).compareTo(Date.of(9, 9, 2025)));
+    }
+
+    @Test
+    void toString_padsDayAndMonth() {
+        assertEquals("01-02-2025", new Date(1, 2, 2025).toString());
+    }
+}
@@ -0,0 +1,65 @@
+package internity.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class FilterQueryTest {
+    private static final Internship GOOGLE = new Internship("Google", "SWE Intern", new Date(1, 11, 2025), 6000);
+    private static final Internship JANE_STREET = new Internship("Jane Street", "Trader", new Date(1, 1, 2026), 9000);
+
+    @Test
+    void parse_andBindsTighterThanOr() throws InternityException {
+        FilterQuery query = FilterQuery.parse("company~goo AND pay>=7000 OR role=trader");
+
+        assertEquals(2, query.getClauses().size());
+        assertEquals(2, query.getClauses().get(0).size());
+        assertFalse(query.matches(GOOGLE));
+        assertTrue(query.matches(JANE_STREET));
+    }
+
+    @Test
+    void parse_quotedValue_keepsSpaces() throws InternityException {
+        FilterQuery query = FilterQuery.parse("company=\"jane street\" deadline<=01-01-2026");
+
+        assertTrue(query.matches(JANE_STREET));
+        assertFalse(query.matches(GOOGLE));
+    }
+
+    @Test
+    void parse_orderAndLimit_buildsComparator() throws InternityException {
+        FilterQuery query = FilterQuery.parse("ORDER BY pay DESC, company LIMIT 5");
+
+        assertTrue(query.getClauses().isEmpty());
+        assertTrue(query.matches(GOOGLE));
+        assertEquals(FilterQuery.Field.PAY, query.getOrderField());
+        assertTrue(query.isDescending());
+        assertFalse(query.hasSingleSortKey());
+        assertTrue(query.getComparator().compare(JANE_STREET, GOOGLE) < 0);
+        assertEquals(5, query.getLimit());
+    }
+
+    @Test
+    void parse_noOrderOrLimit_keepsListOrder() throws InternityException {
+        FilterQuery query = FilterQuery.parse("status!=Rejected");
+
+        assertNull(query.getComparator());
+        assertEquals(FilterQuery.NO_LIMIT, query.getLimit());
+        assertTrue(query.matches(GOOGLE));
+    }
+
+    @Test
+    void parse_invalidQuery_throwsException() {
+        String[] inputs = {"", "google", "company", "company=", "salary>5", "pay~5", "company<A", "pay>five",
+            "deadline<31-02-2025", "AND pay>1", "pay>1 AND", "pay>1 OR OR pay<2", "ORDER deadline", "ORDER BY",
+            "ORDER BY salary", "LIMIT", "LIMIT 0", "LIMIT ten", "pay>1 LIMIT 5 ORDER BY pay", "company=\"Jane",
+            "pay>1 extra"};
+        for (String input : inputs) {
+            assertThrows(InternityException.class, () -> FilterQuery.parse(input), "Input: " + input);
+        }
+    }
+}
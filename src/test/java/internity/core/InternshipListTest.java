@@ -1,14 +1,25 @@
 package internity.core;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +39,7 @@ class InternshipListTest {
     @AfterEach
     void restoreStreams() {
         System.setOut(originalOut);
+        InternshipList.clear();
     }
 
     @Test
@@ -82,4 +94,385 @@ class InternshipListTest {
         String output = outContent.toString();
         assertFalse(output.contains("No internships found. Please add an internship first."));
     }
+
+    @Test
+    void findByCompany_afterDelete_returnsShiftedPositions() throws InternityException {
+        InternshipList.clear();
+        InternshipList.add(new Internship("Google", "SWE", new Date(1, 1, 2025), 1));
+        InternshipList.add(new Internship("Meta", "SWE", new Date(1, 1, 2025), 1));
+        InternshipList.add(new Internship("google", "PM", new Date(1, 1, 2025), 1));
+
+        InternshipList.delete(1);
+
+        assertArrayEquals(new int[] {0, 1}, InternshipList.findByCompany("GOOGLE"));
+        assertArrayEquals(new int[0], InternshipList.findByCompany("Meta"));
+    }
+
+    @Test
+    void findByStatus_afterUpdate_movesPosition() throws InternityException {
+        InternshipList.clear();
+        InternshipList.add(new Internship("Google", "SWE", new Date(1, 1, 2025), 1));
+        InternshipList.add(new Internship("Meta", "SWE", new Date(1, 1, 2025), 1));
+
+        InternshipList.updateStatus(1, "Offer");
+
+        assertArrayEquals(new int[] {0}, InternshipList.findByStatus("pending"));
+        assertArrayEquals(new int[] {1}, InternshipList.findByStatus("offer"));
+    }
+
+    @Test
+    void findDueBefore_ordersByDeadline() {
+        InternshipList.clear();
+        InternshipList.add(new Internship("A", "SWE", new Date(1, 3, 2025), 1));
+        InternshipList.add(new Internship("B", "SWE", new Date(1, 1, 2025), 1));
+        InternshipList.add(new Internship("C", "SWE", new Date(1, 2, 2025), 1));
+        InternshipList.add(new Internship("D", "SWE", new Date(1, 4, 2025), 1));
+
+        assertArrayEquals(new int[] {1, 2, 0}, InternshipList.findDueBefore(new Date(1, 4, 2025)));
+    }
+
+    @Test
+    void findByCompany_afterRestore_rebuildsIndex() {
+        InternshipList.clear();
+        InternshipList.add(new Internship("Stale", "SWE", new Date(1, 1, 2025), 1));
+
+        InternshipList.restore(new ArrayList<>(List.of(
+                new Internship("Google", "SWE", new Date(1, 1, 2025), 1))));
+
+        assertArrayEquals(new int[0], InternshipList.findByCompany("Stale"));
+        assertArrayEquals(new int[] {0}, InternshipList.findByCompany("Google"));
+        InternshipList.restore(new ArrayList<>());
+    }
+
+    @Test
+    void deleteById_afterEarlierDelete_removesSameInternship() throws InternityException {
+        InternshipList.clear();
+        InternshipList.add(new Internship("A", "SWE", new Date(1, 1, 2025), 1));
+        InternshipList.add(new Internship("B", "SWE", new Date(1, 1, 2025), 1));
+        InternshipList.add(new Internship("C", "SWE", new Date(1, 1, 2025), 1));
+        int idOfC = InternshipList.getId(2);
+
+        InternshipList.delete(0);
+
+        assertEquals(idOfC, InternshipList.getId(1));
+        assertEquals("C", InternshipList.deleteById(idOfC).getCompany());
+        assertEquals(1, InternshipList.size());
+        assertEquals("B", InternshipList.get(0).getCompany());
+        assertThrows(InternityException.class, () -> InternshipList.deleteById(idOfC));
+    }
+
+    @Test
+    void updateStatusById_returnsCurrentIndex() throws InternityException {
+        InternshipList.clear();
+        InternshipList.add(new Internship("A", "SWE", new Date(1, 1, 2025), 1));
+        InternshipList.add(new Internship("B", "SWE", new Date(1, 1, 2025), 1));
+        int idOfB = InternshipList.getId(1);
+        InternshipList.delete(0);
+
+        assertEquals(0, InternshipList.updateStatusById(idOfB, "Offer"));
+        assertArrayEquals(new int[] {0}, InternshipList.findByStatus("offer"));
+    }
+
+    @Test
+    void deleteWhere_removesMatchesAndShiftsPositions() throws InternityException {
+        InternshipList.clear();
+        InternshipList.add(new Internship("A", "SWE", new Date(1, 1, 2025), 1));
+        InternshipList.add(new Internship("B", "SWE", new Date(1, 1, 2025), 2));
+        InternshipList.add(new Internship("C", "SWE", new Date(1, 1, 2025), 3));
+        InternshipList.add(new Internship("D", "SWE", new Date(1, 1, 2025), 4));
+        int idOfD = InternshipList.getId(3);
+
+        assertEquals(2, InternshipList.deleteWhere(internship -> internship.getPay() % 2 == 1));
+
+        assertEquals(2, InternshipList.size());
+        assertEquals("B", InternshipList.get(0).getCompany());
+        assertEquals(idOfD, InternshipList.getId(1));
+        assertArrayEquals(new int[] {1}, InternshipList.findByCompany("d"));
+        assertArrayEquals(new int[] {0, 1}, InternshipList.findByStatus("pending"));
+        assertEquals(0, InternshipList.deleteWhere(internship -> false));
+    }
+
+    @Test
+    void snapshot_laterMutations_leaveSnapshotUnchanged() throws InternityException {
+        InternshipList.clear();
+        InternshipList.add(new Internship("A", "SWE", new Date(1, 1, 2025), 1));
+        InternshipList.add(new Internship("B", "SWE", new Date(1, 1, 2025), 2));
+        int idOfB = InternshipList.getId(1);
+        InternshipSnapshot before = InternshipList.snapshot();
+
+        InternshipList.updateStatus(1, "Offer");
+        InternshipList.delete(0);
+        InternshipList.add(new Internship("C", "SWE", new Date(1, 1, 2025), 3));
+        InternshipSnapshot after = InternshipList.snapshot();
+
+        assertEquals(2, before.size());
+        assertEquals("A", before.get(0).getCompany());
+        assertEquals("Pending", before.get(1).getStatus());
+        assertEquals(idOfB, before.getId(1));
+        assertEquals(2, after.size());
+        assertEquals("Offer", after.get(0).getStatus());
+        assertEquals(idOfB, after.getId(0));
+        assertEquals("C", after.asList().get(1).getCompany());
+        assertEquals("Offer", InternshipList.get(0).getStatus());
+    }
+
+    @Test
+    void snapshot_afterRestore_isBuiltFromRestoredList() throws InternityException {
+        List<Internship> restored = new ArrayList<>();
+        restored.add(new Internship("A", "SWE", new Date(1, 1, 2025), 1));
+        restored.add(new Internship("B", "SWE", new Date(1, 1, 2025), 2));
+        InternshipList.restore(restored);
+        InternshipList.updateStatusWhere(internship -> internship.getPay() == 2, "Offer");
+
+        InternshipSnapshot snapshot = InternshipList.snapshot();
+
+        assertEquals(2, snapshot.size());
+        assertEquals("Offer", snapshot.get(1).getStatus());
+        assertEquals(InternshipList.getId(1), snapshot.getId(1));
+        InternshipList.deleteWhere(internship -> internship.getPay() == 1);
+        assertEquals(1, InternshipList.snapshot().size());
+        assertEquals(2, snapshot.size());
+    }
+
+    @Test
+    void mutations_recording_emitMutationEvents() throws IOException, InternityException {
+        InternshipList.clear();
+        Path file = Files.createTempFile("internity-mutation", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("internity.ListMutation").withoutThreshold();
+            recording.start();
+            InternshipList.addAll(List.of(new Internship("A", "SWE", new Date(1, 1, 2025), 1),
+                    new Internship("B", "SWE", new Date(1, 1, 2025), 2),
+                    new Internship("C", "SWE", new Date(1, 1, 2025), 3)));
+            InternshipList.updateStatusWhere(internship -> internship.getPay() > 1, "Offer");
+            InternshipList.delete(0);
+            assertThrows(InternityException.class, () -> InternshipList.delete(5));
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            events.sort((first, second) -> first.getStartTime().compareTo(second.getStartTime()));
+            assertEquals(3, events.size());
+            assertMutation(events.get(0), "addAll", 3, 3);
+            assertMutation(events.get(1), "updateStatusWhere", 2, 3);
+            assertMutation(events.get(2), "delete", 1, 2);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void assertMutation(RecordedEvent event, String operation, int records, int size) {
+        assertEquals(operation, event.getString("operation"));
+        assertEquals(records, event.getInt("records"));
+        assertEquals(size, event.getInt("size"));
+    }
+
+    @Test
+    void updateStatusWhere_updatesMatchesAndStatusIndex() throws InternityException {
+        InternshipList.clear();
+        InternshipList.add(new Internship("A", "SWE", new Date(1, 1, 2025), 1));
+        InternshipList.add(new Internship("B", "SWE", new Date(1, 1, 2025), 2));
+        InternshipList.add(new Internship("C", "SWE", new Date(1, 1, 2025), 3));
+        InternshipList.updateStatus(2, "Offer");
+
+        assertEquals(2, InternshipList.updateStatusWhere(internship -> internship.getPay() >= 2, "Expired"));
+
+        assertArrayEquals(new int[] {0}, InternshipList.findByStatus("pending"));
+        assertArrayEquals(new int[0], InternshipList.findByStatus("offer"));
+        assertArrayEquals(new int[] {1, 2}, InternshipList.findByStatus("expired"));
+    }
+
+    @Test
+    void getStats_afterMutations_matchesRebuiltStats() throws InternityException {
+        InternshipList.clear();
+        InternshipList.add(new Internship("A", "SWE", new Date(1, 1, 2025), 100));
+        InternshipList.addAll(List.of(new Internship("B", "SWE", new Date(9, 1, 2025), 300),
+                new Internship("C", "SWE", new Date(1, 2, 2025), 500)));
+        InternshipList.updateStatus(1, "Offer");
+        InternshipList.delete(0);
+        InternshipList.updateStatusWhere(internship -> internship.getPay() == 500, "offer");
+
+        InternshipStats stats = InternshipList.getStats();
+
+        assertEquals(2, stats.getCount());
+        assertEquals(Map.of("Offer", 2), stats.getStatusCounts());
+        assertEquals(300, stats.getMinPay());
+        assertEquals(500, stats.getMaxPay());
+        assertEquals(400.0, stats.getMeanPay());
+        assertEquals(List.of("01-2025", "02-2025"), new ArrayList<>(stats.getDeadlinesPerMonth().keySet()));
+
+        InternshipList.restore(new ArrayList<>(List.of(InternshipList.get(0), InternshipList.get(1))));
+        InternshipStats rebuilt = InternshipList.getStats();
+        assertEquals(stats.getStatusCounts(), rebuilt.getStatusCounts());
+        assertEquals(stats.getPayPercentiles(), rebuilt.getPayPercentiles());
+        assertEquals(stats.getDeadlinesPerMonth(), rebuilt.getDeadlinesPerMonth());
+        InternshipList.restore(new ArrayList<>());
+    }
+
+    @Test
+    void compact_afterManyDeletes_keepsIndexesIdsAndLookups() throws InternityException {
+        InternshipList.clear();
+        for (int i = 0; i < 3000; i++) {
+            InternshipList.add(new Internship(i % 3 == 0 ? "Google" : "Meta", "SWE " + i, new Date(1, 1, 2025), i));
+        }
+        for (int i = 2999; i >= 0; i -= 2) {
+            InternshipList.delete(i);
+        }
+        int[] before = InternshipList.findByCompany("google");
+
+        InternshipList.compact();
+
+        assertEquals(1500, InternshipList.size());
+        assertArrayEquals(before, InternshipList.findByCompany("google"));
+        for (int i = 0; i < 1500; i++) {
+            assertEquals(2 * i, InternshipList.get(i).getPay());
+            assertEquals(2 * i + 1, InternshipList.getId(i));
+        }
+        assertArrayEquals(new int[] {2}, InternshipList.search(SearchQuery.parse("4")));
+    }
+
+    @Test
+    void undo_deleteWhere_restoresPositionsIdsAndIndexes() throws InternityException {
+        InternshipList.clear();
+        for (int i = 0; i < 6; i++) {
+            InternshipList.add(new Internship(i % 2 == 0 ? "Google" : "Meta", "SWE", new Date(1, 1, 2025), i));
+        }
+        int idOfFirstMeta = InternshipList.getId(1);
+        InternshipList.updateStatus(3, "Offer");
+        InternshipList.deleteWhere(internship -> internship.getCompany().equals("Meta"));
+
+        assertEquals(3, InternshipList.undo());
+
+        assertEquals(6, InternshipList.size());
+        assertEquals(idOfFirstMeta, InternshipList.getId(1));
+        assertEquals(3, InternshipList.get(3).getPay());
+        assertArrayEquals(new int[] {1, 3, 5}, InternshipList.findByCompany("meta"));
+        assertArrayEquals(new int[] {3}, InternshipList.findByStatus("offer"));
+        assertEquals(6, InternshipList.snapshot().size());
+        assertEquals(6, InternshipList.getStats().getCount());
+
+        assertEquals(1, InternshipList.undo());
+        assertArrayEquals(new int[0], InternshipList.findByStatus("offer"));
+        assertEquals(1, InternshipList.redo());
+        assertEquals(3, InternshipList.redo());
+        assertEquals(3, InternshipList.size());
+        assertThrows(InternityException.class, InternshipList::redo);
+    }
+
+    @Test
+    void undo_addAll_deletesBatchAndNewChangeForgetsRedo() throws InternityException {
+        InternshipList.clear();
+        InternshipList.add(new Internship("A", "SWE", new Date(1, 1, 2025), 1));
+        InternshipList.addAll(List.of(new Internship("B", "SWE", new Date(1, 1, 2025), 2),
+                new Internship("C", "SWE", new Date(1, 1, 2025), 3)));
+
+        assertEquals(2, InternshipList.undo());
+        assertEquals(1, InternshipList.size());
+        InternshipList.add(new Internship("D", "SWE", new Date(1, 1, 2025), 4));
+
+        assertThrows(InternityException.class, InternshipList::redo);
+        assertEquals("D", InternshipList.get(1).getCompany());
+        assertEquals(4, InternshipList.getId(1));
+        InternshipList.clear();
+        assertThrows(InternityException.class, InternshipList::undo);
+    }
+
+    @Test
+    void undo_afterCompaction_keepsDeletedInternshipsThatCanBeRestored() throws InternityException {
+        InternshipList.clear();
+        List<Internship> batch = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            batch.add(new Internship(i % 2 == 0 ? "Google" : "Meta", "SWE " + i, new Date(1, 1, 2025), i));
+        }
+        InternshipList.addAll(batch);
+        InternshipList.deleteWhere(internship -> internship.getPay() % 3 == 0);
+        InternshipList.clearUndoHistory();
+        InternshipList.deleteWhere(internship -> internship.getCompany().equals("Google"));
+
+        InternshipList.compact();
+
+        assertEquals(1000, InternshipList.size());
+        assertEquals(1000, InternshipList.undo());
+        assertEquals(2000, InternshipList.size());
+        for (int i = 0; i < 2000; i++) {
+            int pay = i / 2 * 3 + 1 + i % 2;
+            assertEquals(pay, InternshipList.get(i).getPay());
+            assertEquals(pay + 1, InternshipList.getId(i));
+        }
+        assertEquals(1000, InternshipList.findByCompany("google").length);
+        assertArrayEquals(new int[] {1999}, InternshipList.search(SearchQuery.parse("2999")));
+    }
+
+    @Test
+    void reinstateAll_droppedSlots_putsInternshipsBackWithIds() throws InternityException {
+        InternshipList.clear();
+        List<Internship> batch = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            batch.add(new Internship(i % 2 == 0 ? "Google" : "Meta", "SWE", new Date(1, 1, 2025), i));
+        }
+        InternshipList.addAll(batch);
+        int[] metaIds = {InternshipList.getId(1), InternshipList.getId(3)};
+        InternshipList.deleteWhere(internship -> internship.getCompany().equals("Meta"));
+        InternshipList.clearUndoHistory();
+        InternshipList.compact();
+
+        InternshipList.reinstateAll(new int[] {1, 3}, metaIds, List.of(batch.get(1), batch.get(3)));
+
+        assertEquals(4, InternshipList.size());
+        assertEquals(metaIds[0], InternshipList.getId(1));
+        assertEquals(3, InternshipList.get(3).getPay());
+        assertArrayEquals(new int[] {1, 3}, InternshipList.findByCompany("meta"));
+        assertEquals(2, InternshipList.undo());
+        assertEquals(2, InternshipList.size());
+    }
+
+    @Test
+    void reinstateAll_idInUseOrAtWrongIndex_throwsInternityException() throws InternityException {
+        InternshipList.clear();
+        for (int i = 0; i < 3; i++) {
+            InternshipList.add(new Internship("Google", "SWE", new Date(1, 1, 2025), i));
+        }
+        Internship deleted = InternshipList.get(1);
+        int deletedId = InternshipList.getId(1);
+        InternshipList.delete(1);
+
+        assertThrows(InternityException.class, () -> InternshipList.reinstateAll(new int[] {0},
+                new int[] {InternshipList.getId(0)}, List.of(deleted)));
+        assertThrows(InternityException.class, () -> InternshipList.reinstateAll(new int[] {0},
+                new int[] {deletedId}, List.of(deleted)));
+        assertEquals(2, InternshipList.size());
+    }
+
+    @Test
+    void setUndoEnabled_false_refusesUndoAndRedo() throws InternityException {
+        InternshipList.clear();
+        InternshipList.add(new Internship("Google", "SWE", new Date(1, 1, 2025), 1));
+        try {
+            InternshipList.setUndoEnabled(false);
+            InternshipList.add(new Internship("Meta", "SWE", new Date(1, 1, 2025), 2));
+
+            assertThrows(InternityException.class, InternshipList::undo);
+            assertThrows(InternityException.class, InternshipList::redo);
+        } finally {
+            InternshipList.setUndoEnabled(true);
+        }
+        assertEquals(2, InternshipList.size());
+        assertThrows(InternityException.class, InternshipList::undo);
+    }
+
+    @Test
+    void findMatches_laterMutations_leaveMatchesUnchanged() throws InternityException {
+        InternshipList.clear();
+        InternshipList.add(new Internship("Google", "SWE", new Date(1, 1, 2025), 1));
+        InternshipList.add(new Internship("Meta", "SWE", new Date(1, 1, 2025), 2));
+        InternshipList.add(new Internship("Google", "Data", new Date(1, 1, 2025), 3));
+
+        InternshipList.Matches matches = InternshipList.findMatches(() -> InternshipList.findByCompany("google"));
+        InternshipList.delete(0);
+
+        assertArrayEquals(new int[] {0, 2}, matches.getPositions());
+        assertEquals(1, matches.getSnapshot().get(0).getPay());
+        assertEquals(3, matches.getSnapshot().get(2).getPay());
+        assertEquals(3, matches.getSnapshot().getId(2));
+    }
 }
@@ -0,0 +1,110 @@
+package internity.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class QueryPlannerTest {
+    private static final String[] COMPANIES = {"Google", "Meta", "Shopee", "Grab"};
+    private static final String[] STATUSES = {"Pending", "Applied", "Rejected"};
+
+    private List<Internship> internships;
+    private SlotTable slots;
+    private InternshipIndex index;
+    private QueryPlanner planner;
+
+    @BeforeEach
+    void setUp() {
+        internships = new ArrayList<>();
+        slots = new SlotTable();
+        index = new InternshipIndex(internships);
+        planner = new QueryPlanner(internships, slots, index);
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            Internship internship = new Internship(COMPANIES[random.nextInt(COMPANIES.length)], "Role " + i,
+                    new Date(1 + random.nextInt(28), 1 + random.nextInt(12), 2025), random.nextInt(100) * 100);
+            internship.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+            internships.add(internship);
+            slots.append();
+            index.add(i, internship);
+        }
+        for (int slot = 0; slot < internships.size(); slot += 7) {
+            slots.delete(slot);
+        }
+    }
+
+    @Test
+    void plan_equalityConditions_looksUpSmallerEntry() throws InternityException {
+        assertEquals(QueryPlanner.Strategy.COMPANY_LOOKUP,
+                planner.plan(FilterQuery.parse("company=google AND pay>100")).strategy);
+        assertEquals(QueryPlanner.Strategy.STATUS_LOOKUP,
+                planner.plan(FilterQuery.parse("status=Applied")).strategy);
+        assertEquals(QueryPlanner.Strategy.COMPANY_LOOKUP,
+                planner.plan(FilterQuery.parse("company=nobody AND status=pending")).strategy);
+    }
+
+    @Test
+    void plan_deadlineConditions_readsNarrowestRange() throws InternityException {
+        QueryPlanner.Plan plan = planner.plan(FilterQuery.parse(
+                "deadline>=01-03-2025 AND deadline<01-06-2025 AND deadline>01-03-2025 AND deadline<=01-07-2025"));
+
+        assertEquals(QueryPlanner.Strategy.DEADLINE_RANGE, plan.strategy);
+        assertEquals("deadline range (01-03-2025, 01-06-2025)", plan.toString());
+    }
+
+    @Test
+    void plan_otherQueries_scansOrWalksDeadlines() throws InternityException {
+        assertEquals(QueryPlanner.Strategy.FULL_SCAN,
+                planner.plan(FilterQuery.parse("company=Google OR pay>100")).strategy);
+        assertEquals(QueryPlanner.Strategy.FULL_SCAN, planner.plan(FilterQuery.parse("company~goo")).strategy);
+        assertEquals(QueryPlanner.Strategy.DEADLINE_RANGE,
+                planner.plan(FilterQuery.parse("pay>100 ORDER BY deadline DESC LIMIT 3")).strategy);
+    }
+
+    @Test
+    void run_everyPlan_matchesSortedScan() throws InternityException {
+        String[] queries = {
+            "company=Google",
+            "company=google AND status=Rejected ORDER BY pay DESC LIMIT 7",
+            "status=Pending ORDER BY deadline LIMIT 10",
+            "deadline<01-04-2025 AND pay>=5000",
+            "deadline>=01-10-2025 ORDER BY deadline DESC",
+            "deadline>01-06-2025 ORDER BY pay, deadline DESC LIMIT 15",
+            "deadline=15-06-2025 OR company=Grab LIMIT 20",
+            "ORDER BY deadline LIMIT 25",
+            "ORDER BY company, pay DESC",
+            "pay<3000 ORDER BY role DESC LIMIT 4",
+            "status!=pending LIMIT 9",
+        };
+        for (String text : queries) {
+            FilterQuery query = FilterQuery.parse(text);
+            assertArrayEquals(scan(query), planner.run(query), "Query: " + text);
+        }
+    }
+
+    /**
+     * Finds the matches of {@code query} the slow way: filter every live slot, then sort and truncate.
+     */
+    private int[] scan(FilterQuery query) {
+        List<Integer> matches = new ArrayList<>();
+        for (int slot = 0; slot < internships.size(); slot++) {
+            if (slots.isLive(slot) && query.matches(internships.get(slot))) {
+                matches.add(slot);
+            }
+        }
+        if (query.getComparator() != null) {
+            Comparator<Integer> order = Comparator.comparing(internships::get, query.getComparator());
+            matches.sort(order);
+        }
+        int count = query.getLimit() == FilterQuery.NO_LIMIT ? matches.size()
+                : Math.min(query.getLimit(), matches.size());
+        return matches.subList(0, count).stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,32 @@
+package internity.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SearchQueryTest {
+    @Test
+    void parse_andBindsTighterThanOr() throws InternityException {
+        SearchQuery query = SearchQuery.parse("Google intern OR Meta AND backend");
+
+        assertEquals(List.of(List.of("google", "intern"), List.of("meta", "backend")), query.getClauses());
+    }
+
+    @Test
+    void parse_punctuatedKeyword_splitsIntoTokens() throws InternityException {
+        SearchQuery query = SearchQuery.parse("full-stack");
+
+        assertEquals(List.of(List.of("full", "stack")), query.getClauses());
+    }
+
+    @Test
+    void parse_danglingOperator_throwsException() {
+        String[] inputs = {"", "OR google", "google OR", "google AND OR meta", "---"};
+        for (String input : inputs) {
+            assertThrows(InternityException.class, () -> SearchQuery.parse(input), "Input: " + input);
+        }
+    }
+}
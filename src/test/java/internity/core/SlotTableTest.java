@@ -0,0 +1,136 @@
+package internity.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class SlotTableTest {
+
+    @Test
+    void delete_thenLookups_skipTombstones() {
+        SlotTable slots = new SlotTable();
+        for (int i = 0; i < 5; i++) {
+            slots.append();
+        }
+
+        slots.delete(1);
+        slots.delete(3);
+
+        assertEquals(3, slots.size());
+        assertEquals(4, slots.slotOf(2));
+        assertEquals(2, slots.positionOf(4));
+        assertEquals(5, slots.getId(slots.slotOf(2)));
+        assertEquals(-1, slots.slotOfId(2));
+        assertArrayEquals(new int[] {0, 1, 2}, slots.toPositions(new int[] {0, 2, 4}));
+    }
+
+    @Test
+    void compact_renumbersSlotsAndKeepsIds() {
+        SlotTable slots = new SlotTable();
+        for (int i = 0; i < 4; i++) {
+            slots.append();
+        }
+        slots.delete(0);
+        slots.delete(2);
+
+        assertArrayEquals(new int[] {-1, 0, -1, 1}, slots.compact());
+        assertEquals(0, slots.getTombstoneCount());
+        assertEquals(1, slots.slotOfId(4));
+        assertEquals(5, slots.getId(slots.slotOfId(slots.append())));
+    }
+
+    @Test
+    void revive_restoresPositionAndId() {
+        SlotTable slots = new SlotTable();
+        for (int i = 0; i < 5; i++) {
+            slots.append();
+        }
+        slots.delete(1);
+        slots.delete(3);
+
+        assertEquals(3, slots.slotOfDeletedId(4));
+        assertEquals(-1, slots.slotOfDeletedId(5));
+        slots.revive(3);
+
+        assertEquals(4, slots.size());
+        assertEquals(2, slots.positionOf(3));
+        assertEquals(3, slots.slotOfId(4));
+        assertEquals(4, slots.slotOf(3));
+    }
+
+    @Test
+    void compact_keptTombstones_canBeRevivedAfterwards() {
+        SlotTable slots = new SlotTable();
+        for (int i = 0; i < 6; i++) {
+            slots.append();
+        }
+        slots.delete(0);
+        slots.delete(2);
+        slots.delete(4);
+
+        assertArrayEquals(new int[] {-1, 0, 1, 2, -1, 3}, slots.compact(id -> id == 3));
+        assertEquals(1, slots.getTombstoneCount());
+        assertEquals(3, slots.size());
+        assertEquals(3, slots.slotOf(2));
+
+        slots.revive(slots.slotOfDeletedId(3));
+
+        assertEquals(0, slots.getTombstoneCount());
+        assertEquals(1, slots.positionOf(1));
+        assertEquals(6, slots.getId(slots.slotOf(3)));
+    }
+
+    @Test
+    void insertDeleted_droppedIds_canBeRevivedAtTheirPositions() {
+        SlotTable slots = new SlotTable();
+        for (int i = 0; i < 5; i++) {
+            slots.append();
+        }
+        slots.delete(1);
+        slots.delete(3);
+        slots.compact();
+
+        assertArrayEquals(new int[] {0, 2, 4}, slots.insertDeleted(new int[] {2, 4}));
+        assertEquals(3, slots.size());
+        assertEquals(2, slots.getTombstoneCount());
+        assertEquals(2, slots.countLiveBelow(4));
+
+        slots.revive(slots.slotOfDeletedId(4));
+
+        assertEquals(4, slots.size());
+        assertEquals(3, slots.slotOfId(4));
+        assertEquals(2, slots.positionOf(3));
+        assertEquals(5, slots.getId(slots.slotOf(3)));
+    }
+
+    @Test
+    void randomOperations_matchListOfIds() {
+        Random random = new Random(42);
+        SlotTable slots = new SlotTable();
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 5000; step++) {
+            int operation = random.nextInt(10);
+            if (operation < 6 || expected.isEmpty()) {
+                expected.add(slots.append());
+            } else if (operation < 9) {
+                int position = random.nextInt(expected.size());
+                assertEquals(position, slots.positionOf(slots.slotOf(position)));
+                slots.delete(slots.slotOf(position));
+                expected.remove(position);
+            } else {
+                slots.compact();
+            }
+            assertEquals(expected.size(), slots.size());
+        }
+        for (int position = 0; position < expected.size(); position++) {
+            int slot = slots.slotOf(position);
+            assertEquals((int) expected.get(position), slots.getId(slot));
+            assertEquals(slot, slots.slotOfId(expected.get(position)));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package internity.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+class UndoLogTest {
+
+    @Test
+    void popUndo_thenPopRedo_returnsStepsInReverseOrder() {
+        UndoLog log = new UndoLog();
+        UndoLog.Step add = UndoLog.Step.add(new int[] {1, 2});
+        UndoLog.Step update = UndoLog.Step.updateStatus(new int[] {2}, new String[] {"Pending"}, "Offer");
+        log.record(add);
+        log.record(update);
+
+        assertSame(update, log.popUndo());
+        assertSame(add, log.popUndo());
+        assertNull(log.popUndo());
+        assertSame(add, log.popRedo());
+        assertEquals(1, log.getUndoCount());
+        assertEquals(1, log.getRedoCount());
+    }
+
+    @Test
+    void record_fullRing_forgetsOldestStepAndRedoSteps() {
+        UndoLog log = new UndoLog(2);
+        log.record(UndoLog.Step.delete(new int[] {1}));
+        log.record(UndoLog.Step.delete(new int[] {2, 3}));
+        log.popUndo();
+        log.record(UndoLog.Step.add(new int[] {4}));
+        log.record(UndoLog.Step.add(new int[] {5}));
+
+        assertEquals(0, log.getRedoCount());
+        assertEquals(2, log.getUndoCount());
+        assertEquals(0, log.getRetainedCount());
+        assertEquals(5, log.popUndo().ids[0]);
+        assertEquals(4, log.popUndo().ids[0]);
+        assertNull(log.popUndo());
+    }
+
+    @Test
+    void getRetainedIds_deletesToUndoAndAddsToRedo() {
+        UndoLog log = new UndoLog();
+        log.record(UndoLog.Step.delete(new int[] {1, 3}));
+        log.record(UndoLog.Step.add(new int[] {7}));
+        log.record(UndoLog.Step.updateStatus(new int[] {4}, new String[] {"Pending"}, "Offer"));
+        log.popUndo();
+        log.popUndo();
+
+        BitSet retained = log.getRetainedIds();
+        assertEquals(3, log.getRetainedCount());
+        assertEquals(3, retained.cardinality());
+        assertTrue(retained.get(1) && retained.get(3) && retained.get(7));
+
+        log.clear();
+        assertEquals(0, log.getRetainedCount());
+        assertTrue(log.getRetainedIds().isEmpty());
+    }
+}
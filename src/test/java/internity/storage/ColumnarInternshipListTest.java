@@ -0,0 +1,93 @@
+package internity.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+class ColumnarInternshipListTest {
+    @AfterEach
+    void tearDown() {
+        InternshipList.restore(new ArrayList<>());
+    }
+
+    private static ColumnarInternshipList sampleList() {
+        Internship accepted = new Internship("Meta", "Backend Intern", new Date(15, 2, 2025), 6000);
+        accepted.setStatus("Accepted");
+        return ColumnarInternshipList.copyOf(List.of(
+                new Internship("Google", "SWE Intern", new Date(1, 1, 2025), 5000),
+                accepted,
+                new Internship("Google", "Data Intern", new Date(3, 3, 2025), 4000)));
+    }
+
+    @Test
+    void copyOf_list_readsEveryField() {
+        ColumnarInternshipList list = sampleList();
+
+        assertEquals(3, list.size());
+        assertEquals("Meta", list.get(1).getCompany());
+        assertEquals("Backend Intern", list.get(1).getRole());
+        assertEquals("15-02-2025", list.get(1).getDeadline().toString());
+        assertEquals(6000, list.get(1).getPay());
+        assertEquals("Accepted", list.get(1).getStatus());
+    }
+
+    @Test
+    void columns_repeatedStatus_shareCode() {
+        ColumnarInternshipList list = sampleList();
+
+        int pending = list.findStatusCode("Pending");
+        assertEquals(pending, list.getStatusCode(0));
+        assertEquals(pending, list.getStatusCode(2));
+        assertEquals("Accepted", list.getStatus(list.getStatusCode(1)));
+        assertEquals(-1, list.findStatusCode("Rejected"));
+        assertEquals(20250303, list.getPackedDeadline(2));
+        assertEquals(4000, list.getPay(2));
+    }
+
+    @Test
+    void remove_middleRow_shiftsLaterRows() {
+        ColumnarInternshipList list = sampleList();
+
+        assertEquals("Meta", list.remove(1).getCompany());
+
+        assertEquals(2, list.size());
+        assertEquals("Data Intern", list.get(1).getRole());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+    }
+
+    @Test
+    void add_nullAndManyRows_growsColumns() {
+        ColumnarInternshipList list = new ColumnarInternshipList();
+        list.add(null);
+        for (int i = 0; i < 100; i++) {
+            list.add(new Internship("Company" + i, "Role", new Date(1, 1, 2025), i));
+        }
+
+        assertNull(list.get(0));
+        assertEquals(101, list.size());
+        assertEquals("Company99", list.get(100).getCompany());
+        assertEquals(99, list.getPay(100));
+    }
+
+    @Test
+    void updateStatus_columnarBacking_writesBackChange() throws InternityException {
+        InternshipList.restore(sampleList());
+
+        InternshipList.updateStatus(0, "Rejected");
+
+        assertEquals("Rejected", InternshipList.get(0).getStatus());
+        assertArrayEquals(new int[] {0}, InternshipList.findByStatus("rejected"));
+    }
+}
@@ -0,0 +1,362 @@
+package internity.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+import internity.core.InternshipList;
+
+class InternshipJournalTest {
+    private Path dataDirectory;
+    private InternshipJournal journal;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        InternshipList.clear();
+        dataDirectory = Files.createTempDirectory("internity-journal");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException, InternityException {
+        if (journal != null) {
+            journal.close();
+        }
+        InternshipList.clear();
+        try (Stream<Path> paths = Files.walk(dataDirectory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    void open_afterMutations_replaysSameList() throws InternityException {
+        journal = new InternshipJournal(dataDirectory);
+        journal.open();
+        InternshipList.add(new Internship("Google", "SWE Intern", new Date(1, 1, 2025), 5000));
+        InternshipList.add(new Internship("Meta", "Backend Intern", new Date(15, 2, 2025), 6000));
+        InternshipList.updateStatus(0, "Accepted");
+        InternshipList.delete(1);
+        journal.close();
+
+        InternshipList.clear();
+        reopen(new InternshipJournal(dataDirectory));
+
+        assertEquals(1, InternshipList.size());
+        assertEquals("Google", InternshipList.get(0).getCompany());
+        assertEquals("Accepted", InternshipList.get(0).getStatus());
+        assertEquals("01-01-2025", InternshipList.get(0).getDeadline().toString());
+    }
+
+    @Test
+    void compact_manyEntries_restoresListFromSnapshot() throws InternityException {
+        journal = new InternshipJournal(dataDirectory, 2);
+        journal.open();
+        for (int i = 0; i < 5; i++) {
+            InternshipList.add(new Internship("Company " + i, "Role", new Date(1, 1, 2025), i));
+        }
+        journal.close();
+        assertTrue(Files.exists(InternshipJournal.snapshotPath(dataDirectory, 1)));
+
+        InternshipList.clear();
+        reopen(new InternshipJournal(dataDirectory, 2));
+
+        assertEquals(5, InternshipList.size());
+        assertEquals("Company 4", InternshipList.get(4).getCompany());
+        assertEquals(4, InternshipList.get(4).getPay());
+    }
+
+    @Test
+    void addAll_largeBatch_foldedIntoSnapshot() throws InternityException {
+        journal = new InternshipJournal(dataDirectory, 2);
+        journal.open();
+        InternshipList.addAll(List.of(
+                new Internship("Google", "SWE Intern", new Date(1, 1, 2025), 5000),
+                new Internship("Meta", "Backend Intern", new Date(15, 2, 2025), 6000),
+                new Internship("Grab", "Data Intern", new Date(3, 3, 2025), 4000)));
+        journal.close();
+        assertTrue(Files.exists(InternshipJournal.snapshotPath(dataDirectory, 1)));
+
+        InternshipList.clear();
+        reopen(new InternshipJournal(dataDirectory, 2));
+
+        assertEquals(3, InternshipList.size());
+        assertEquals("Grab", InternshipList.get(2).getCompany());
+    }
+
+    @Test
+    void compact_twice_keepsOnlyNewestSnapshot() throws InternityException {
+        journal = new InternshipJournal(dataDirectory);
+        journal.open();
+        InternshipList.add(new Internship("Google", "SWE Intern", new Date(1, 1, 2025), 5000));
+        journal.compact();
+        InternshipList.updateStatus(0, "Offer");
+        journal.compact();
+        journal.close();
+
+        assertFalse(Files.exists(InternshipJournal.snapshotPath(dataDirectory, 1)));
+        assertTrue(Files.exists(InternshipJournal.snapshotPath(dataDirectory, 2)));
+
+        InternshipList.clear();
+        reopen(new InternshipJournal(dataDirectory));
+        assertEquals("Offer", InternshipList.get(0).getStatus());
+    }
+
+    @Test
+    void open_specialCharactersInFields_roundTrips() throws InternityException {
+        journal = new InternshipJournal(dataDirectory);
+        journal.open();
+        InternshipList.add(new Internship("Tab\tCo \\ Ltd", "Line\nBreak", new Date(29, 2, 2024), 1));
+        journal.close();
+
+        InternshipList.clear();
+        reopen(new InternshipJournal(dataDirectory));
+
+        assertEquals("Tab\tCo \\ Ltd", InternshipList.get(0).getCompany());
+        assertEquals("Line\nBreak", InternshipList.get(0).getRole());
+    }
+
+    @Test
+    void open_tornFinalEntry_discardsOnlyThatEntry() throws IOException, InternityException {
+        Files.writeString(dataDirectory.resolve(InternshipJournal.JOURNAL_FILE),
+                "#generation 0\nA\tGoogle\tSWE\t01-01-2025\t100\tPending\nA\tMeta\tSW");
+
+        reopen(new InternshipJournal(dataDirectory));
+
+        assertEquals(1, InternshipList.size());
+        assertEquals("Google", InternshipList.get(0).getCompany());
+    }
+
+    @Test
+    void open_finalEntryWithoutLineBreak_discardsItEvenIfItParses() throws IOException, InternityException {
+        Files.writeString(dataDirectory.resolve(InternshipJournal.JOURNAL_FILE),
+                "#generation 0\nA\tGoogle\tSWE\t01-01-2025\t100\tPending\nA\tMeta\tSWE\t01-01-2025\t100\tPending\n"
+                        + "D\t1");
+
+        reopen(new InternshipJournal(dataDirectory));
+
+        assertEquals(2, InternshipList.size());
+    }
+
+    @Test
+    void open_finalEntryWithWrongChecksum_discardsIt() throws IOException, InternityException {
+        journal = new InternshipJournal(dataDirectory);
+        journal.open();
+        InternshipList.add(new Internship("Google", "SWE", new Date(1, 1, 2025), 100));
+        InternshipList.updateStatus(0, "Pending");
+        journal.close();
+        Path journalFile = dataDirectory.resolve(InternshipJournal.JOURNAL_FILE);
+        List<String> lines = Files.readAllLines(journalFile);
+        lines.set(2, lines.get(2).replace("Pending", "Pend"));
+        Files.write(journalFile, lines);
+
+        InternshipList.clear();
+        reopen(new InternshipJournal(dataDirectory));
+
+        assertEquals(1, InternshipList.size());
+        assertEquals("Pending", InternshipList.get(0).getStatus());
+    }
+
+    @Test
+    void open_entryWithWrongChecksumBeforeOthers_throwsException() throws IOException, InternityException {
+        journal = new InternshipJournal(dataDirectory);
+        journal.open();
+        InternshipList.add(new Internship("Google", "SWE", new Date(1, 1, 2025), 100));
+        InternshipList.add(new Internship("Meta", "SWE", new Date(1, 1, 2025), 100));
+        journal.close();
+        Path journalFile = dataDirectory.resolve(InternshipJournal.JOURNAL_FILE);
+        List<String> lines = Files.readAllLines(journalFile);
+        lines.set(1, lines.get(1).replace("Google", "Googlf"));
+        Files.write(journalFile, lines);
+
+        InternshipList.clear();
+        assertThrows(InternityException.class, () -> new InternshipJournal(dataDirectory).open());
+    }
+
+    @Test
+    void open_afterBulkChanges_replaysSameList() throws InternityException {
+        journal = new InternshipJournal(dataDirectory);
+        journal.open();
+        for (int i = 0; i < 6; i++) {
+            InternshipList.add(new Internship("Company " + i, "SWE", new Date(1, 1, 2025), i));
+        }
+        InternshipList.updateStatusWhere(internship -> internship.getPay() >= 3, "Expired");
+        InternshipList.deleteWhere(internship -> internship.getPay() % 2 == 0);
+        journal.close();
+
+        InternshipList.clear();
+        reopen(new InternshipJournal(dataDirectory));
+
+        assertEquals(3, InternshipList.size());
+        assertEquals("Company 1", InternshipList.get(0).getCompany());
+        assertEquals("Pending", InternshipList.get(0).getStatus());
+        assertEquals("Company 3", InternshipList.get(1).getCompany());
+        assertEquals("Expired", InternshipList.get(1).getStatus());
+        assertEquals("Company 5", InternshipList.get(2).getCompany());
+    }
+
+    @Test
+    void open_corruptedEntry_throwsException() throws IOException {
+        Files.writeString(dataDirectory.resolve(InternshipJournal.JOURNAL_FILE),
+                "#generation 0\nX\tgarbage\nA\tGoogle\tSWE\t01-01-2025\t100\tPending\n");
+
+        assertThrows(InternityException.class, () -> new InternshipJournal(dataDirectory).open());
+        assertEquals(0, InternshipList.size());
+    }
+
+    @Test
+    void mutations_withinCommitWindow_areForcedTogether() throws InternityException, IOException {
+        journal = new InternshipJournal(dataDirectory, 1_000_000, Duration.ofHours(1));
+        journal.open();
+        for (int i = 0; i < 1000; i++) {
+            InternshipList.add(new Internship("Company " + i, "SWE", new Date(1, 1, 2025), i));
+        }
+        InternshipList.updateStatusWhere(internship -> internship.getPay() % 2 == 0, "Applied");
+        assertEquals(0, journal.getCommitCount());
+
+        InternshipJournal.syncOpenJournals();
+        InternshipJournal.syncOpenJournals();
+
+        assertEquals(1, journal.getCommitCount());
+        List<String> lines = Files.readAllLines(dataDirectory.resolve(InternshipJournal.JOURNAL_FILE));
+        assertEquals(1 + 1000 + 500, lines.size());
+    }
+
+    @Test
+    void mutation_commitWindowEnds_isForcedInBackground() throws InternityException, InterruptedException {
+        journal = new InternshipJournal(dataDirectory, 1_000_000, Duration.ofMillis(10));
+        journal.open();
+        InternshipList.add(new Internship("Google", "SWE Intern", new Date(1, 1, 2025), 5000));
+
+        for (int i = 0; i < 500 && journal.getCommitCount() == 0; i++) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(1, journal.getCommitCount());
+    }
+
+    @Test
+    void undo_deleteAndUpdate_replaysUndoneList() throws InternityException {
+        journal = new InternshipJournal(dataDirectory);
+        journal.open();
+        InternshipList.add(new Internship("Google", "SWE Intern", new Date(1, 1, 2025), 5000));
+        InternshipList.add(new Internship("Meta", "Backend Intern", new Date(15, 2, 2025), 6000));
+        InternshipList.add(new Internship("Grab", "Data Intern", new Date(3, 3, 2025), 4000));
+        InternshipList.deleteWhere(internship -> internship.getPay() >= 5000);
+        InternshipList.updateStatus(0, "Offer");
+        InternshipList.undo();
+        InternshipList.undo();
+        journal.close();
+
+        InternshipList.clear();
+        reopen(new InternshipJournal(dataDirectory));
+
+        assertEquals(3, InternshipList.size());
+        assertEquals("Meta", InternshipList.get(1).getCompany());
+        assertEquals("Pending", InternshipList.get(2).getStatus());
+        assertThrows(InternityException.class, InternshipList::undo);
+    }
+
+    @Test
+    void undo_delete_journalsReinstatedInternshipsWithoutSnapshot() throws InternityException, IOException {
+        journal = new InternshipJournal(dataDirectory);
+        journal.open();
+        for (int i = 0; i < 4; i++) {
+            InternshipList.add(new Internship(i % 2 == 0 ? "Google" : "Meta", "Role", new Date(1, 1, 2025), i));
+        }
+        InternshipList.deleteWhere(internship -> internship.getCompany().equals("Meta"));
+        InternshipList.undo();
+        journal.close();
+
+        assertFalse(Files.exists(InternshipJournal.snapshotPath(dataDirectory, 1)));
+        assertEquals(2, Files.readAllLines(dataDirectory.resolve(InternshipJournal.JOURNAL_FILE)).stream()
+                .filter(line -> line.contains("\tR\t2\t")).count());
+        InternshipList.clear();
+        reopen(new InternshipJournal(dataDirectory));
+
+        assertEquals(4, InternshipList.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, InternshipList.get(i).getPay());
+            assertEquals(i + 1, InternshipList.getId(i));
+        }
+    }
+
+    @Test
+    void open_reinstatedAfterSnapshot_putsDroppedInternshipsBack() throws InternityException {
+        journal = new InternshipJournal(dataDirectory);
+        journal.open();
+        for (int i = 0; i < 4; i++) {
+            InternshipList.add(new Internship("Company " + i, "Role", new Date(1, 1, 2025), i));
+        }
+        InternshipList.deleteWhere(internship -> internship.getPay() % 2 == 1);
+        journal.compact();
+        InternshipList.undo();
+        journal.close();
+
+        InternshipList.clear();
+        reopen(new InternshipJournal(dataDirectory));
+
+        assertEquals(4, InternshipList.size());
+        assertEquals("Company 1", InternshipList.get(1).getCompany());
+        assertEquals(4, InternshipList.getId(3));
+        assertEquals(5, InternshipList.getNextId());
+    }
+
+    @Test
+    void open_afterDeletes_keepsIdsFromJournalAndSnapshot() throws InternityException {
+        journal = new InternshipJournal(dataDirectory);
+        journal.open();
+        for (int i = 0; i < 4; i++) {
+            InternshipList.add(new Internship("Company " + i, "Role", new Date(1, 1, 2025), i));
+        }
+        InternshipList.deleteById(1);
+        InternshipList.deleteById(4);
+        journal.close();
+
+        InternshipList.clear();
+        reopen(new InternshipJournal(dataDirectory));
+        assertEquals(2, InternshipList.getId(0));
+        assertEquals(3, InternshipList.getId(1));
+        journal.compact();
+        journal.close();
+
+        InternshipList.clear();
+        reopen(new InternshipJournal(dataDirectory));
+        assertEquals(3, InternshipList.getId(1));
+        assertEquals(5, InternshipList.getNextId());
+        InternshipList.add(new Internship("Company 4", "Role", new Date(1, 1, 2025), 4));
+        assertEquals(5, InternshipList.getId(2));
+    }
+
+    @Test
+    void open_entriesWithoutIds_numbersThemInOrder() throws IOException, InternityException {
+        Files.createDirectories(dataDirectory);
+        Files.writeString(dataDirectory.resolve(InternshipJournal.JOURNAL_FILE),
+                "#generation 0\nA\tGoogle\tSWE\t01-01-2025\t1\tPending\nA\tMeta\tSWE\t01-01-2025\t2\tPending\n"
+                        + "D\t0\n");
+
+        reopen(new InternshipJournal(dataDirectory));
+
+        assertEquals(1, InternshipList.size());
+        assertEquals(2, InternshipList.getId(0));
+    }
+
+    private void reopen(InternshipJournal reopened) throws InternityException {
+        journal = reopened;
+        journal.open();
+    }
+}
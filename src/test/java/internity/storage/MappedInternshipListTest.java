@@ -0,0 +1,101 @@
+package internity.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import internity.core.Date;
+import internity.core.InternityException;
+import internity.core.Internship;
+
+class MappedInternshipListTest {
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempFile("internity", ".snapshot");
+        Internship accepted = new Internship("Meta", "Backend Intern", new Date(15, 2, 2025), 6000);
+        accepted.setStatus("Accepted");
+        BinaryInternshipStore.write(file, 7, List.of(
+                new Internship("Google", "SWE Intern", new Date(1, 1, 2025), 5000),
+                accepted,
+                new Internship("Caf\u00e9 \u00dcn\u00efcode", "Barista", new Date(29, 2, 2024), 0)));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    void open_writtenStore_readsEveryField() throws IOException, InternityException {
+        MappedInternshipList list = MappedInternshipList.open(file);
+
+        assertEquals(7, list.getGeneration());
+        assertEquals(3, list.size());
+        assertEquals("Meta", list.get(1).getCompany());
+        assertEquals("Backend Intern", list.get(1).getRole());
+        assertEquals("15-02-2025", list.get(1).getDeadline().toString());
+        assertEquals(6000, list.get(1).getPay());
+        assertEquals("Accepted", list.get(1).getStatus());
+        assertEquals("Caf\u00e9 \u00dcn\u00efcode", list.get(2).getCompany());
+    }
+
+    @Test
+    void get_sameIndexTwice_returnsSameDecodedObject() throws IOException, InternityException {
+        MappedInternshipList list = MappedInternshipList.open(file);
+
+        Internship first = list.get(0);
+        first.setStatus("Rejected");
+
+        assertSame(first, list.get(0));
+        assertEquals("Rejected", list.get(0).getStatus());
+    }
+
+    @Test
+    void removeAndAdd_mixedRecords_keepsListOrder() throws IOException, InternityException {
+        MappedInternshipList list = MappedInternshipList.open(file);
+        list.add(new Internship("Amazon", "Frontend Intern", new Date(20, 3, 2025), 4500));
+
+        assertEquals("Meta", list.remove(1).getCompany());
+        assertEquals("Amazon", list.remove(2).getCompany());
+
+        assertEquals(2, list.size());
+        assertEquals("Google", list.get(0).getCompany());
+        assertEquals("Caf\u00e9 \u00dcn\u00efcode", list.get(1).getCompany());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+    }
+
+    @Test
+    void open_storeWrittenWithIds_readsIdsAndNextId() throws IOException, InternityException {
+        int[] ids = {3, 8, 9};
+        Path withIds = Files.createTempFile("internity", ".snapshot");
+        BinaryInternshipStore.write(withIds, 2, MappedInternshipList.open(file), i -> ids[i], 12);
+
+        MappedInternshipList list = MappedInternshipList.open(withIds);
+
+        assertArrayEquals(ids, list.getIds());
+        assertEquals(12, list.getNextId());
+        assertEquals("Barista", list.get(2).getRole());
+        list.remove(0);
+        assertArrayEquals(new int[] {8, 9}, list.getIds());
+        Files.deleteIfExists(withIds);
+    }
+
+    @Test
+    void open_notAStore_throwsException() throws IOException {
+        Files.writeString(file, "definitely not a snapshot of internships");
+
+        assertThrows(InternityException.class, () -> MappedInternshipList.open(file));
+    }
+}
@@ -0,0 +1,34 @@
+package internity.storage;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import internity.commands.CommandMetrics;
+import internity.commands.StatsCommand;
+
+class MetricsFileWriterTest {
+    @Test
+    void stop_writesFinalDumpWithoutTemporaryFile() throws IOException {
+        Path directory = Files.createTempDirectory("internity-metrics");
+        Path file = directory.resolve("internity.prom");
+        CommandMetrics.reset();
+        MetricsFileWriter writer = new MetricsFileWriter(file, 3600);
+        writer.start();
+
+        CommandMetrics.record(new StatsCommand(), 1_000, 1_000, false);
+        writer.stop();
+
+        String text = Files.readString(file);
+        assertTrue(text.contains("internity_commands_total{command=\"stats\"} 1"));
+        assertFalse(Files.exists(directory.resolve("internity.prom.tmp")));
+        Files.delete(file);
+        Files.delete(directory);
+        CommandMetrics.reset();
+    }
+}
@@ -0,0 +1,95 @@
+package internity.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SessionOutputTest {
+    private PrintStream originalOut;
+
+    @BeforeEach
+    void setUp() {
+        originalOut = SessionOutput.install(StandardCharsets.UTF_8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Test
+    void println_eachThread_writesToItsOwnTarget() throws InterruptedException {
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+
+        Thread firstThread = new Thread(() -> printTo(first, "first"));
+        Thread secondThread = new Thread(() -> printTo(second, "second"));
+        firstThread.start();
+        secondThread.start();
+        firstThread.join();
+        secondThread.join();
+
+        assertEquals("first" + System.lineSeparator(), first.toString(StandardCharsets.UTF_8));
+        assertEquals("second" + System.lineSeparator(), second.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void println_targetBlocked_otherThreadsStillPrint() throws InterruptedException {
+        CountDownLatch isWriting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        OutputStream blocked = new OutputStream() {
+            @Override
+            public void write(int b) {
+                waitForRelease();
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) {
+                waitForRelease();
+            }
+
+            private void waitForRelease() {
+                isWriting.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        Thread stuck = new Thread(() -> printTo(blocked, "stuck"));
+        stuck.start();
+        assertTrue(isWriting.await(5, TimeUnit.SECONDS));
+
+        ByteArrayOutputStream free = new ByteArrayOutputStream();
+        Thread other = new Thread(() -> printTo(free, "free"));
+        other.start();
+        other.join(TimeUnit.SECONDS.toMillis(5));
+        boolean isOtherDone = !other.isAlive();
+        release.countDown();
+        stuck.join();
+
+        assertTrue(isOtherDone);
+        assertEquals("free" + System.lineSeparator(), free.toString(StandardCharsets.UTF_8));
+    }
+
+    private static void printTo(OutputStream target, String text) {
+        SessionOutput.setForCurrentThread(target);
+        try {
+            System.out.println(text);
+            System.out.flush();
+        } finally {
+            SessionOutput.clearForCurrentThread();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package internity.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import internity.core.Date;
+import internity.core.Internship;
+
+class TableRendererTest {
+    private static final String ROW_FORMAT = "%-5d %-5s %-15s %-15s %-15s %-10d %-10s%n";
+
+    @Test
+    void render_matchesPrintfLayout() {
+        Internship longNames = new Internship("Speedwagon Foundation", "Full Stack Engineer",
+                new Date(1, 1, 2090), 1234567890);
+        longNames.setStatus("No response at all");
+        List<Internship> internships = List.of(
+                new Internship("Google", "Janitor", new Date(10, 10, 2025), 100),
+                longNames);
+
+        String expected = String.format("%-5s %-5s %-15s %-15s %-15s %-10s %-10s%n",
+                "No.", "ID", "Company", "Role", "Deadline", "Pay", "Status")
+                + Ui.LINE
+                + String.format(ROW_FORMAT, 1, "#11", "Google", "Janitor", "10-10-2025", 100, "Pending")
+                + String.format(ROW_FORMAT, 2, "#12", "Speedwagon Foundation", "Full Stack Engineer", "01-01-2090",
+                        1234567890, "No response at all");
+
+        assertEquals(expected, render(internships, 0, 2));
+    }
+
+    @Test
+    void render_rangeLargerThanChunk_numbersRowsFromRangeStart() {
+        List<Internship> internships = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            internships.add(new Internship("Company" + i, "Role", new Date(1, 2, 2026), i));
+        }
+
+        String output = render(internships, 4000, 5000);
+
+        String[] lines = output.split(System.lineSeparator());
+        assertEquals(1 + 1 + 1000, lines.length);
+        assertEquals(String.format("%-5d %-5s %-15s %-15s %-15s %-10d %-10s", 4001, "#4011", "Company4000", "Role",
+                "01-02-2026", 4000, "Pending"), lines[2]);
+    }
+
+    @Test
+    void render_recording_emitsRenderEventWithRowsAndCharacters() throws IOException {
+        List<Internship> internships = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            internships.add(new Internship("Company" + i, "Role", new Date(1, 1, 2030), i));
+        }
+        Path file = Files.createTempFile("internity-render", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("internity.TableRender").withoutThreshold();
+            recording.start();
+            String output = render(internships, 500, 3000);
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertEquals(1, events.size());
+            assertEquals(2500, events.get(0).getInt("rows"));
+            assertEquals(output.length(), events.get(0).getLong("charactersWritten"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static String render(List<Internship> internships, int fromIndex, int toIndex) {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        TableRenderer.render(internships, index -> index + 11, fromIndex, toIndex, new PrintStream(outContent));
+        return outContent.toString();
+    }
+}
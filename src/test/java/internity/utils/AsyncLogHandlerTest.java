@@ -0,0 +1,105 @@
+package internity.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+
+class AsyncLogHandlerTest {
+    /**
+     * Collects published records, optionally blocking on the first one until released.
+     */
+    private static class CollectingHandler extends Handler {
+        final List<LogRecord> records = new CopyOnWriteArrayList<>();
+        final CountDownLatch received = new CountDownLatch(1);
+        final CountDownLatch release;
+
+        CollectingHandler(boolean isBlocking) {
+            release = new CountDownLatch(isBlocking ? 1 : 0);
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+            received.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static LogRecord record(Level level, String message) {
+        LogRecord record = new LogRecord(level, message);
+        record.setLoggerName("internity.Test");
+        return record;
+    }
+
+    @Test
+    void publish_thenFlush_publishesEveryRecordInOrder() {
+        CollectingHandler target = new CollectingHandler(false);
+        AsyncLogHandler handler = new AsyncLogHandler(target, 256);
+        for (int i = 0; i < 100; i++) {
+            handler.publish(record(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(100, target.records.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("message " + i, target.records.get(i).getMessage());
+        }
+        assertEquals("internity.Test", target.records.get(0).getSourceClassName());
+        handler.close();
+    }
+
+    @Test
+    void publish_bufferFilling_samplesThenDropsAndReportsDrops() throws InterruptedException {
+        CollectingHandler target = new CollectingHandler(true);
+        AsyncLogHandler handler = new AsyncLogHandler(target, 8);
+        handler.publish(record(Level.INFO, "first"));
+        assertTrue(target.received.await(5, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 4; i++) {
+            handler.publish(record(Level.INFO, "info " + i));
+        }
+        // More than half full: this one is not among the sampled records.
+        handler.publish(record(Level.INFO, "sampled out"));
+        for (int i = 0; i < 5; i++) {
+            handler.publish(record(Level.WARNING, "warning " + i));
+        }
+        assertEquals(2, handler.getDroppedCount());
+
+        target.release.countDown();
+        handler.close();
+
+        assertEquals(10, target.records.size());
+        assertEquals("info 3", target.records.get(4).getMessage());
+        assertEquals("warning 3", target.records.get(8).getMessage());
+        LogRecord report = target.records.get(9);
+        assertEquals(Level.WARNING, report.getLevel());
+        assertEquals("Dropped 2 log record(s) while logging was falling behind", report.getMessage());
+    }
+
+    @Test
+    void constructor_capacityNotPowerOfTwo_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncLogHandler(new CollectingHandler(false), 12));
+    }
+}
@@ -2,6 +2,7 @@ package internity.utils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -107,4 +108,24 @@ class DateFormatterTest {
             );
         }
     }
+
+    @Test
+    void parse_surroundingWhitespace_ignored() throws InternityException {
+        assertEquals(new Date(1, 12, 2025), DateFormatter.parse("  01-12-2025\t"));
+    }
+
+    @Test
+    void parse_sameTextTwice_returnsSameDate() throws InternityException {
+        assertSame(DateFormatter.parse("17-09-2025"), DateFormatter.parse("17-09-2025"));
+    }
+
+    @Test
+    void parse_wrongLengthOrSeparators_throwsException() {
+        String[] inputs = {"1-12-2025", "01-12-25", "01/12/2025", "01-12-20255", "+1-12-2025"};
+        for (String input : inputs) {
+            InternityException thrown = assertThrows(InternityException.class, () -> DateFormatter.parse(input),
+                    "Expected parse() to throw for input: " + input);
+            assertEquals("Invalid date format. Expected dd-MM-yyyy (e.g. 08-10-2025)", thrown.getMessage());
+        }
+    }
 }
@@ -0,0 +1,56 @@
+package internity.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+    @Test
+    void quantile_wideRange_withinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        for (double quantile : new double[] {0.5, 0.9, 0.99}) {
+            long expected = (long) (quantile * 100_000) * 1_000;
+            long estimate = histogram.quantile(quantile);
+            assertTrue(estimate >= expected && estimate <= expected * 1.04,
+                    "Quantile " + quantile + ": " + estimate + " vs " + expected);
+        }
+        assertEquals(100_000_000, histogram.quantile(1));
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000_000, histogram.getMax());
+    }
+
+    @Test
+    void countAtMost_smallValues_exact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(3);
+        histogram.record(31);
+        histogram.record(1_000_000);
+
+        assertEquals(1, histogram.countAtMost(0));
+        assertEquals(2, histogram.countAtMost(30));
+        assertEquals(3, histogram.countAtMost(31));
+        assertEquals(3, histogram.countAtMost(900_000));
+        assertEquals(4, histogram.countAtMost(Long.MAX_VALUE));
+        assertEquals(1_000_034, histogram.getSum());
+    }
+
+    @Test
+    void record_hugeValue_countedInLastBucket() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(Long.MAX_VALUE, histogram.quantile(0.5));
+        assertEquals(0, histogram.countAtMost(Long.MAX_VALUE - 1));
+    }
+
+    @Test
+    void quantile_empty_returnsZero() {
+        assertEquals(0, new LatencyHistogram().quantile(0.99));
+    }
+}
@@ -0,0 +1,101 @@
+package internity.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class PersistentVectorTest {
+    private static <T> List<T> toList(PersistentVector<T> vector) {
+        List<T> values = new ArrayList<>();
+        vector.forEach(values::add);
+        return values;
+    }
+
+    @Test
+    void updates_leaveEarlierVersionsUnchanged() {
+        PersistentVector<String> first = PersistentVector.<String>empty().append("a").append("b").append("c");
+        PersistentVector<String> second = first.set(1, "B").remove(0).append("d");
+
+        assertEquals(List.of("a", "b", "c"), toList(first));
+        assertEquals(List.of("B", "c", "d"), toList(second));
+        assertEquals("d", second.get(2));
+        assertTrue(PersistentVector.empty().isEmpty());
+    }
+
+    @Test
+    void randomOperations_matchArrayList() {
+        Random random = new Random(7);
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 20_000; step++) {
+            int operation = random.nextInt(10);
+            if (operation < 4) {
+                vector = vector.append(step);
+                expected.add(step);
+            } else if (operation < 5) {
+                List<Integer> batch = new ArrayList<>();
+                for (int i = random.nextInt(50); i > 0; i--) {
+                    batch.add(-i);
+                }
+                vector = vector.appendAll(batch);
+                expected.addAll(batch);
+            } else if (operation < 8 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                vector = vector.remove(index);
+                expected.remove(index);
+            } else if (!expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                vector = vector.set(index, step);
+                expected.set(index, step);
+            }
+            assertEquals(expected.size(), vector.size());
+        }
+        assertEquals(expected, toList(vector));
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), vector.get(i));
+        }
+    }
+
+    @Test
+    void insert_randomPositions_matchesArrayList() {
+        Random random = new Random(11);
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 5000; step++) {
+            int index = random.nextInt(expected.size() + 1);
+            vector = vector.insert(index, step);
+            expected.add(index, step);
+        }
+        assertEquals(expected, toList(vector));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentVector.empty().insert(1, "a"));
+    }
+
+    @Test
+    void of_largeList_keepsOrder() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            values.add(i);
+        }
+        PersistentVector<Integer> vector = PersistentVector.of(values).appendAll(values);
+
+        assertEquals(200_000, vector.size());
+        assertEquals(99_999, (int) vector.get(99_999));
+        assertEquals(0, (int) vector.get(100_000));
+        assertEquals(values, toList(vector.remove(100_000)).subList(0, 100_000));
+    }
+
+    @Test
+    void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentVector<String> vector = PersistentVector.<String>empty().append("a");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.remove(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.set(1, "b"));
+    }
+}
@@ -0,0 +1,69 @@
+package internity.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class QuantileSketchTest {
+    @Test
+    void quantile_randomValues_withinRelativeAccuracy() {
+        Random random = new Random(7);
+        int[] values = new int[10_000];
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(1_000_000);
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double quantile : new double[] {0, 0.25, 0.5, 0.9, 0.99, 1}) {
+            long expected = values[(int) (quantile * (values.length - 1))];
+            long estimate = sketch.quantile(quantile);
+            assertTrue(Math.abs(estimate - expected) <= expected * QuantileSketch.DEFAULT_RELATIVE_ACCURACY + 1,
+                    "Quantile " + quantile + ": " + estimate + " vs " + expected);
+        }
+    }
+
+    @Test
+    void remove_afterAdd_forgetsValue() {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.add(0);
+        sketch.add(100);
+        sketch.add(5000);
+
+        sketch.remove(5000);
+        sketch.remove(0);
+
+        assertEquals(1, sketch.getCount());
+        assertEquals(100, sketch.quantile(1));
+    }
+
+    @Test
+    void merge_twoSketches_equalsSketchOfAllValues() {
+        QuantileSketch first = new QuantileSketch();
+        QuantileSketch second = new QuantileSketch();
+        QuantileSketch all = new QuantileSketch();
+        for (int value = 0; value < 2000; value++) {
+            (value % 3 == 0 ? first : second).add(value * 7);
+            all.add(value * 7);
+        }
+
+        first.merge(second);
+
+        assertEquals(all.getCount(), first.getCount());
+        for (double quantile : new double[] {0, 0.1, 0.5, 0.75, 1}) {
+            assertEquals(all.quantile(quantile), first.quantile(quantile));
+        }
+        assertThrows(IllegalArgumentException.class, () -> first.merge(new QuantileSketch(0.05)));
+    }
+
+    @Test
+    void quantile_emptySketch_returnsZero() {
+        assertEquals(0, new QuantileSketch().quantile(0.5));
+    }
+}
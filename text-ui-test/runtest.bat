@@ -12,6 +12,9 @@ for /f "tokens=*" %%a in (
     set jarloc=%%a
 )
 
+rem start from an empty tracker so earlier runs do not leak saved internships into the output
+if exist data rmdir /s /q data
+
 java -jar %jarloc% < ..\..\text-ui-test\input.txt > ..\..\text-ui-test\ACTUAL.TXT
 
 cd ..\..\text-ui-test